@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.index
+
+import java.util.TreeMap
+import java.util.TreeSet
+import javax.annotation.processing.AbstractProcessor
+import javax.annotation.processing.RoundEnvironment
+import javax.annotation.processing.SupportedAnnotationTypes
+import javax.lang.model.SourceVersion
+import javax.lang.model.element.Element
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.ExecutableElement
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.ArrayType
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeMirror
+import javax.tools.Diagnostic
+import javax.tools.StandardLocation
+
+/**
+ * Annotation processor that writes an index of the classes that use DGS annotations to
+ * `META-INF/dgs-components.properties`, so the framework doesn't have to scan each of their members at startup.
+ *
+ * Each compiled class that is annotated with a DGS annotation, or has members annotated with one, is listed with
+ * those members, including the ones it inherits: methods with the binary names of their erased parameter types, as in
+ * `shows(java.lang.String,int)`, and fields by name. A DGS annotation is any annotation of the `com.netflix.graphql.dgs`
+ * package, or an annotation meta-annotated with one, such as a composed `@DgsData`.
+ *
+ * The members are preceded by the number of methods and fields the class and its superclasses declare, as in
+ * `example.Shows=4/1;reviews;shows(java.lang.String,int)`, so the framework can tell when a class changed without
+ * the index being written again, and scan it instead.
+ *
+ * Add it to the annotation processors of the application, with `annotationProcessor` or `kapt`.
+ */
+@SupportedAnnotationTypes("*")
+class DgsComponentIndexProcessor : AbstractProcessor() {
+    private val index = TreeMap<String, String>()
+
+    private val dgsAnnotations = HashMap<String, Boolean>()
+
+    override fun getSupportedSourceVersion(): SourceVersion = SourceVersion.latestSupported()
+
+    override fun process(
+        annotations: Set<TypeElement>,
+        roundEnv: RoundEnvironment,
+    ): Boolean {
+        if (roundEnv.processingOver()) {
+            writeIndex()
+        } else {
+            roundEnv.rootElements.forEach { indexTypes(it) }
+        }
+        return false
+    }
+
+    private fun indexTypes(element: Element) {
+        if (element !is TypeElement) {
+            return
+        }
+        if (element.kind == ElementKind.CLASS) {
+            val members = TreeSet<String>()
+            val annotated = collectAnnotatedMembers(element.asType(), members, HashSet())
+            if (annotated || members.isNotEmpty()) {
+                val counts = "${countMembers(element, ElementKind.METHOD)}/${countMembers(element, ElementKind.FIELD)}"
+                index[processingEnv.elementUtils.getBinaryName(element).toString()] = (listOf(counts) + members).joinToString(";")
+            }
+        }
+        element.enclosedElements.forEach { indexTypes(it) }
+    }
+
+    /**
+     * Adds the names of the members of the type and its supertypes that have DGS annotations,
+     * and returns whether the type or one of its superclasses has a DGS annotation.
+     */
+    private fun collectAnnotatedMembers(
+        type: TypeMirror,
+        members: MutableSet<String>,
+        visited: MutableSet<String>,
+    ): Boolean {
+        val element = (type as? DeclaredType)?.asElement() as? TypeElement ?: return false
+        if (!visited.add(element.qualifiedName.toString())) {
+            return false
+        }
+        element.enclosedElements
+            .filter { it.kind == ElementKind.METHOD || it.kind == ElementKind.FIELD }
+            .filter { hasDgsAnnotation(it) }
+            .forEach { members.add(memberName(it)) }
+        var annotated = hasDgsAnnotation(element)
+        processingEnv.typeUtils.directSupertypes(type).forEach { supertype ->
+            val annotatedSupertype = collectAnnotatedMembers(supertype, members, visited)
+            annotated = annotated || annotatedSupertype
+        }
+        return annotated
+    }
+
+    private fun memberName(member: Element): String {
+        if (member !is ExecutableElement) {
+            return member.simpleName.toString()
+        }
+        val parameterTypes = member.parameters.joinToString(",") { binaryName(processingEnv.typeUtils.erasure(it.asType())) }
+        return "${member.simpleName}($parameterTypes)"
+    }
+
+    private fun binaryName(type: TypeMirror): String =
+        when (type) {
+            is ArrayType -> binaryName(type.componentType) + "[]"
+            is DeclaredType -> processingEnv.elementUtils.getBinaryName(type.asElement() as TypeElement).toString()
+            else -> type.toString()
+        }
+
+    /**
+     * Counts the members of the given kind the class and its superclasses declare, up to `java.lang.Object`.
+     */
+    private fun countMembers(
+        element: TypeElement,
+        kind: ElementKind,
+    ): Int {
+        var count = 0
+        var current: TypeElement? = element
+        while (current != null && !current.qualifiedName.contentEquals(Object::class.java.name)) {
+            count += current.enclosedElements.count { it.kind == kind }
+            current = (current.superclass as? DeclaredType)?.asElement() as? TypeElement
+        }
+        return count
+    }
+
+    private fun hasDgsAnnotation(element: Element): Boolean =
+        element.annotationMirrors.any { isDgsAnnotation(it.annotationType.asElement() as TypeElement) }
+
+    private fun isDgsAnnotation(annotation: TypeElement): Boolean =
+        dgsAnnotations.getOrPut(annotation.qualifiedName.toString()) { isDgsAnnotation(annotation, HashSet()) }
+
+    private fun isDgsAnnotation(
+        annotation: TypeElement,
+        visited: MutableSet<String>,
+    ): Boolean {
+        // Annotations can annotate each other, each one is only checked once.
+        if (!visited.add(annotation.qualifiedName.toString())) {
+            return false
+        }
+        return processingEnv.elementUtils.getPackageOf(annotation).qualifiedName.contentEquals(DGS_PACKAGE) ||
+            annotation.annotationMirrors.any { isDgsAnnotation(it.annotationType.asElement() as TypeElement, visited) }
+    }
+
+    private fun writeIndex() {
+        if (index.isEmpty()) {
+            return
+        }
+        try {
+            val resource = processingEnv.filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION)
+            resource.openWriter().use { writer ->
+                index.forEach { (type, entry) -> writer.write("$type=$entry\n") }
+            }
+        } catch (e: Exception) {
+            processingEnv.messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write the DGS component index: $e")
+        }
+    }
+
+    companion object {
+        const val INDEX_LOCATION = "META-INF/dgs-components.properties"
+        private const val DGS_PACKAGE = "com.netflix.graphql.dgs"
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.index
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.Properties
+import javax.tools.ToolProvider
+
+class DgsComponentIndexProcessorTest {
+    @TempDir
+    lateinit var tempDir: Path
+
+    @Test
+    fun `Indexes the members with DGS annotations, including inherited and composed ones, and the member counts`() {
+        val index =
+            compile(
+                "ShowsDataFetcher.java" to
+                    """
+                    package example;
+
+                    import com.netflix.graphql.dgs.DgsComponent;
+                    import com.netflix.graphql.dgs.DgsData;
+                    import com.netflix.graphql.dgs.DgsDataLoader;
+                    import com.netflix.graphql.dgs.DgsQuery;
+                    import java.lang.annotation.Retention;
+                    import java.lang.annotation.RetentionPolicy;
+                    import java.util.List;
+                    import org.dataloader.BatchLoader;
+
+                    @DgsComponent
+                    public class ShowsDataFetcher extends BaseDataFetcher implements TitleDataFetcher {
+                        @DgsDataLoader(name = "reviews")
+                        BatchLoader<String, String> reviews = keys -> null;
+
+                        private final String unrelated = "";
+
+                        @DgsQuery
+                        public List<String> shows() { return List.of(); }
+
+                        @DgsQuery
+                        public List<String> search(String title, int limit, List<String>[] tags) { return List.of(); }
+
+                        @ShowField
+                        public String rating() { return ""; }
+
+                        public String title() { return ""; }
+
+                        public void helper() {}
+
+                        @Retention(RetentionPolicy.RUNTIME)
+                        @DgsData(parentType = "Show")
+                        @interface ShowField {}
+
+                        public static class Nested {
+                            @DgsData(parentType = "Query", field = "nested")
+                            public String nested() { return ""; }
+                        }
+                    }
+
+                    abstract class BaseDataFetcher {
+                        @DgsData(parentType = "Show", field = "id")
+                        public String id() { return ""; }
+                    }
+
+                    interface TitleDataFetcher {
+                        @DgsData(parentType = "Show", field = "title")
+                        String title();
+                    }
+
+                    class NotAComponent {
+                        public String value() { return ""; }
+                    }
+                    """.trimIndent(),
+            )
+
+        assertThat(index.stringPropertyNames())
+            .containsExactlyInAnyOrder("example.ShowsDataFetcher", "example.ShowsDataFetcher\$Nested", "example.BaseDataFetcher")
+        assertThat(index.getProperty("example.ShowsDataFetcher"))
+            .isEqualTo("6/2;id();rating();reviews;search(java.lang.String,int,java.util.List[]);shows();title()")
+        assertThat(index.getProperty("example.ShowsDataFetcher\$Nested")).isEqualTo("1/0;nested()")
+        assertThat(index.getProperty("example.BaseDataFetcher")).isEqualTo("1/0;id()")
+    }
+
+    @Test
+    fun `Does not write an index without DGS annotations`() {
+        compile("Plain.java" to "package example; public class Plain { public String value() { return \"\"; } }")
+
+        assertThat(tempDir.resolve("classes").resolve(DgsComponentIndexProcessor.INDEX_LOCATION)).doesNotExist()
+    }
+
+    private fun compile(vararg sources: Pair<String, String>): Properties {
+        val sourceDir = Files.createDirectories(tempDir.resolve("sources"))
+        val classesDir = Files.createDirectories(tempDir.resolve("classes"))
+        val compiler = ToolProvider.getSystemJavaCompiler()
+        compiler.getStandardFileManager(null, null, null).use { fileManager ->
+            val files = sources.map { (name, source) -> Files.writeString(sourceDir.resolve(name), source).toFile() }
+            val task =
+                compiler.getTask(
+                    null,
+                    fileManager,
+                    null,
+                    listOf("-proc:only", "-d", classesDir.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null,
+                    fileManager.getJavaFileObjectsFromFiles(files),
+                )
+            task.setProcessors(listOf(DgsComponentIndexProcessor()))
+            assertThat(task.call()).isTrue
+        }
+        val index = Properties()
+        val indexFile = classesDir.resolve(DgsComponentIndexProcessor.INDEX_LOCATION)
+        if (Files.exists(indexFile)) {
+            Files.newBufferedReader(indexFile).use { index.load(it) }
+        }
+        return index
+    }
+}
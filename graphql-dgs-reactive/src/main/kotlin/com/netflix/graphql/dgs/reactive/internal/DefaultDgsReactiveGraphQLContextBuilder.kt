@@ -19,6 +19,7 @@ package com.netflix.graphql.dgs.reactive.internal
 import com.netflix.graphql.dgs.context.DgsContext
 import com.netflix.graphql.dgs.context.ReactiveDgsContext
 import com.netflix.graphql.dgs.internal.DgsRequestData
+import com.netflix.graphql.dgs.internal.DgsRequestDeadlineResolver
 import com.netflix.graphql.dgs.reactive.DgsReactiveCustomContextBuilderWithRequest
 import org.springframework.http.HttpHeaders
 import org.springframework.http.server.reactive.ServerHttpRequest
@@ -28,8 +29,10 @@ import java.util.Optional
 
 open class DefaultDgsReactiveGraphQLContextBuilder(
     private val dgsReactiveCustomContextBuilderWithRequest: Optional<DgsReactiveCustomContextBuilderWithRequest<*>> = Optional.empty(),
+    private val deadlineResolver: DgsRequestDeadlineResolver? = null,
 ) {
     fun build(dgsRequestData: DgsReactiveRequestData?): Mono<DgsContext> {
+        val deadline = deadlineResolver?.resolve(dgsRequestData?.headers)
         val customContext =
             if (dgsReactiveCustomContextBuilderWithRequest.isPresent) {
                 dgsReactiveCustomContextBuilderWithRequest.get().build(
@@ -51,11 +54,13 @@ open class DefaultDgsReactiveGraphQLContextBuilder(
                         it,
                         dgsRequestData,
                         context,
+                        deadline,
                     )
                 }.defaultIfEmpty(
                     ReactiveDgsContext(
                         requestData = dgsRequestData,
                         reactorContext = context,
+                        deadline = deadline,
                     ),
                 )
         }
@@ -43,6 +43,15 @@ object DgsMetrics {
          */
         DATA_LOADER("gql.dataLoader"),
 
+        /** _DistributionSummary_ that captures the number of keys in each batch sent to a data loader. */
+        DATA_LOADER_BATCH_SIZE("gql.dataLoader.batchSize"),
+
+        /**
+         * _Timer_ that captures the elapsed time of each chunk of a data loader batch split by `fanOutBatchSize`.
+         * Chunks are recorded by the [DATA_LOADER] timer too, as each chunk is a call to the batch loader.
+         */
+        DATA_LOADER_CHUNK("gql.dataLoader.chunk"),
+
         /** _Counter_ that captures the number of GraphQL errors encountered during query execution. */
         PERSISTED_QUERY_NOT_FOUND("gql.persistedQueryNotFound"),
     }
@@ -78,6 +87,7 @@ object DgsMetrics {
         FIELD("gql.field"),
 
         /** The number of queries executed in the batch. */
+        @Deprecated("The batch size is recorded by the gql.dataLoader.batchSize distribution summary instead.")
         LOADER_BATCH_SIZE("gql.loaderBatchSize"),
 
         /** The name of the data loader, may or may not be the same as the type of entity. */
@@ -0,0 +1,46 @@
+package com.netflix.graphql.dgs.metrics.micrometer
+
+import com.netflix.graphql.dgs.internal.DgsBulkhead
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.MeterBinder
+
+/**
+ * Registers meters for each [DgsBulkhead] that data fetchers can be routed to with `@DgsData(executor = "...")`:
+ * - `dgs.bulkhead.active` _Gauge_ with the number of data fetchers currently running.
+ * - `dgs.bulkhead.queued` _Gauge_ with the number of data fetchers waiting to run.
+ * - `dgs.bulkhead.rejected` _Counter_ with the number of data fetchers rejected because the bulkhead was full.
+ *
+ * Each meter is tagged with the name of the executor.
+ */
+class DgsBulkheadMetrics(
+    private val bulkheads: List<DgsBulkhead>,
+) : MeterBinder {
+    companion object {
+        const val ACTIVE = "dgs.bulkhead.active"
+        const val QUEUED = "dgs.bulkhead.queued"
+        const val REJECTED = "dgs.bulkhead.rejected"
+        const val EXECUTOR_TAG = "executor"
+    }
+
+    override fun bindTo(registry: MeterRegistry) {
+        bulkheads.forEach { bulkhead ->
+            Gauge
+                .builder(ACTIVE, bulkhead) { it.activeCount.toDouble() }
+                .description("The number of data fetchers running on the executor")
+                .tag(EXECUTOR_TAG, bulkhead.name)
+                .register(registry)
+            Gauge
+                .builder(QUEUED, bulkhead) { it.queuedCount.toDouble() }
+                .description("The number of data fetchers waiting for the executor")
+                .tag(EXECUTOR_TAG, bulkhead.name)
+                .register(registry)
+            FunctionCounter
+                .builder(REJECTED, bulkhead) { it.rejectedCount.toDouble() }
+                .description("The number of data fetchers rejected because the executor was full")
+                .tag(EXECUTOR_TAG, bulkhead.name)
+                .register(registry)
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.netflix.graphql.dgs.metrics.micrometer
+
+import com.netflix.graphql.dgs.internal.TimerWheelScheduledExecutorService
+import io.micrometer.core.instrument.FunctionTimer
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.binder.MeterBinder
+import java.util.concurrent.TimeUnit
+
+/**
+ * Registers meters for each shard of the [TimerWheelScheduledExecutorService] running data loader dispatch checks:
+ * - `dgs.dataloader.scheduler.lag` _FunctionTimer_ with the delay between the time dispatch checks were due and the
+ *   time they ran.
+ * - `dgs.dataloader.scheduler.queued` _Gauge_ with the number of dispatch checks waiting to run.
+ *
+ * Each meter is tagged with the index of the shard.
+ */
+class DgsDataLoaderSchedulerMetrics(
+    private val scheduler: TimerWheelScheduledExecutorService?,
+) : MeterBinder {
+    companion object {
+        const val LAG = "dgs.dataloader.scheduler.lag"
+        const val QUEUED = "dgs.dataloader.scheduler.queued"
+        const val SHARD_TAG = "shard"
+    }
+
+    override fun bindTo(registry: MeterRegistry) {
+        scheduler?.shards?.forEach { shard ->
+            FunctionTimer
+                .builder(LAG, shard, { it.executedCount }, { it.totalLagNanos.toDouble() }, TimeUnit.NANOSECONDS)
+                .description("The delay between the time data loader dispatch checks were due and the time they ran")
+                .tag(SHARD_TAG, shard.index.toString())
+                .register(registry)
+            Gauge
+                .builder(QUEUED, shard) { it.queueDepth.toDouble() }
+                .description("The number of data loader dispatch checks waiting to run")
+                .tag(SHARD_TAG, shard.index.toString())
+                .register(registry)
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.netflix.graphql.dgs.metrics.micrometer
+
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderSharedCaches
+import com.netflix.graphql.dgs.metrics.DgsMetrics.GqlTag
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Tags
+import io.micrometer.core.instrument.binder.MeterBinder
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics
+
+/**
+ * Registers the Caffeine cache meters, such as `cache.gets` with hits and misses, `cache.evictions` and `cache.size`,
+ * for the shared cache of each data loader, named `dgs.dataloader.shared-cache` and tagged with the
+ * name of the data loader. Caches created after binding are registered as they are created.
+ */
+class DgsDataLoaderSharedCacheMetrics(
+    private val sharedCaches: DefaultDgsDataLoaderSharedCaches?,
+) : MeterBinder {
+    companion object {
+        const val CACHE_NAME = "dgs.dataloader.shared-cache"
+    }
+
+    override fun bindTo(registry: MeterRegistry) {
+        sharedCaches?.forEachCache { valueCache ->
+            CaffeineCacheMetrics(valueCache.cache, CACHE_NAME, Tags.of(GqlTag.LOADER_NAME.key, valueCache.name)).bindTo(registry)
+        }
+    }
+}
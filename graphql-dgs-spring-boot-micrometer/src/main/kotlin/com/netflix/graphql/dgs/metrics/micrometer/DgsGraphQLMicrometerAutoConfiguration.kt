@@ -1,6 +1,10 @@
 package com.netflix.graphql.dgs.metrics.micrometer
 
+import com.netflix.graphql.dgs.DgsExecutorSelector
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderSharedCaches
+import com.netflix.graphql.dgs.internal.DefaultDgsExecutorSelector
 import com.netflix.graphql.dgs.internal.DgsSchemaProvider
+import com.netflix.graphql.dgs.internal.TimerWheelScheduledExecutorService
 import com.netflix.graphql.dgs.metrics.micrometer.dataloader.DgsDataLoaderInstrumentationProvider
 import com.netflix.graphql.dgs.metrics.micrometer.tagging.DgsContextualTagCustomizer
 import com.netflix.graphql.dgs.metrics.micrometer.tagging.DgsExecutionTagCustomizer
@@ -13,6 +17,7 @@ import com.netflix.graphql.dgs.metrics.micrometer.utils.SimpleQuerySignatureRepo
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.springframework.beans.factory.ObjectProvider
+import org.springframework.beans.factory.annotation.Qualifier
 import org.springframework.boot.autoconfigure.AutoConfiguration
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
@@ -27,6 +32,7 @@ import org.springframework.context.annotation.Configuration
 import org.springframework.core.Ordered
 import org.springframework.core.annotation.Order
 import java.util.Optional
+import java.util.concurrent.ScheduledExecutorService
 
 /**
  * [Auto-configuration][org.springframework.boot.autoconfigure.EnableAutoConfiguration] for instrumentation of Spring GraphQL
@@ -78,6 +84,41 @@ open class DgsGraphQLMicrometerAutoConfiguration {
     open fun dataLoaderInstrumentationProvider(meterRegistrySupplier: DgsMeterRegistrySupplier): DgsDataLoaderInstrumentationProvider =
         DgsDataLoaderInstrumentationProvider(meterRegistrySupplier)
 
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "$AUTO_CONF_PREFIX.bulkhead-instrumentation",
+        name = ["enabled"],
+        havingValue = "true",
+        matchIfMissing = true,
+    )
+    open fun bulkheadMetrics(executorSelector: ObjectProvider<DgsExecutorSelector>): DgsBulkheadMetrics {
+        val selector = executorSelector.ifAvailable
+        return DgsBulkheadMetrics(if (selector is DefaultDgsExecutorSelector) selector.bulkheads else emptyList())
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "$AUTO_CONF_PREFIX.data-loader-scheduler-instrumentation",
+        name = ["enabled"],
+        havingValue = "true",
+        matchIfMissing = true,
+    )
+    open fun dataLoaderSchedulerMetrics(
+        @Qualifier("dgsScheduledExecutorService") scheduledExecutorService: ObjectProvider<ScheduledExecutorService>,
+    ): DgsDataLoaderSchedulerMetrics =
+        DgsDataLoaderSchedulerMetrics(scheduledExecutorService.ifAvailable as? TimerWheelScheduledExecutorService)
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "$AUTO_CONF_PREFIX.data-loader-shared-cache-instrumentation",
+        name = ["enabled"],
+        havingValue = "true",
+        matchIfMissing = true,
+    )
+    open fun dataLoaderSharedCacheMetrics(
+        sharedCaches: ObjectProvider<DefaultDgsDataLoaderSharedCaches>,
+    ): DgsDataLoaderSharedCacheMetrics = DgsDataLoaderSharedCacheMetrics(sharedCaches.ifAvailable)
+
     @Bean
     open fun collatedMetricsTagsProvider(
         contextualTagCustomizer: Collection<DgsContextualTagCustomizer>,
@@ -0,0 +1,106 @@
+package com.netflix.graphql.dgs.metrics.micrometer.dataloader
+
+import com.netflix.graphql.dgs.internal.FanOutChunks
+import com.netflix.graphql.dgs.metrics.DgsMetrics.GqlMetric
+import com.netflix.graphql.dgs.metrics.DgsMetrics.GqlTag
+import io.micrometer.core.instrument.DistributionSummary
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.TimeUnit
+
+/**
+ * The meters of a single data loader, registered once per data loader name.
+ *
+ * Each call to the batch loader is timed by the `gql.dataLoader` timer, until its result completes or, for batch
+ * publishers, until the publisher completes. The number of keys it was called with is recorded by the
+ * `gql.dataLoader.batchSize` distribution summary. Calls with a chunk of a batch split by `fanOutBatchSize` are also
+ * timed by the `gql.dataLoader.chunk` timer, registered the first time the data loader loads a chunk. All are tagged
+ * with the name of the data loader.
+ */
+internal class DataLoaderMeters(
+    private val name: String,
+    private val registry: MeterRegistry,
+) {
+    private val timer: Timer =
+        Timer
+            .builder(GqlMetric.DATA_LOADER.key)
+            .tag(GqlTag.LOADER_NAME.key, name)
+            .register(registry)
+
+    private val batchSize: DistributionSummary =
+        DistributionSummary
+            .builder(GqlMetric.DATA_LOADER_BATCH_SIZE.key)
+            .tag(GqlTag.LOADER_NAME.key, name)
+            .register(registry)
+
+    private val chunkTimer: Timer by lazy {
+        Timer
+            .builder(GqlMetric.DATA_LOADER_CHUNK.key)
+            .tag(GqlTag.LOADER_NAME.key, name)
+            .register(registry)
+    }
+
+    fun <T> record(
+        keyCount: Int,
+        load: () -> CompletionStage<T>,
+    ): CompletionStage<T> {
+        batchSize.record(keyCount.toDouble())
+        val sample = start()
+        val result =
+            try {
+                load()
+            } catch (exception: Exception) {
+                sample.stop()
+                throw exception
+            }
+        return result.whenComplete { _, _ -> sample.stop() }
+    }
+
+    fun <T> publish(
+        keyCount: Int,
+        subscriber: Subscriber<T>,
+        publish: (Subscriber<T>) -> Unit,
+    ) {
+        batchSize.record(keyCount.toDouble())
+        val sample = start()
+        val timedSubscriber =
+            object : Subscriber<T> {
+                override fun onSubscribe(subscription: Subscription) = subscriber.onSubscribe(subscription)
+
+                override fun onNext(value: T) = subscriber.onNext(value)
+
+                override fun onError(throwable: Throwable) {
+                    sample.stop()
+                    subscriber.onError(throwable)
+                }
+
+                override fun onComplete() {
+                    sample.stop()
+                    subscriber.onComplete()
+                }
+            }
+        try {
+            publish(timedSubscriber)
+        } catch (exception: Exception) {
+            sample.stop()
+            throw exception
+        }
+    }
+
+    private fun start(): Sample = Sample(Timer.start(registry), FanOutChunks.isLoadingChunk())
+
+    private inner class Sample(
+        private val sample: Timer.Sample,
+        private val chunk: Boolean,
+    ) {
+        fun stop() {
+            val nanos = sample.stop(timer)
+            if (chunk) {
+                chunkTimer.record(nanos, TimeUnit.NANOSECONDS)
+            }
+        }
+    }
+}
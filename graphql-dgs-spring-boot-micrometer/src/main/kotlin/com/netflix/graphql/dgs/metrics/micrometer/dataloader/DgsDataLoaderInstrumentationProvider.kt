@@ -4,67 +4,66 @@ import com.netflix.graphql.dgs.DataLoaderInstrumentationExtensionProvider
 import com.netflix.graphql.dgs.metrics.micrometer.DgsMeterRegistrySupplier
 import org.dataloader.BatchLoader
 import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
-import java.lang.reflect.Proxy
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import java.util.concurrent.ConcurrentHashMap
 
+/**
+ * Wraps each batch loader to record its [DataLoaderMeters]. The meters are registered once per data loader name
+ * and shared by all the batch loaders with that name.
+ */
+@Suppress("UNCHECKED_CAST")
 class DgsDataLoaderInstrumentationProvider(
     private val meterRegistrySupplier: DgsMeterRegistrySupplier,
 ) : DataLoaderInstrumentationExtensionProvider {
-    private val batchLoaderClasses = mutableMapOf<String, BatchLoader<*, *>>()
-    private val batchLoaderWithContextClasses = mutableMapOf<String, BatchLoaderWithContext<*, *>>()
-    private val mappedBatchLoaderClasses = mutableMapOf<String, MappedBatchLoader<*, *>>()
-    private val mappedBatchLoaderWithContextClasses = mutableMapOf<String, MappedBatchLoaderWithContext<*, *>>()
+    private val meters = ConcurrentHashMap<String, DataLoaderMeters>()
 
     override fun provide(
         original: BatchLoader<*, *>,
         name: String,
-    ): BatchLoader<*, *> =
-        batchLoaderClasses.getOrPut(name) {
-            val handler = BatchLoaderWithContextInterceptor(original, name, meterRegistrySupplier.get())
-            Proxy.newProxyInstance(
-                javaClass.classLoader,
-                arrayOf(BatchLoader::class.java),
-                handler,
-            ) as BatchLoader<*, *>
-        }
+    ): BatchLoader<*, *> = MeteredBatchLoader(original as BatchLoader<Any, Any?>, meters(name))
 
     override fun provide(
         original: BatchLoaderWithContext<*, *>,
         name: String,
-    ): BatchLoaderWithContext<*, *> =
-        batchLoaderWithContextClasses.getOrPut(name) {
-            val handler = BatchLoaderWithContextInterceptor(original, name, meterRegistrySupplier.get())
-            Proxy.newProxyInstance(
-                javaClass.classLoader,
-                arrayOf(BatchLoaderWithContext::class.java),
-                handler,
-            ) as BatchLoaderWithContext<*, *>
-        }
+    ): BatchLoaderWithContext<*, *> = MeteredBatchLoaderWithContext(original as BatchLoaderWithContext<Any, Any?>, meters(name))
 
     override fun provide(
         original: MappedBatchLoader<*, *>,
         name: String,
-    ): MappedBatchLoader<*, *> =
-        mappedBatchLoaderClasses.getOrPut(name) {
-            val handler = BatchLoaderWithContextInterceptor(original, name, meterRegistrySupplier.get())
-            Proxy.newProxyInstance(
-                javaClass.classLoader,
-                arrayOf(MappedBatchLoader::class.java),
-                handler,
-            ) as MappedBatchLoader<*, *>
-        }
+    ): MappedBatchLoader<*, *> = MeteredMappedBatchLoader(original as MappedBatchLoader<Any, Any?>, meters(name))
 
     override fun provide(
         original: MappedBatchLoaderWithContext<*, *>,
         name: String,
     ): MappedBatchLoaderWithContext<*, *> =
-        mappedBatchLoaderWithContextClasses.getOrPut(name) {
-            val handler = BatchLoaderWithContextInterceptor(original, name, meterRegistrySupplier.get())
-            Proxy.newProxyInstance(
-                javaClass.classLoader,
-                arrayOf(MappedBatchLoaderWithContext::class.java),
-                handler,
-            ) as MappedBatchLoaderWithContext<*, *>
-        }
+        MeteredMappedBatchLoaderWithContext(original as MappedBatchLoaderWithContext<Any, Any?>, meters(name))
+
+    override fun provide(
+        original: BatchPublisher<*, *>,
+        name: String,
+    ): BatchPublisher<*, *> = MeteredBatchPublisher(original as BatchPublisher<Any, Any?>, meters(name))
+
+    override fun provide(
+        original: BatchPublisherWithContext<*, *>,
+        name: String,
+    ): BatchPublisherWithContext<*, *> = MeteredBatchPublisherWithContext(original as BatchPublisherWithContext<Any, Any?>, meters(name))
+
+    override fun provide(
+        original: MappedBatchPublisher<*, *>,
+        name: String,
+    ): MappedBatchPublisher<*, *> = MeteredMappedBatchPublisher(original as MappedBatchPublisher<Any, Any?>, meters(name))
+
+    override fun provide(
+        original: MappedBatchPublisherWithContext<*, *>,
+        name: String,
+    ): MappedBatchPublisherWithContext<*, *> =
+        MeteredMappedBatchPublisherWithContext(original as MappedBatchPublisherWithContext<Any, Any?>, meters(name))
+
+    private fun meters(name: String): DataLoaderMeters =
+        meters.computeIfAbsent(name) { DataLoaderMeters(it, meterRegistrySupplier.get()) }
 }
@@ -0,0 +1,97 @@
+package com.netflix.graphql.dgs.metrics.micrometer.dataloader
+
+import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
+import org.dataloader.MappedBatchLoader
+import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import org.reactivestreams.Subscriber
+import java.util.concurrent.CompletionStage
+
+internal class MeteredBatchLoader(
+    private val delegate: BatchLoader<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : BatchLoader<Any, Any?> {
+    override fun load(keys: List<Any>): CompletionStage<List<Any?>> = meters.record(keys.size) { delegate.load(keys) }
+}
+
+internal class MeteredBatchLoaderWithContext(
+    private val delegate: BatchLoaderWithContext<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : BatchLoaderWithContext<Any, Any?> {
+    override fun load(
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<List<Any?>> = meters.record(keys.size) { delegate.load(keys, environment) }
+}
+
+internal class MeteredMappedBatchLoader(
+    private val delegate: MappedBatchLoader<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : MappedBatchLoader<Any, Any?> {
+    override fun load(keys: Set<Any>): CompletionStage<Map<Any, Any?>> = meters.record(keys.size) { delegate.load(keys) }
+}
+
+internal class MeteredMappedBatchLoaderWithContext(
+    private val delegate: MappedBatchLoaderWithContext<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : MappedBatchLoaderWithContext<Any, Any?> {
+    override fun load(
+        keys: Set<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<Map<Any, Any?>> = meters.record(keys.size) { delegate.load(keys, environment) }
+}
+
+internal class MeteredBatchPublisher(
+    private val delegate: BatchPublisher<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : BatchPublisher<Any, Any?> {
+    override fun load(
+        keys: List<Any>,
+        subscriber: Subscriber<Any?>,
+    ) {
+        meters.publish(keys.size, subscriber) { delegate.load(keys, it) }
+    }
+}
+
+internal class MeteredBatchPublisherWithContext(
+    private val delegate: BatchPublisherWithContext<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : BatchPublisherWithContext<Any, Any?> {
+    override fun load(
+        keys: List<Any>,
+        subscriber: Subscriber<Any?>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        meters.publish(keys.size, subscriber) { delegate.load(keys, it, environment) }
+    }
+}
+
+internal class MeteredMappedBatchPublisher(
+    private val delegate: MappedBatchPublisher<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : MappedBatchPublisher<Any, Any?> {
+    override fun load(
+        keys: Set<Any>,
+        subscriber: Subscriber<Map.Entry<Any, Any?>>,
+    ) {
+        meters.publish(keys.size, subscriber) { delegate.load(keys, it) }
+    }
+}
+
+internal class MeteredMappedBatchPublisherWithContext(
+    private val delegate: MappedBatchPublisherWithContext<Any, Any?>,
+    private val meters: DataLoaderMeters,
+) : MappedBatchPublisherWithContext<Any, Any?> {
+    override fun load(
+        keys: List<Any>,
+        subscriber: Subscriber<Map.Entry<Any, Any?>>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        meters.publish(keys.size, subscriber) { delegate.load(keys, it, environment) }
+    }
+}
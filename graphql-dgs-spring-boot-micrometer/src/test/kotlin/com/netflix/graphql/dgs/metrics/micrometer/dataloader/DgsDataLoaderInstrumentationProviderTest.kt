@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.metrics.micrometer.dataloader
+
+import com.netflix.graphql.dgs.DgsDataLoader
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderProvider
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchPublisher
+import org.dataloader.MappedBatchLoaderWithContext
+import org.junit.jupiter.api.Test
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import org.springframework.context.support.GenericApplicationContext
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.TimeUnit
+
+internal class DgsDataLoaderInstrumentationProviderTest {
+    private val registry = SimpleMeterRegistry()
+    private val provider = DgsDataLoaderInstrumentationProvider { registry }
+
+    @Test
+    fun `Records the duration and size of each batch, tagged with the data loader name only`() {
+        @Suppress("UNCHECKED_CAST")
+        val batchLoader =
+            provider.provide(
+                BatchLoader<String, String> { keys -> CompletableFuture.completedFuture(keys.map { it.uppercase() }) },
+                "upperCase",
+            ) as BatchLoader<String, String>
+
+        assertThat(batchLoader.load(listOf("a", "b")).toCompletableFuture().join()).containsExactly("A", "B")
+        assertThat(batchLoader.load(listOf("c", "d", "e")).toCompletableFuture().join()).containsExactly("C", "D", "E")
+
+        val timer = registry.get("gql.dataLoader").tag("gql.loaderName", "upperCase").timer()
+        assertThat(timer.count()).isEqualTo(2)
+        assertThat(timer.id.tags).hasSize(1)
+        val batchSize = registry.get("gql.dataLoader.batchSize").tag("gql.loaderName", "upperCase").summary()
+        assertThat(batchSize.count()).isEqualTo(2)
+        assertThat(batchSize.totalAmount()).isEqualTo(5.0)
+        assertThat(registry.meters).hasSize(2)
+    }
+
+    @Test
+    fun `Shares the meters of batch loaders with the same name`() {
+        val mappedBatchLoader =
+            MappedBatchLoaderWithContext<String, Int> { keys, _ -> CompletableFuture.completedFuture(keys.associateWith { it.length }) }
+        val environment = BatchLoaderEnvironment.newBatchLoaderEnvironment().build()
+
+        @Suppress("UNCHECKED_CAST")
+        val first = provider.provide(mappedBatchLoader, "length") as MappedBatchLoaderWithContext<String, Int>
+
+        @Suppress("UNCHECKED_CAST")
+        val second = provider.provide(mappedBatchLoader, "length") as MappedBatchLoaderWithContext<String, Int>
+
+        assertThat(first.load(setOf("a", "bb"), environment).toCompletableFuture().join()).containsEntry("bb", 2)
+        assertThat(second.load(setOf("ccc"), environment).toCompletableFuture().join()).containsEntry("ccc", 3)
+
+        assertThat(registry.get("gql.dataLoader").tag("gql.loaderName", "length").timer().count()).isEqualTo(2)
+        assertThat(registry.get("gql.dataLoader.batchSize").summary().totalAmount()).isEqualTo(3.0)
+    }
+
+    @Test
+    fun `Times batch publishers until they complete`() {
+        val publisher =
+            BatchPublisher<String, String> { keys, subscriber ->
+                keys.forEach { subscriber.onNext(it.uppercase()) }
+                subscriber.onComplete()
+            }
+        val values = mutableListOf<String>()
+        val completed = CompletableFuture<Unit>()
+
+        @Suppress("UNCHECKED_CAST")
+        val metered = provider.provide(publisher, "upperCasePublisher") as BatchPublisher<String, String>
+        metered.load(
+            listOf("a", "b"),
+            object : Subscriber<String> {
+                override fun onSubscribe(subscription: Subscription) {}
+
+                override fun onNext(value: String) {
+                    values.add(value)
+                }
+
+                override fun onError(throwable: Throwable) {
+                    completed.completeExceptionally(throwable)
+                }
+
+                override fun onComplete() {
+                    completed.complete(Unit)
+                }
+            },
+        )
+
+        assertThat(completed).isCompleted
+        assertThat(values).containsExactly("A", "B")
+        assertThat(registry.get("gql.dataLoader").tag("gql.loaderName", "upperCasePublisher").timer().count()).isEqualTo(1)
+        assertThat(registry.get("gql.dataLoader.batchSize").summary().totalAmount()).isEqualTo(2.0)
+    }
+
+    @Test
+    fun `Records the duration of each chunk of a split batch`() {
+        val context = GenericApplicationContext()
+        context.beanFactory.registerSingleton("chunkedLoader", ChunkedBatchLoader())
+        context.refresh()
+        val dataLoaderProvider = DefaultDgsDataLoaderProvider(context, extensionProviders = listOf(provider))
+        dataLoaderProvider.findDataLoaders()
+        val dataLoaderRegistry = dataLoaderProvider.buildRegistry()
+        val dataLoader = dataLoaderRegistry.getDataLoader<String, String>("chunked")!!
+
+        val split = dataLoader.loadMany(listOf("a", "b", "c", "d", "e"))
+        dataLoaderRegistry.dispatchAll()
+        assertThat(split.get(5, TimeUnit.SECONDS)).containsExactly("A", "B", "C", "D", "E")
+
+        val whole = dataLoader.loadMany(listOf("f", "g"))
+        dataLoaderRegistry.dispatchAll()
+        assertThat(whole.get(5, TimeUnit.SECONDS)).containsExactly("F", "G")
+
+        assertThat(registry.get("gql.dataLoader.chunk").tag("gql.loaderName", "chunked").timer().count()).isEqualTo(3)
+        assertThat(registry.get("gql.dataLoader").tag("gql.loaderName", "chunked").timer().count()).isEqualTo(4)
+    }
+
+    @DgsDataLoader(name = "chunked", fanOutBatchSize = 2)
+    class ChunkedBatchLoader : BatchLoader<String, String> {
+        override fun load(keys: List<String>): CompletionStage<List<String>> =
+            CompletableFuture.completedFuture(keys.map { it.uppercase() })
+    }
+}
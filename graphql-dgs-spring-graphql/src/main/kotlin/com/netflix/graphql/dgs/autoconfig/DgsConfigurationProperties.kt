@@ -16,9 +16,12 @@
 
 package com.netflix.graphql.dgs.autoconfig
 
+import com.netflix.graphql.dgs.internal.DgsRequestDeadlineResolver
 import com.netflix.graphql.dgs.internal.DgsSchemaProvider.Companion.DEFAULT_SCHEMA_LOCATION
 import org.springframework.boot.context.properties.ConfigurationProperties
 import org.springframework.boot.context.properties.bind.DefaultValue
+import java.nio.file.Path
+import java.time.Duration
 
 /**
  * Configuration properties for DGS framework.
@@ -34,6 +37,11 @@ data class DgsConfigurationProperties(
     val introspection: DgsIntrospectionConfigurationProperties = DgsIntrospectionConfigurationProperties(),
     val strictMode: DgsStrictModeProperties = DgsStrictModeProperties(),
     val federation: DgsFederationProperties = DgsFederationProperties(),
+    /** Named bulkhead executors that data fetchers can be routed to with `@DgsData(executor = "...")`. */
+    val executors: Map<String, DgsExecutorProperties> = emptyMap(),
+    val deadline: DgsDeadlineProperties = DgsDeadlineProperties(),
+    val trivialDataFetchers: DgsTrivialDataFetchersProperties = DgsTrivialDataFetchersProperties(),
+    val schemaSnapshot: DgsSchemaSnapshotProperties = DgsSchemaSnapshotProperties(),
 ) {
     data class DgsPreparsedDocumentProviderConfigurationProperties(
         val enabled: Boolean = false,
@@ -55,4 +63,36 @@ data class DgsConfigurationProperties(
     data class DgsFederationProperties(
         val enabled: Boolean = true,
     )
+
+    data class DgsExecutorProperties(
+        /** The maximum number of data fetchers that run concurrently on this executor. */
+        val maxConcurrency: Int = 100,
+        /** The maximum number of data fetchers waiting to run; data fetchers beyond that fail with an UNAVAILABLE error. */
+        val queueCapacity: Int = 1000,
+    )
+
+    data class DgsDeadlineProperties(
+        /** Enables per-request deadlines; data fetchers and data loaders still running when the deadline passes are cancelled. */
+        val enabled: Boolean = false,
+        /** Header carrying the remaining time budget of the request, in milliseconds or as an ISO-8601 duration. */
+        val header: String = DgsRequestDeadlineResolver.DEFAULT_HEADER_NAME,
+        /** Deadline for requests that don't send the header; requests have no deadline if not set. */
+        val defaultTimeout: Duration? = null,
+        /** Maximum timeout accepted from the header; header values are capped at the default timeout if not set. */
+        val maxTimeout: Duration? = null,
+    )
+
+    data class DgsTrivialDataFetchersProperties(
+        /** Classifies data fetchers that take no arguments, or only @Source arguments, as trivial. */
+        val autoDetect: Boolean = false,
+        /** Packages whose data fetchers are classified as trivial, unless they are asynchronous. */
+        val packages: List<String> = emptyList(),
+    )
+
+    data class DgsSchemaSnapshotProperties(
+        /** Stores the parsed schema files, and loads them instead of parsing them again on the next start if they are unchanged. */
+        val enabled: Boolean = false,
+        /** Directory the snapshots are stored in; required when enabled, and must only be writable by the application. */
+        val directory: Path? = null,
+    )
 }
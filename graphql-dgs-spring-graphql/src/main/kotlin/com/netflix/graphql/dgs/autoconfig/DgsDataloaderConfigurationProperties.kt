@@ -27,7 +27,29 @@ import java.time.Duration
 data class DgsDataloaderConfigurationProperties(
     @DefaultValue("false") val tickerModeEnabled: Boolean,
     @DefaultValue(DATALOADER_DEFAULT_SCHEDULE_DURATION) val scheduleDuration: Duration,
+    /** Only create the data loaders a request uses, the first time they are asked for. */
+    @DefaultValue("false") val lazyRegistryEnabled: Boolean,
+    /** Run the dispatch checks of all registries on sharded timer wheels instead of a single scheduler thread. */
+    val timerWheel: DgsDataLoaderTimerWheelProperties = DgsDataLoaderTimerWheelProperties(),
+    /** Dispatch data loaders as soon as each execution level is done, instead of relying on ticker mode. */
+    val levelAwareDispatch: DgsDataLoaderLevelAwareDispatchProperties = DgsDataLoaderLevelAwareDispatchProperties(),
 ) {
+    data class DgsDataLoaderTimerWheelProperties(
+        val enabled: Boolean = false,
+        /** The number of timer wheels, each with its own thread; defaults to the number of available processors. */
+        val shards: Int = 0,
+        /** The resolution of the timer wheels; schedule durations are rounded up to a whole number of ticks. */
+        val tickDuration: Duration = Duration.ofMillis(1),
+        /** The number of buckets per timer wheel, rounded up to a power of two. */
+        val wheelSize: Int = 512,
+    )
+
+    data class DgsDataLoaderLevelAwareDispatchProperties(
+        val enabled: Boolean = false,
+        /** How often all registries are checked for loads that weren't dispatched at the end of an execution level. */
+        val safetyNetDuration: Duration = Duration.ofMillis(50),
+    )
+
     companion object {
         const val DATALOADER_DEFAULT_SCHEDULE_DURATION = "10ms"
     }
@@ -29,8 +29,10 @@ import com.netflix.graphql.dgs.internal.DefaultDgsGraphQLContextBuilder
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
 import com.netflix.graphql.dgs.internal.DgsQueryExecutorRequestCustomizer
 import com.netflix.graphql.dgs.internal.DgsWebMvcRequestData
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
 import com.netflix.graphql.dgs.json.DgsJsonMapper
 import graphql.ExecutionResult
+import graphql.GraphQLContext
 import org.dataloader.DataLoaderRegistry
 import org.springframework.graphql.ExecutionGraphQlService
 import org.springframework.graphql.support.DefaultExecutionGraphQlRequest
@@ -75,10 +77,12 @@ class SpringGraphQLDgsQueryExecutor(
         // webflux interceptors do it. Otherwise every query leaves a task behind on the shared
         // scheduled executor for the rest of the JVM's life.
         var dataLoaderRegistry: DataLoaderRegistry? = null
+        var graphQLContext: GraphQLContext? = null
 
         request.configureExecutionInput { e, builder ->
             val registry = dgsDataLoaderProvider.buildRegistryWithContextSupplier { e.graphQLContext }
             dataLoaderRegistry = registry
+            graphQLContext = e.graphQLContext
             builder
                 .graphQLContext(dgsContext)
                 .dataLoaderRegistry(registry)
@@ -88,7 +92,10 @@ class SpringGraphQLDgsQueryExecutor(
         val response =
             executionService
                 .execute(request)
-                .doFinally { (dataLoaderRegistry as? AutoCloseable)?.close() }
+                .doFinally {
+                    (dataLoaderRegistry as? AutoCloseable)?.close()
+                    RequestCoroutineScope.cancel(graphQLContext)
+                }
                 .block() ?: throw IllegalStateException("Unexpected null response from Spring GraphQL client")
 
         return response.executionResult
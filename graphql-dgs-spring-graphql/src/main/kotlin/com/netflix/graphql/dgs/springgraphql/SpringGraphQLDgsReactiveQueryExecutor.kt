@@ -24,6 +24,7 @@ import com.jayway.jsonpath.spi.mapper.MappingException
 import com.netflix.graphql.dgs.exceptions.DgsQueryExecutionDataExtractionException
 import com.netflix.graphql.dgs.exceptions.QueryException
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
 import com.netflix.graphql.dgs.json.DgsJsonMapper
 import com.netflix.graphql.dgs.reactive.DgsReactiveQueryExecutor
 import com.netflix.graphql.dgs.reactive.internal.DefaultDgsReactiveGraphQLContextBuilder
@@ -63,7 +64,7 @@ class SpringGraphQLDgsReactiveQueryExecutor(
                 null,
             )
 
-        lateinit var graphQLContext: GraphQLContext
+        var graphQLContext: GraphQLContext? = null
         val dataLoaderRegistry = dgsDataLoaderProvider.buildRegistryWithContextSupplier { graphQLContext }
         return dgsContextBuilder
             .build(DgsReactiveRequestData(request.extensions, headers, serverRequest))
@@ -82,7 +83,7 @@ class SpringGraphQLDgsReactiveQueryExecutor(
                 )
             }.map { response ->
                 response.executionResult
-            }
+            }.doFinally { RequestCoroutineScope.cancel(graphQLContext) }
     }
 
     override fun <T : Any> executeAndExtractJsonPath(
@@ -24,6 +24,7 @@ import com.netflix.graphql.dgs.DgsDataLoaderOptionsProvider
 import com.netflix.graphql.dgs.DgsDataLoaderReloadController
 import com.netflix.graphql.dgs.DgsDefaultPreparsedDocumentProvider
 import com.netflix.graphql.dgs.DgsExecutionResult
+import com.netflix.graphql.dgs.DgsExecutorSelector
 import com.netflix.graphql.dgs.DgsFederationResolver
 import com.netflix.graphql.dgs.DgsQueryExecutor
 import com.netflix.graphql.dgs.DgsRuntimeWiring
@@ -38,14 +39,21 @@ import com.netflix.graphql.dgs.context.GraphQLContextContributor
 import com.netflix.graphql.dgs.context.GraphQLContextContributorInstrumentation
 import com.netflix.graphql.dgs.diagnostics.DgsJsonMapperMissingException
 import com.netflix.graphql.dgs.exceptions.DefaultDataFetcherExceptionHandler
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
 import com.netflix.graphql.dgs.internal.DataFetcherResultProcessor
+import com.netflix.graphql.dgs.internal.DataLoaderDispatchSafetyNetInstrumentation
 import com.netflix.graphql.dgs.internal.DefaultDataLoaderOptionsProvider
 import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderProvider
 import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderReloadController
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderSharedCaches
+import com.netflix.graphql.dgs.internal.DefaultDgsExecutorSelector
 import com.netflix.graphql.dgs.internal.DefaultDgsGraphQLContextBuilder
+import com.netflix.graphql.dgs.internal.DgsBulkhead
 import com.netflix.graphql.dgs.internal.DgsDataLoaderInstrumentationDataLoaderCustomizer
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.DgsDeadlineDataLoaderCustomizer
 import com.netflix.graphql.dgs.internal.DgsQueryExecutorRequestCustomizer
+import com.netflix.graphql.dgs.internal.DgsRequestDeadlineResolver
 import com.netflix.graphql.dgs.internal.DgsSchemaProvider
 import com.netflix.graphql.dgs.internal.DgsWrapWithContextDataLoaderCustomizer
 import com.netflix.graphql.dgs.internal.EntityFetcherRegistry
@@ -56,8 +64,11 @@ import com.netflix.graphql.dgs.internal.Jackson3DgsJsonMapper
 import com.netflix.graphql.dgs.internal.MonoDataFetcherResultProcessor
 import com.netflix.graphql.dgs.internal.QueryValueCustomizer
 import com.netflix.graphql.dgs.internal.ReloadableDgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.RequestCoroutineScopeInstrumentation
+import com.netflix.graphql.dgs.internal.TimerWheelScheduledExecutorService
 import com.netflix.graphql.dgs.internal.method.ArgumentResolver
 import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import com.netflix.graphql.dgs.internal.method.TrivialDataFetcherDetector
 import com.netflix.graphql.dgs.json.DgsJsonMapper
 import com.netflix.graphql.dgs.mvc.internal.method.HandlerMethodArgumentResolverAdapter
 import com.netflix.graphql.dgs.reactive.DgsReactiveCustomContextBuilderWithRequest
@@ -77,6 +88,7 @@ import graphql.execution.DataFetcherExceptionHandler
 import graphql.execution.DataFetcherExceptionHandlerParameters
 import graphql.execution.ExecutionStrategy
 import graphql.execution.instrumentation.Instrumentation
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys
 import graphql.execution.preparsed.PreparsedDocumentProvider
 import graphql.introspection.Introspection
 import graphql.schema.DataFetcherFactory
@@ -154,6 +166,7 @@ import java.util.concurrent.Executors
 import java.util.concurrent.ScheduledExecutorService
 import java.util.function.Consumer
 import java.util.stream.Collectors
+import kotlin.jvm.optionals.getOrNull
 
 /**
  * Framework autoconfiguration based on open source Spring only, without Netflix integrations.
@@ -223,12 +236,59 @@ open class DgsSpringGraphQLAutoConfiguration(
 
     @Bean
     @ConditionalOnMissingBean
-    open fun dgsDataLoaderOptionsProvider(): DgsDataLoaderOptionsProvider = DefaultDataLoaderOptionsProvider()
+    open fun dgsDataLoaderOptionsProvider(
+        sharedCaches: ObjectProvider<DefaultDgsDataLoaderSharedCaches>,
+    ): DgsDataLoaderOptionsProvider = DefaultDataLoaderOptionsProvider(sharedCaches.ifAvailable)
+
+    /**
+     * The caches shared across requests by data loaders with `@DgsDataLoader(sharedCache = ...)`, backed by Caffeine.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = ["com.github.benmanes.caffeine.cache.Caffeine"])
+    open class DataLoaderSharedCacheConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        open fun dgsDataLoaderSharedCaches(): DefaultDgsDataLoaderSharedCaches = DefaultDgsDataLoaderSharedCaches()
+    }
 
     @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean(name = ["dgsScheduledExecutorService"])
     @Qualifier("dgsScheduledExecutorService")
-    open fun dgsScheduledExecutorService(): ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+    open fun dgsScheduledExecutorService(): ScheduledExecutorService {
+        val timerWheel = dataloaderConfigProps.timerWheel
+        if (!timerWheel.enabled) {
+            return Executors.newSingleThreadScheduledExecutor()
+        }
+        return TimerWheelScheduledExecutorService(
+            shardCount = if (timerWheel.shards > 0) timerWheel.shards else Runtime.getRuntime().availableProcessors(),
+            tickDuration = timerWheel.tickDuration,
+            wheelSize = timerWheel.wheelSize,
+        )
+    }
+
+    /**
+     * Enables data loader chaining in graphql-java for level-aware dispatch, so data loaders are dispatched as soon as
+     * each execution level, and each data loader chained from it, is done.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "${AUTO_CONF_PREFIX}.dataloader.level-aware-dispatch", name = ["enabled"], havingValue = "true")
+    open fun dgsLevelAwareDispatchContextContributor(): GraphQLContextContributor =
+        GraphQLContextContributor { builder, _, _ ->
+            builder.put(DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING, true)
+        }
+
+    /**
+     * Stops the level-aware dispatch safety net from checking the data loaders of a request once its execution is complete.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "${AUTO_CONF_PREFIX}.dataloader.level-aware-dispatch", name = ["enabled"], havingValue = "true")
+    open fun dgsDataLoaderDispatchSafetyNetInstrumentation(): Instrumentation = DataLoaderDispatchSafetyNetInstrumentation()
+
+    /**
+     * Keeps the coroutine scope of a subscription open until its stream of events ends.
+     */
+    @Bean
+    open fun dgsRequestCoroutineScopeInstrumentation(): Instrumentation = RequestCoroutineScopeInstrumentation()
 
     @Bean
     @ConditionalOnProperty(
@@ -253,6 +313,7 @@ open class DgsSpringGraphQLAutoConfiguration(
         @Qualifier("dgsScheduledExecutorService") dgsScheduledExecutorService: ScheduledExecutorService,
         extensionProviders: List<DataLoaderInstrumentationExtensionProvider>,
         customizers: List<DgsDataLoaderCustomizer>,
+        @Qualifier("dgsCoroutineDispatcher") coroutineDispatcher: CoroutineDispatcher,
     ): DefaultDgsDataLoaderProvider =
         DefaultDgsDataLoaderProvider(
             applicationContext = applicationContext,
@@ -262,6 +323,10 @@ open class DgsSpringGraphQLAutoConfiguration(
             scheduledExecutorService = dgsScheduledExecutorService,
             scheduleDuration = dataloaderConfigProps.scheduleDuration,
             enableTickerMode = dataloaderConfigProps.tickerModeEnabled,
+            enableLazyRegistry = dataloaderConfigProps.lazyRegistryEnabled,
+            enableLevelAwareDispatch = dataloaderConfigProps.levelAwareDispatch.enabled,
+            levelAwareSafetyNetDuration = dataloaderConfigProps.levelAwareDispatch.safetyNetDuration,
+            coroutineDispatcher = coroutineDispatcher,
         )
 
     /**
@@ -297,6 +362,7 @@ open class DgsSpringGraphQLAutoConfiguration(
             @Qualifier("dgsScheduledExecutorService") dgsScheduledExecutorService: ScheduledExecutorService,
             extensionProviders: List<DataLoaderInstrumentationExtensionProvider>,
             customizers: List<DgsDataLoaderCustomizer>,
+            @Qualifier("dgsCoroutineDispatcher") coroutineDispatcher: CoroutineDispatcher,
         ): ReloadableDgsDataLoaderProvider {
             LOG.info("Creating reloadable data loader provider with reload support enabled")
             return ReloadableDgsDataLoaderProvider(
@@ -307,6 +373,10 @@ open class DgsSpringGraphQLAutoConfiguration(
                 scheduledExecutorService = dgsScheduledExecutorService,
                 scheduleDuration = dataloaderConfigProps.scheduleDuration,
                 enableTickerMode = dataloaderConfigProps.tickerModeEnabled,
+                enableLazyRegistry = dataloaderConfigProps.lazyRegistryEnabled,
+                enableLevelAwareDispatch = dataloaderConfigProps.levelAwareDispatch.enabled,
+                levelAwareSafetyNetDuration = dataloaderConfigProps.levelAwareDispatch.safetyNetDuration,
+                coroutineDispatcher = coroutineDispatcher,
             )
         }
 
@@ -355,7 +425,25 @@ open class DgsSpringGraphQLAutoConfiguration(
     open fun graphQLContextBuilder(
         dgsCustomContextBuilder: Optional<DgsCustomContextBuilder<*>>,
         dgsCustomContextBuilderWithRequest: Optional<DgsCustomContextBuilderWithRequest<*>>,
-    ): DefaultDgsGraphQLContextBuilder = DefaultDgsGraphQLContextBuilder(dgsCustomContextBuilder, dgsCustomContextBuilderWithRequest)
+        deadlineResolver: ObjectProvider<DgsRequestDeadlineResolver>,
+    ): DefaultDgsGraphQLContextBuilder =
+        DefaultDgsGraphQLContextBuilder(dgsCustomContextBuilder, dgsCustomContextBuilderWithRequest, deadlineResolver.ifAvailable)
+
+    /**
+     * Request deadlines, seeded from the `dgs.graphql.deadline.header` header or the configured default timeout.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "$AUTO_CONF_PREFIX.deadline", name = ["enabled"], havingValue = "true", matchIfMissing = false)
+    open class DeadlineConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        open fun dgsRequestDeadlineResolver(configProps: DgsConfigurationProperties): DgsRequestDeadlineResolver =
+            DgsRequestDeadlineResolver(configProps.deadline.header, configProps.deadline.defaultTimeout, configProps.deadline.maxTimeout)
+
+        @Bean
+        @Order(200)
+        open fun dgsDeadlineDataLoaderCustomizer(): DgsDeadlineDataLoaderCustomizer = DgsDeadlineDataLoaderCustomizer()
+    }
 
     /**
      * Used by the [ReloadableGraphQLSource], it controls if, and when, such executor should reload the schema.
@@ -405,6 +493,15 @@ open class DgsSpringGraphQLAutoConfiguration(
             fallbackTypeResolver = fallbackTypeResolver,
             enableStrictMode = configProps.strictMode.enabled,
             federationEnabled = configProps.federation.enabled,
+            schemaSnapshotDirectory =
+                configProps.schemaSnapshot.takeIf { it.enabled }?.let {
+                    // A shared directory such as the temporary directory would let other users plant snapshots.
+                    it.directory
+                        ?: throw InvalidDgsConfigurationException(
+                            "dgs.graphql.schema-snapshot.directory must be set to a directory owned by the application " +
+                                "when dgs.graphql.schema-snapshot.enabled is true",
+                        )
+                },
         )
 
     @Bean
@@ -521,11 +618,37 @@ open class DgsSpringGraphQLAutoConfiguration(
     @ConditionalOnMissingBean(name = ["dgsCoroutineDispatcher"])
     open fun dgsCoroutineDispatcher(): CoroutineDispatcher = Dispatchers.Unconfined
 
+    /**
+     * Creates a bulkhead for each executor configured under `dgs.graphql.executors`, so that data fetchers can be
+     * routed to them with `@DgsData(executor = "...")`. Bulkheads run on the dgsAsyncTaskExecutor if virtual threads
+     * are enabled, and on a dedicated thread per task otherwise.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    open fun dgsExecutorSelector(
+        @Qualifier("dgsAsyncTaskExecutor") taskExecutorOptional: Optional<AsyncTaskExecutor>,
+    ): DgsExecutorSelector {
+        val bulkheads =
+            configProps.executors.map { (name, properties) ->
+                val delegate = taskExecutorOptional.getOrNull() ?: SimpleAsyncTaskExecutor("dgs-$name-")
+                LOG.info(
+                    "Creating DGS executor '{}' with max concurrency {} and queue capacity {}",
+                    name,
+                    properties.maxConcurrency,
+                    properties.queueCapacity,
+                )
+                DgsBulkhead(name, delegate, properties.maxConcurrency, properties.queueCapacity)
+            }
+        return DefaultDgsExecutorSelector(bulkheads)
+    }
+
     @Bean
     open fun methodDataFetcherFactory(
         argumentResolvers: ObjectProvider<ArgumentResolver>,
         @Qualifier("dgsAsyncTaskExecutor") taskExecutorOptional: Optional<AsyncTaskExecutor>,
         @Qualifier("dgsCoroutineDispatcher") coroutineDispatcher: CoroutineDispatcher,
+        executorSelector: ObjectProvider<DgsExecutorSelector>,
+        coroutineDispatchers: Map<String, CoroutineDispatcher>,
     ): MethodDataFetcherFactory {
         val taskExecutor =
             if (taskExecutorOptional.isPresent) {
@@ -534,11 +657,22 @@ open class DgsSpringGraphQLAutoConfiguration(
                 null
             }
 
+        val trivialDataFetchers = configProps.trivialDataFetchers
+        val trivialDataFetcherDetector =
+            if (trivialDataFetchers.autoDetect || trivialDataFetchers.packages.isNotEmpty()) {
+                TrivialDataFetcherDetector(trivialDataFetchers.autoDetect, trivialDataFetchers.packages)
+            } else {
+                null
+            }
+
         return MethodDataFetcherFactory(
             argumentResolvers.orderedStream().toList(),
             DefaultParameterNameDiscoverer(),
             taskExecutor,
             coroutineDispatcher,
+            executorSelector.ifAvailable,
+            trivialDataFetcherDetector,
+            coroutineDispatchers,
         )
     }
 
@@ -773,7 +907,9 @@ open class DgsSpringGraphQLAutoConfiguration(
         @ConditionalOnMissingBean
         open fun reactiveGraphQlContextBuilder(
             dgsReactiveCustomContextBuilderWithRequest: Optional<DgsReactiveCustomContextBuilderWithRequest<*>>,
-        ): DefaultDgsReactiveGraphQLContextBuilder = DefaultDgsReactiveGraphQLContextBuilder(dgsReactiveCustomContextBuilderWithRequest)
+            deadlineResolver: ObjectProvider<DgsRequestDeadlineResolver>,
+        ): DefaultDgsReactiveGraphQLContextBuilder =
+            DefaultDgsReactiveGraphQLContextBuilder(dgsReactiveCustomContextBuilderWithRequest, deadlineResolver.ifAvailable)
 
         @Bean
         @ConditionalOnMissingBean
@@ -17,8 +17,10 @@
 package com.netflix.graphql.dgs.springgraphql.webflux
 
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
 import com.netflix.graphql.dgs.reactive.internal.DefaultDgsReactiveGraphQLContextBuilder
 import com.netflix.graphql.dgs.reactive.internal.DgsReactiveRequestData
+import graphql.ExecutionInput
 import org.dataloader.DataLoaderRegistry
 import org.springframework.graphql.server.WebGraphQlInterceptor
 import org.springframework.graphql.server.WebGraphQlRequest
@@ -48,18 +50,25 @@ class DgsWebFluxGraphQLInterceptor(
                 )
             }.flatMap { dgsContext ->
                 var dataLoaderRegistry: DataLoaderRegistry? = null
+                var executionInput: ExecutionInput? = null
                 request.configureExecutionInput { e, builder ->
                     dataLoaderRegistry = dgsDataLoaderProvider.buildRegistryWithContextSupplier { e.graphQLContext }
                     builder
                         .graphQLContext(dgsContext)
                         .dataLoaderRegistry(dataLoaderRegistry)
                         .build()
+                        .also { executionInput = it }
                 }
 
-                chain.next(request).doFinally {
-                    if (dataLoaderRegistry is AutoCloseable) {
-                        (dataLoaderRegistry as AutoCloseable).close()
+                chain
+                    .next(request)
+                    // Stop fetching the remaining fields when the client goes away
+                    .doOnCancel { executionInput?.cancel() }
+                    .doFinally {
+                        if (dataLoaderRegistry is AutoCloseable) {
+                            (dataLoaderRegistry as AutoCloseable).close()
+                        }
+                        RequestCoroutineScope.cancel(executionInput?.graphQLContext)
                     }
-                }
             }
 }
@@ -20,7 +20,9 @@ import com.netflix.graphql.dgs.context.GraphQLContextContributor
 import com.netflix.graphql.dgs.internal.DefaultDgsGraphQLContextBuilder
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
 import com.netflix.graphql.dgs.internal.DgsWebMvcRequestData
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
 import com.netflix.graphql.dgs.springgraphql.autoconfig.DgsSpringGraphQLConfigurationProperties
+import graphql.ExecutionInput
 import org.dataloader.DataLoaderRegistry
 import org.springframework.graphql.server.WebGraphQlInterceptor
 import org.springframework.graphql.server.WebGraphQlRequest
@@ -53,6 +55,7 @@ class DgsWebMvcGraphQLInterceptor(
             }
 
         var dataLoaderRegistry: DataLoaderRegistry? = null
+        var executionInput: ExecutionInput? = null
         request.configureExecutionInput { e, builder ->
 
             dataLoaderRegistry =
@@ -62,13 +65,16 @@ class DgsWebMvcGraphQLInterceptor(
                 .graphQLContext(dgsContext)
                 .dataLoaderRegistry(dataLoaderRegistry)
                 .build()
+                .also { executionInput = it }
         }
 
         return if (dgsSpringConfigurationProperties.webmvc.asyncdispatch.enabled) {
-            chain.next(request).doFinally {
+            // Stop fetching the remaining fields when the client goes away
+            chain.next(request).doOnCancel { executionInput?.cancel() }.doFinally {
                 if (dataLoaderRegistry is AutoCloseable) {
                     (dataLoaderRegistry as AutoCloseable).close()
                 }
+                RequestCoroutineScope.cancel(executionInput?.graphQLContext)
             }
         } else {
             @Suppress("BlockingMethodInNonBlockingContext")
@@ -76,6 +82,7 @@ class DgsWebMvcGraphQLInterceptor(
             if (dataLoaderRegistry is AutoCloseable) {
                 (dataLoaderRegistry as AutoCloseable).close()
             }
+            RequestCoroutineScope.cancel(executionInput?.graphQLContext)
             Mono.just(response)
         }
     }
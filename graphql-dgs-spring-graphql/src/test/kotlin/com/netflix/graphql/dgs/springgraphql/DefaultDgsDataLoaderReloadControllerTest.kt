@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertNotNull
 import org.junit.jupiter.api.assertNull
+import java.util.concurrent.CompletableFuture
 
 class DefaultDgsDataLoaderReloadControllerTest {
     @Test
@@ -84,6 +85,7 @@ class DefaultDgsDataLoaderReloadControllerTest {
     fun `should track reload statistics`() {
         val mockProvider = mockk<ReloadableDgsDataLoaderProvider>()
         every { mockProvider.forceReload() } returns true
+        every { mockProvider.getGeneration() } returnsMany listOf(1L, 3L)
 
         val controller = DefaultDgsDataLoaderReloadController(mockProvider)
 
@@ -93,6 +95,7 @@ class DefaultDgsDataLoaderReloadControllerTest {
         assertNull(initialStats.lastReloadTime)
         assertNull(initialStats.lastReloadDuration)
         assertTrue(initialStats.isEnabled)
+        assertEquals(1L, initialStats.generation)
 
         // Perform some reloads
         controller.reloadDataLoaders()
@@ -104,6 +107,7 @@ class DefaultDgsDataLoaderReloadControllerTest {
         assertNotNull(finalStats.lastReloadTime)
         assertNotNull(finalStats.lastReloadDuration)
         assertTrue(finalStats.isEnabled)
+        assertEquals(3L, finalStats.generation)
 
         verify(exactly = 2) { mockProvider.forceReload() }
     }
@@ -111,6 +115,7 @@ class DefaultDgsDataLoaderReloadControllerTest {
     @Test
     fun `should update last reload time only on success`() {
         val mockProvider = mockk<ReloadableDgsDataLoaderProvider>()
+        every { mockProvider.getGeneration() } returns 2L
         val controller = DefaultDgsDataLoaderReloadController(mockProvider)
 
         // First reload succeeds
@@ -132,4 +137,23 @@ class DefaultDgsDataLoaderReloadControllerTest {
         val stats = controller.getReloadStats()
         assertEquals(1L, stats.totalReloads) // Only one successful reload
     }
+
+    @Test
+    fun `should track background reloads once they complete`() {
+        val mockProvider = mockk<ReloadableDgsDataLoaderProvider>()
+        val reload = CompletableFuture<Boolean>()
+        every { mockProvider.reloadAsync() } returns reload
+
+        val controller = DefaultDgsDataLoaderReloadController(mockProvider)
+
+        val result = controller.reloadDataLoadersAsync()
+        assertFalse(result.isDone)
+        assertNull(controller.getLastReloadTime())
+
+        reload.complete(true)
+
+        assertTrue(result.join())
+        assertNotNull(controller.getLastReloadTime())
+        verify(exactly = 0) { mockProvider.forceReload() }
+    }
 }
@@ -48,6 +48,7 @@ dependencies {
     testImplementation("tools.jackson.module:jackson-module-kotlin")
     testImplementation("org.springframework.security:spring-security-core")
     testImplementation("io.projectreactor:reactor-core")
+    testImplementation("com.github.ben-manes.caffeine:caffeine")
     testImplementation("io.projectreactor:reactor-test")
     testImplementation("com.graphql-java:graphql-java-extended-scalars")
     testImplementation("org.jetbrains.kotlinx:kotlinx-coroutines-test")
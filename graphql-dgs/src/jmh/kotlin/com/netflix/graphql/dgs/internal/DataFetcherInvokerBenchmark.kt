@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsComponent
+import com.netflix.graphql.dgs.DgsQuery
+import com.netflix.graphql.dgs.InputArgument
+import com.netflix.graphql.dgs.internal.method.DataFetchingEnvironmentArgumentResolver
+import com.netflix.graphql.dgs.internal.method.FallbackEnvironmentArgumentResolver
+import com.netflix.graphql.dgs.internal.method.InputArgumentResolver
+import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import graphql.Scalars
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLArgument
+import graphql.schema.GraphQLFieldDefinition
+import graphql.schema.GraphQLObjectType
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.springframework.context.support.StaticApplicationContext
+import java.lang.reflect.Method
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the per-field overhead of invoking `@DgsData` methods through the data fetchers created by the
+ * [MethodDataFetcherFactory], compared to calling the same methods directly through [Method.invoke].
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(value = [ Mode.Throughput, Mode.AverageTime ])
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+open class DataFetcherInvokerBenchmark {
+    private val fetcher = BenchmarkedDataFetcher()
+
+    private lateinit var noArgDataFetcher: DataFetcher<*>
+    private lateinit var argumentsDataFetcher: DataFetcher<*>
+    private lateinit var defaultArgumentsDataFetcher: DataFetcher<*>
+    private lateinit var noArgMethod: Method
+    private lateinit var environment: DataFetchingEnvironment
+
+    @Setup
+    @BeforeEach
+    open fun setup() {
+        val factory =
+            MethodDataFetcherFactory(
+                listOf(
+                    InputArgumentResolver(DefaultInputObjectMapper()),
+                    DataFetchingEnvironmentArgumentResolver(StaticApplicationContext()),
+                    FallbackEnvironmentArgumentResolver(DefaultInputObjectMapper()),
+                ),
+            )
+
+        noArgMethod = BenchmarkedDataFetcher::class.java.getMethod("hello")
+        noArgDataFetcher =
+            factory.createDataFetcher(fetcher, noArgMethod, FieldCoordinates.coordinates("Query", "hello"))
+        argumentsDataFetcher =
+            factory.createDataFetcher(
+                fetcher,
+                BenchmarkedDataFetcher::class.java.getMethod("greet", String::class.java, Int::class.javaObjectType),
+                FieldCoordinates.coordinates("Query", "greet"),
+            )
+        defaultArgumentsDataFetcher =
+            factory.createDataFetcher(
+                fetcher,
+                BenchmarkedDataFetcher::class.java.getMethod("welcome", String::class.java, String::class.java),
+                FieldCoordinates.coordinates("Query", "welcome"),
+            )
+
+        val fieldDefinition =
+            GraphQLFieldDefinition
+                .newFieldDefinition()
+                .name("greet")
+                .argument(GraphQLArgument.newArgument().name("name").type(Scalars.GraphQLString))
+                .argument(GraphQLArgument.newArgument().name("times").type(Scalars.GraphQLInt))
+                .argument(GraphQLArgument.newArgument().name("greeting").type(Scalars.GraphQLString))
+                .type(Scalars.GraphQLString)
+                .build()
+
+        environment =
+            DataFetchingEnvironmentImpl
+                .newDataFetchingEnvironment()
+                .arguments(mapOf("name" to "benchmark", "times" to 2))
+                .fieldDefinition(fieldDefinition)
+                .parentType(
+                    GraphQLObjectType
+                        .newObject()
+                        .name("Query")
+                        .field(fieldDefinition)
+                        .build(),
+                ).build()
+    }
+
+    @Benchmark
+    @Test
+    open fun noArgumentsDataFetcher() {
+        assertThat(noArgDataFetcher.get(environment)).isEqualTo("hello")
+    }
+
+    @Benchmark
+    @Test
+    open fun noArgumentsReflection() {
+        assertThat(noArgMethod.invoke(fetcher)).isEqualTo("hello")
+    }
+
+    @Benchmark
+    @Test
+    open fun inputArgumentsDataFetcher() {
+        assertThat(argumentsDataFetcher.get(environment)).isEqualTo("benchmark benchmark")
+    }
+
+    @Benchmark
+    @Test
+    open fun defaultArgumentsDataFetcher() {
+        assertThat(defaultArgumentsDataFetcher.get(environment)).isEqualTo("Welcome, benchmark")
+    }
+
+    @DgsComponent
+    open class BenchmarkedDataFetcher {
+        @DgsQuery
+        fun hello(): String = "hello"
+
+        @DgsQuery
+        fun greet(
+            @InputArgument name: String,
+            @InputArgument times: Int?,
+        ): String = List(times ?: 1) { name }.joinToString(" ")
+
+        @DgsQuery
+        fun welcome(
+            @InputArgument name: String,
+            @InputArgument greeting: String = "Welcome",
+        ): String = "$greeting, $name"
+    }
+}
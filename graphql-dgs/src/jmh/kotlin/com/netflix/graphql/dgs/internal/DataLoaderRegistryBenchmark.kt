@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsDataLoader
+import org.assertj.core.api.Assertions.assertThat
+import org.dataloader.BatchLoader
+import org.dataloader.registries.ScheduledDataLoaderRegistry
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import org.springframework.cglib.proxy.Enhancer
+import org.springframework.cglib.proxy.NoOp
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures the cost of creating the per-request [org.dataloader.DataLoaderRegistry] with the
+ * [DefaultDgsDataLoaderProvider], for applications with 10, 100 and 500 data loaders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(value = [ Mode.Throughput, Mode.AverageTime ])
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+open class DataLoaderRegistryBenchmark {
+    @Param("10", "100", "500")
+    var dataLoaderCount: Int = 100
+
+    private lateinit var applicationContext: AnnotationConfigApplicationContext
+    private lateinit var dataLoaderProvider: DefaultDgsDataLoaderProvider
+
+    @Setup
+    @BeforeEach
+    open fun setup() {
+        applicationContext = AnnotationConfigApplicationContext()
+        // Data loader names default to the simple class name, so every data loader gets a generated subclass.
+        repeat(dataLoaderCount) { index ->
+            val enhancer = Enhancer()
+            enhancer.setSuperclass(BenchmarkedDataLoader::class.java)
+            enhancer.setCallback(NoOp.INSTANCE)
+            enhancer.setUseCache(false)
+            val dataLoader = enhancer.create() as BenchmarkedDataLoader
+            applicationContext.registerBean("dataLoader$index", BenchmarkedDataLoader::class.java, { dataLoader })
+        }
+        applicationContext.registerBean(DefaultDgsDataLoaderProvider::class.java, {
+            DefaultDgsDataLoaderProvider(applicationContext)
+        })
+        applicationContext.refresh()
+        dataLoaderProvider = applicationContext.getBean(DefaultDgsDataLoaderProvider::class.java)
+    }
+
+    @TearDown
+    @AfterEach
+    open fun tearDown() {
+        applicationContext.close()
+    }
+
+    @Benchmark
+    @Test
+    open fun buildRegistry() {
+        val registry = dataLoaderProvider.buildRegistry()
+        assertThat(registry.keys).hasSize(dataLoaderCount)
+        (registry as ScheduledDataLoaderRegistry).close()
+    }
+
+    @Benchmark
+    @Test
+    open fun buildRegistryWithContextSupplier() {
+        val registry = dataLoaderProvider.buildRegistryWithContextSupplier { "context" }
+        assertThat(registry.keys).hasSize(dataLoaderCount)
+        (registry as ScheduledDataLoaderRegistry).close()
+    }
+
+    @DgsDataLoader
+    open class BenchmarkedDataLoader : BatchLoader<String, String> {
+        override fun load(keys: List<String>): CompletionStage<List<String>> = CompletableFuture.completedFuture(keys)
+    }
+}
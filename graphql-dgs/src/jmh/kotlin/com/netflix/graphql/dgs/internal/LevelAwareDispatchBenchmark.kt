@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsDataLoader
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys
+import graphql.schema.idl.RuntimeWiring
+import graphql.schema.idl.SchemaGenerator
+import graphql.schema.idl.SchemaParser
+import org.assertj.core.api.Assertions.assertThat
+import org.dataloader.BatchLoader
+import org.dataloader.registries.ScheduledDataLoaderRegistry
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+import org.springframework.context.annotation.AnnotationConfigApplicationContext
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Compares the latency of nested queries whose data fetchers chain two data loaders, with ticker mode polling every
+ * 10ms and with level-aware dispatch. Sample time mode reports the p50 and p99 latencies per query depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+open class LevelAwareDispatchBenchmark {
+    @Param("TICKER", "LEVEL_AWARE")
+    var dispatchMode: String = "LEVEL_AWARE"
+
+    @Param("3", "6")
+    var depth: Int = 3
+
+    private lateinit var applicationContext: AnnotationConfigApplicationContext
+    private lateinit var scheduledExecutorService: ScheduledExecutorService
+    private lateinit var dataLoaderProvider: DefaultDgsDataLoaderProvider
+    private lateinit var graphQL: GraphQL
+    private lateinit var query: String
+
+    @Setup
+    @BeforeEach
+    open fun setup() {
+        val levelAware = dispatchMode == "LEVEL_AWARE"
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor()
+        applicationContext = AnnotationConfigApplicationContext()
+        applicationContext.registerBean(NodeDataLoader::class.java)
+        applicationContext.registerBean(ChildIdsDataLoader::class.java)
+        applicationContext.registerBean(DefaultDgsDataLoaderProvider::class.java, {
+            DefaultDgsDataLoaderProvider(
+                applicationContext,
+                scheduledExecutorService = scheduledExecutorService,
+                enableTickerMode = !levelAware,
+                enableLevelAwareDispatch = levelAware,
+            )
+        })
+        applicationContext.refresh()
+        dataLoaderProvider = applicationContext.getBean(DefaultDgsDataLoaderProvider::class.java)
+
+        val schema =
+            SchemaGenerator().makeExecutableSchema(
+                SchemaParser().parse(
+                    """
+                    type Query { node(id: ID!): Node }
+                    type Node { id: ID! children: [Node] }
+                    """.trimIndent(),
+                ),
+                RuntimeWiring
+                    .newRuntimeWiring()
+                    .type("Query") { builder ->
+                        builder.dataFetcher("node") { env ->
+                            env.getDataLoader<String, Node>("nodes")!!.load(env.getArgument<String>("id")!!)
+                        }
+                    }.type("Node") { builder ->
+                        // The children are loaded with a second data loader, chained from the first one.
+                        builder.dataFetcher("children") { env ->
+                            val nodes = env.getDataLoader<String, Node>("nodes")!!
+                            env
+                                .getDataLoader<String, List<String>>("childIds")!!
+                                .load(env.getSource<Node>()!!.id)
+                                .thenCompose { nodes.loadMany(it) }
+                        }
+                    }.build(),
+            )
+        graphQL = GraphQL.newGraphQL(schema).build()
+        query = "{ node(id: \"root\") { id " + "children { id ".repeat(depth) + "}".repeat(depth) + " } }"
+    }
+
+    @TearDown
+    @AfterEach
+    open fun tearDown() {
+        applicationContext.close()
+        scheduledExecutorService.shutdownNow()
+    }
+
+    @Benchmark
+    @Test
+    open fun executeNestedQuery() {
+        val registry = dataLoaderProvider.buildRegistry()
+        val input =
+            ExecutionInput
+                .newExecutionInput(query)
+                .dataLoaderRegistry(registry)
+                .graphQLContext(
+                    mapOf(DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING to (dispatchMode == "LEVEL_AWARE")),
+                ).build()
+        val result = graphQL.executeAsync(input).get(5, TimeUnit.SECONDS)
+        assertThat(result.errors).isEmpty()
+        (registry as ScheduledDataLoaderRegistry).close()
+    }
+
+    data class Node(
+        val id: String,
+    )
+
+    @DgsDataLoader(name = "nodes")
+    open class NodeDataLoader : BatchLoader<String, Node> {
+        override fun load(keys: List<String>): CompletionStage<List<Node>> = CompletableFuture.completedFuture(keys.map { Node(it) })
+    }
+
+    @DgsDataLoader(name = "childIds")
+    open class ChildIdsDataLoader : BatchLoader<String, List<String>> {
+        override fun load(keys: List<String>): CompletionStage<List<List<String>>> =
+            CompletableFuture.completedFuture(keys.map { listOf("$it.0", "$it.1") })
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.springframework.core.io.ByteArrayResource
+import org.springframework.core.io.Resource
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures how long [SchemaFileParser] takes to read and parse 10, 100 and 500 schema files,
+ * one after the other and concurrently.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(value = [ Mode.AverageTime ])
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+open class SchemaFileParserBenchmark {
+    @Param("10", "100", "500")
+    var schemaFileCount: Int = 100
+
+    private lateinit var schemaFiles: List<Resource>
+
+    @Setup
+    @BeforeEach
+    open fun setup() {
+        schemaFiles =
+            (0 until schemaFileCount).map { index ->
+                val sdl =
+                    buildString {
+                        append("extend type Query {\n  show$index(id: ID!): Show$index\n}\n\n")
+                        append("\"\"\"\nA show, with enough fields to be representative of a real schema file.\n\"\"\"\n")
+                        append("type Show$index {\n")
+                        repeat(50) { field -> append("  field$field(first: Int = 10, after: String): [String!]! @deprecated\n") }
+                        append("}\n\n")
+                        append("input ShowFilter$index {\n")
+                        repeat(20) { field -> append("  field$field: String\n") }
+                        append("}\n")
+                    }
+                object : ByteArrayResource(sdl.toByteArray()) {
+                    override fun getFilename(): String = "schema$index.graphqls"
+                }
+            }
+    }
+
+    @Benchmark
+    @Test
+    open fun parseSequentially() {
+        val registry = SchemaFileParser.parse(schemaFiles, parallelism = 1)
+        assertThat(registry.types()).hasSize(schemaFileCount * 2)
+    }
+
+    @Benchmark
+    @Test
+    open fun parseConcurrently() {
+        val registry = SchemaFileParser.parse(schemaFiles)
+        assertThat(registry.types()).hasSize(schemaFileCount * 2)
+    }
+}
@@ -35,4 +35,10 @@ import org.springframework.stereotype.Component;
 @Qualifier("dgs")
 @Inherited
 public @interface DgsComponent {
+
+    /**
+     * The name of the {@code CoroutineDispatcher} bean that suspend data fetchers of this component run on.
+     * Leave empty to use the {@code dgsCoroutineDispatcher}.
+     */
+    String coroutineDispatcher() default "";
 }
@@ -50,6 +50,16 @@ public @interface DgsData {
      */
     boolean trivial() default false;
 
+    /**
+     * The name of the executor this data fetcher should run on.
+     * Data fetchers that call slow or blocking downstream services can be routed to a dedicated, bounded executor
+     * (a bulkhead), so that they can't exhaust the threads or connections used by the rest of the service.
+     * The name is resolved by the {@link DgsExecutorSelector}; by default, the executors configured under
+     * {@code dgs.graphql.executors.<name>} are used.
+     * Leave empty to use the default executor.
+     */
+    String executor() default "";
+
     /**
      * Container annotation that aggregates several {@link DgsData @DgsData} annotations.
      */
@@ -50,5 +50,47 @@ public @interface DgsDataLoader {
     boolean batching() default true;
 
     int maxBatchSize() default 0;
+
+    /**
+     * Sends the keys loaded by all in-flight requests to the batch loader together, instead of one batch per request.
+     * Each request keeps its own data loader and cache; only the calls to the batch loader are shared.
+     * A coalesced batch is loaded for several requests, so it is loaded without context. Batch loaders that take the
+     * context of their request, such as a {@code BatchLoaderWithContext}, fail at startup. Suspend batch loaders are
+     * coalesced, and run outside the coroutine scope of any single request.
+     * Not supported for data loaders implementing {@link DgsDataLoaderRegistryConsumer}.
+     */
+    boolean coalesceAcrossRequests() default false;
+
+    /**
+     * How long, in milliseconds, keys are collected from all requests before they are sent to the batch loader.
+     * Only used with {@link #coalesceAcrossRequests()}.
+     */
+    long coalesceWindowMillis() default 2;
+
+    /**
+     * The maximum number of keys sent to the batch loader in a single coalesced batch; defaults to {@link #maxBatchSize()}.
+     * Only used with {@link #coalesceAcrossRequests()}.
+     */
+    int coalesceMaxBatchSize() default 0;
+
+    /**
+     * Splits each batch into chunks of at most this many keys, sent to the batch loader in parallel; the results are
+     * put back together in key order. Each chunk is instrumented as a call of its own, so data loader metrics are
+     * recorded per chunk. Chunks only run in parallel if the batch loader is asynchronous. Disabled by default.
+     */
+    int fanOutBatchSize() default 0;
+
+    /**
+     * The maximum number of chunks sent to the batch loader at the same time; {@code 0} sends all chunks at once.
+     * Only used with {@link #fanOutBatchSize()}.
+     */
+    int fanOutConcurrency() default 0;
+
+    /**
+     * A cache shared by all requests, in addition to the per-request cache of the data loader.
+     * Clearing the data loader of a request with {@code clear(key)} or {@code clearAll()} does not clear the shared cache;
+     * use {@link DgsDataLoaderSharedCaches} to invalidate it. Disabled by default.
+     */
+    DgsDataLoaderSharedCache sharedCache() default @DgsDataLoaderSharedCache(enabled = false);
 }
 
@@ -20,7 +20,15 @@ import org.dataloader.DataLoaderRegistry;
 
 /**
  * Interface indicating that this DataLoader wants to be call-backed with a reference to the DataLoaderReference.
+ * <p>
+ * The registry is set once, and resolves to the registry of the request whose batch is being loaded, also from
+ * another thread while the batch is loading. If batches of several requests are loading at the same time, it resolves
+ * to the request that started last when used from another thread than the one calling the batch loader.
+ *
+ * @deprecated Use {@link DgsDataLoaderRegistries#from(org.dataloader.BatchLoaderEnvironment)} from a batch loader
+ * with context instead, which always resolves to the request the batch is loaded for.
  */
+@Deprecated
 public interface DgsDataLoaderRegistryConsumer {
 
     /**
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures a cache shared by all requests for a data loader, see {@link DgsDataLoader#sharedCache()}.
+ * Values are looked up in the shared cache before they are loaded, and the values loaded by any request are added to it.
+ * Only use it for data that is the same for every request, such as reference data.
+ * Requires Caffeine on the classpath; the cache of each data loader can be invalidated through {@link DgsDataLoaderSharedCaches}.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DgsDataLoaderSharedCache {
+
+    boolean enabled() default true;
+
+    /**
+     * The maximum number of values kept in the cache.
+     */
+    long maximumSize() default 10_000;
+
+    /**
+     * How long, in milliseconds, values are cached after they are loaded.
+     */
+    long ttlMillis() default 60_000;
+
+    /**
+     * How long, in milliseconds, after they are loaded values are reloaded in the background, when they are read.
+     * Until the reload completes, the cached value is returned. Must be shorter than {@link #ttlMillis()};
+     * {@code 0} disables refreshing. Reloads call the batch loader without a {@code BatchLoaderEnvironment} context.
+     */
+    long refreshAfterMillis() default 0;
+
+    /**
+     * How long, in milliseconds, keys the batch loader returned no value for are cached;
+     * {@code 0} disables caching missing values.
+     */
+    long negativeTtlMillis() default 0;
+}
@@ -30,4 +30,12 @@ import org.springframework.core.annotation.AliasFor;
 public @interface DgsMutation {
     @AliasFor(annotation = DgsData.class)
     String field() default "";
+
+    /**
+     * The name of the executor this data fetcher should run on.
+     *
+     * @see DgsData#executor()
+     */
+    @AliasFor(annotation = DgsData.class)
+    String executor() default "";
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Prefetches the keys of a data loader as soon as the annotated {@link DgsData @DgsData} method returns.
+ * When the {@link #field()} is part of the selection set, the {@link #key()} property of each returned object is
+ * loaded with the {@link #dataLoader()}, before graphql-java resolves the fields below the annotated one.
+ * Data fetchers further down the query then find their keys already queued, so loads that would otherwise wait for
+ * another dispatch round are dispatched together with the current level.
+ * <p>
+ * The keys are read the same way graphql-java reads properties: from a getter, a record accessor, a field, or a map entry.
+ * Keys that are collections are loaded element by element, and null keys are skipped.
+ * Results that are a {@link java.util.concurrent.CompletionStage} or a {@link graphql.execution.DataFetcherResult} are
+ * prefetched once they complete; reactive results are not prefetched.
+ * The data loader must have caching enabled, otherwise the data fetcher loading the key later will load it again.
+ * Data fetchers that compute their keys can call {@code DgsDataFetchingEnvironment.prefetch} instead.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(DgsPrefetch.List.class)
+@Inherited
+@Documented
+public @interface DgsPrefetch {
+    /**
+     * The field that uses the data loader, as a {@link graphql.schema.DataFetchingFieldSelectionSet#contains(String)}
+     * glob relative to the annotated field, for example {@code "reviews"} or {@code "reviews/author"}.
+     */
+    String field();
+
+    /**
+     * The name of the data loader to load the keys with.
+     */
+    String dataLoader();
+
+    /**
+     * The property of the returned objects that holds the key, or the keys, to load.
+     */
+    String key();
+
+    /**
+     * Container annotation that aggregates several {@link DgsPrefetch @DgsPrefetch} annotations.
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    @Documented
+    @interface List {
+
+        /**
+         * Return the contained {@link DgsPrefetch} associated with this method.
+         */
+        DgsPrefetch[] value();
+    }
+}
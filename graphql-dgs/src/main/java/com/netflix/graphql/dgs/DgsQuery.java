@@ -40,4 +40,12 @@ public @interface DgsQuery {
      */
     @AliasFor(annotation = DgsData.class)
     boolean trivial() default false;
+
+    /**
+     * The name of the executor this data fetcher should run on.
+     *
+     * @see DgsData#executor()
+     */
+    @AliasFor(annotation = DgsData.class)
+    String executor() default "";
 }
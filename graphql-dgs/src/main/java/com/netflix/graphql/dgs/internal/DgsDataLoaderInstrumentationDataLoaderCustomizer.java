@@ -19,22 +19,28 @@ package com.netflix.graphql.dgs.internal;
 import com.netflix.graphql.dgs.DgsDataLoaderCustomizer;
 import com.netflix.graphql.dgs.DgsDataLoaderInstrumentation;
 import com.netflix.graphql.dgs.DgsDataLoaderInstrumentationContext;
-import com.netflix.graphql.dgs.DgsDataLoaderRegistryConsumer;
 import com.netflix.graphql.dgs.exceptions.DgsDataLoaderInstrumentationException;
 import org.dataloader.BatchLoader;
 import org.dataloader.BatchLoaderEnvironment;
 import org.dataloader.BatchLoaderWithContext;
-import org.dataloader.DataLoaderRegistry;
+import org.dataloader.BatchPublisher;
+import org.dataloader.BatchPublisherWithContext;
 import org.dataloader.MappedBatchLoader;
 import org.dataloader.MappedBatchLoaderWithContext;
+import org.dataloader.MappedBatchPublisher;
+import org.dataloader.MappedBatchPublisherWithContext;
 import org.dataloader.instrumentation.DataLoaderInstrumentationContext;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class DgsDataLoaderInstrumentationDataLoaderCustomizer implements DgsDataLoaderCustomizer {
@@ -64,8 +70,28 @@ public class DgsDataLoaderInstrumentationDataLoaderCustomizer implements DgsData
         return new MappedBatchLoaderWithContextInstrumentationDriver<>(original, name, instrumentations);
     }
 
+    @Override
+    public Object provide(BatchPublisher<?, ?> original, String name) {
+        throw new DgsDataLoaderInstrumentationException(name);
+    }
+
+    @Override
+    public Object provide(BatchPublisherWithContext<?, ?> original, String name) {
+        return new BatchPublisherWithContextInstrumentationDriver<>(original, name, instrumentations);
+    }
+
+    @Override
+    public Object provide(MappedBatchPublisher<?, ?> original, String name) {
+        throw new DgsDataLoaderInstrumentationException(name);
+    }
+
+    @Override
+    public Object provide(MappedBatchPublisherWithContext<?, ?> original, String name) {
+        return new MappedBatchPublisherWithContextInstrumentationDriver<>(original, name, instrumentations);
+    }
+
     static class BatchLoaderWithContextInstrumentationDriver<K, V>
-            implements BatchLoaderWithContext<K, V>, DgsDataLoaderRegistryConsumer {
+            implements BatchLoaderWithContext<K, V> {
         private final BatchLoaderWithContext<K, V> original;
         private final String name;
         private final List<DgsDataLoaderInstrumentation> instrumentations;
@@ -102,17 +128,10 @@ public class DgsDataLoaderInstrumentationDataLoaderCustomizer implements DgsData
 
             return future;
         }
-
-        @Override
-        public void setDataLoaderRegistry(DataLoaderRegistry dataLoaderRegistry) {
-            if (original instanceof DgsDataLoaderRegistryConsumer) {
-                ((DgsDataLoaderRegistryConsumer) original).setDataLoaderRegistry(dataLoaderRegistry);
-            }
-        }
     }
 
     static class MappedBatchLoaderWithContextInstrumentationDriver<K, V>
-            implements MappedBatchLoaderWithContext<K, V>, DgsDataLoaderRegistryConsumer {
+            implements MappedBatchLoaderWithContext<K, V> {
         private final MappedBatchLoaderWithContext<K, V> original;
         private final String name;
         private final List<DgsDataLoaderInstrumentation> instrumentations;
@@ -149,12 +168,121 @@ public class DgsDataLoaderInstrumentationDataLoaderCustomizer implements DgsData
                 }
             });
         }
+    }
+
+    static class BatchPublisherWithContextInstrumentationDriver<K, V>
+            implements BatchPublisherWithContext<K, V> {
+        private final BatchPublisherWithContext<K, V> original;
+        private final String name;
+        private final List<DgsDataLoaderInstrumentation> instrumentations;
+
+        BatchPublisherWithContextInstrumentationDriver(
+                BatchPublisherWithContext<K, V> original,
+                String name,
+                List<DgsDataLoaderInstrumentation> instrumentations) {
+            this.original = original;
+            this.name = name;
+            this.instrumentations = instrumentations;
+        }
 
         @Override
-        public void setDataLoaderRegistry(DataLoaderRegistry dataLoaderRegistry) {
-            if (original instanceof DgsDataLoaderRegistryConsumer) {
-                ((DgsDataLoaderRegistryConsumer) original).setDataLoaderRegistry(dataLoaderRegistry);
+        public void load(List<K> keys, Subscriber<V> subscriber, BatchLoaderEnvironment environment) {
+            List<DgsDataLoaderInstrumentationContext> contexts =
+                instrumentations.stream()
+                    .map(it -> it.onDispatch(name, keys, environment))
+                    .toList();
+
+            List<V> values = new ArrayList<>(keys.size());
+            original.load(keys, new InstrumentedSubscriber<>(subscriber, contexts, values::add, values), environment);
+        }
+    }
+
+    static class MappedBatchPublisherWithContextInstrumentationDriver<K, V>
+            implements MappedBatchPublisherWithContext<K, V> {
+        private final MappedBatchPublisherWithContext<K, V> original;
+        private final String name;
+        private final List<DgsDataLoaderInstrumentation> instrumentations;
+
+        MappedBatchPublisherWithContextInstrumentationDriver(
+                MappedBatchPublisherWithContext<K, V> original,
+                String name,
+                List<DgsDataLoaderInstrumentation> instrumentations) {
+            this.original = original;
+            this.name = name;
+            this.instrumentations = instrumentations;
+        }
+
+        @Override
+        public void load(List<K> keys, Subscriber<Map.Entry<K, V>> subscriber, BatchLoaderEnvironment environment) {
+            List<DgsDataLoaderInstrumentationContext> contexts =
+                instrumentations.stream()
+                    .map(it -> it.onDispatch(name, keys, environment))
+                    .toList();
+
+            Map<K, V> values = new LinkedHashMap<>();
+            original.load(
+                keys,
+                new InstrumentedSubscriber<>(subscriber, contexts, entry -> values.put(entry.getKey(), entry.getValue()), values),
+                environment
+            );
+        }
+    }
+
+    /**
+     * Collects the values published by a batch publisher, and calls the instrumentation contexts with all of them
+     * once the publisher completes, before the subscriber of the data loader is completed.
+     */
+    static class InstrumentedSubscriber<T> implements Subscriber<T> {
+        private final Subscriber<T> delegate;
+        private final List<DgsDataLoaderInstrumentationContext> contexts;
+        private final Consumer<T> collector;
+        private final Object result;
+
+        InstrumentedSubscriber(
+                Subscriber<T> delegate,
+                List<DgsDataLoaderInstrumentationContext> contexts,
+                Consumer<T> collector,
+                Object result) {
+            this.delegate = delegate;
+            this.contexts = contexts;
+            this.collector = collector;
+            this.result = result;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            delegate.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T value) {
+            collector.accept(value);
+            delegate.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            complete(null, throwable);
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            complete(result, null);
+            delegate.onComplete();
+        }
+
+        private void complete(Object result, Throwable exception) {
+            try {
+                List<DgsDataLoaderInstrumentationContext> reversedContexts = new ArrayList<>(contexts);
+                Collections.reverse(reversedContexts);
+
+                for (DgsDataLoaderInstrumentationContext c : reversedContexts) {
+                    c.onComplete(result, exception);
+                }
+            } catch (Throwable ignored) {
+                // Silently catch and ignore
             }
         }
     }
-}
\ No newline at end of file
+}
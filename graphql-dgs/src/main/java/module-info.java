@@ -15,6 +15,7 @@ module com.netflix.graphql.dgs.core {
     requires com.netflix.graphql.dgs.errortypes;
     requires json.path;
     requires org.dataloader;
+    requires org.reactivestreams;
     requires org.jetbrains.annotations;
     requires static org.jspecify;
     requires spring.aop;
@@ -18,8 +18,12 @@ package com.netflix.graphql.dgs
 
 import org.dataloader.BatchLoader
 import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
 
 interface DataLoaderInstrumentationExtensionProvider {
     fun provide(
@@ -41,4 +45,24 @@ interface DataLoaderInstrumentationExtensionProvider {
         original: MappedBatchLoaderWithContext<*, *>,
         name: String,
     ): MappedBatchLoaderWithContext<*, *>
+
+    fun provide(
+        original: BatchPublisher<*, *>,
+        name: String,
+    ): BatchPublisher<*, *> = original
+
+    fun provide(
+        original: BatchPublisherWithContext<*, *>,
+        name: String,
+    ): BatchPublisherWithContext<*, *> = original
+
+    fun provide(
+        original: MappedBatchPublisher<*, *>,
+        name: String,
+    ): MappedBatchPublisher<*, *> = original
+
+    fun provide(
+        original: MappedBatchPublisherWithContext<*, *>,
+        name: String,
+    ): MappedBatchPublisherWithContext<*, *> = original
 }
@@ -19,6 +19,7 @@ package com.netflix.graphql.dgs
 import com.netflix.graphql.dgs.context.DgsContext
 import com.netflix.graphql.dgs.exceptions.MultipleDataLoadersDefinedException
 import com.netflix.graphql.dgs.exceptions.NoDataLoaderFoundException
+import com.netflix.graphql.dgs.internal.PrefetchingDataFetcher
 import com.netflix.graphql.dgs.internal.utils.DataLoaderNameUtil
 import graphql.schema.DataFetchingEnvironment
 import org.dataloader.DataLoader
@@ -62,6 +63,29 @@ class DgsDataFetchingEnvironment(
         return getDataLoader(loaderName) ?: throw NoDataLoaderFoundException("DataLoader with name $loaderName not found")
     }
 
+    /**
+     * Prefetch [keys] with the data loader named [dataLoaderName] if [field] is part of the selection set.
+     * The keys are queued right away, so they are dispatched together with the loads of the current level instead
+     * of waiting for the data fetchers below this one. The data loader must have caching enabled.
+     * [field] is a [graphql.schema.DataFetchingFieldSelectionSet.contains] glob, such as `"reviews"` or `"reviews/author"`.
+     *
+     * @return whether the keys were prefetched
+     * @see DgsPrefetch
+     */
+    fun prefetch(
+        field: String,
+        dataLoaderName: String,
+        keys: Collection<Any>,
+    ): Boolean {
+        if (!dfe.selectionSet.contains(field)) {
+            return false
+        }
+        if (keys.isNotEmpty()) {
+            PrefetchingDataFetcher.load(dfe, dataLoaderName, keys)
+        }
+        return true
+    }
+
     private fun tryGetDataLoaderFromBeanDefinition(loaderClass: Class<*>): String {
         var name = loaderClass.simpleName
         if (ctx is ConfigurableApplicationContext) {
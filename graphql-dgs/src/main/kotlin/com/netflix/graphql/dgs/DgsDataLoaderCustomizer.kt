@@ -18,8 +18,12 @@ package com.netflix.graphql.dgs
 
 import org.dataloader.BatchLoader
 import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
 
 /**
  * Beans that implement this interface will be called during the component scan
@@ -54,4 +58,24 @@ interface DgsDataLoaderCustomizer {
         original: MappedBatchLoaderWithContext<*, *>,
         name: String,
     ): Any = original
+
+    fun provide(
+        original: BatchPublisher<*, *>,
+        name: String,
+    ): Any = original
+
+    fun provide(
+        original: BatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = original
+
+    fun provide(
+        original: MappedBatchPublisher<*, *>,
+        name: String,
+    ): Any = original
+
+    fun provide(
+        original: MappedBatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = original
 }
@@ -18,6 +18,10 @@ package com.netflix.graphql.dgs
 
 import org.dataloader.DataLoaderOptions
 
+/**
+ * Provides the options of the data loaders. The provider is called every time a data loader is created for a request,
+ * so it can return a new [CacheMap][org.dataloader.CacheMap] or [ValueCache][org.dataloader.ValueCache] per request.
+ */
 fun interface DgsDataLoaderOptionsProvider {
     fun getOptions(
         dataLoaderName: String,
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs
+
+import graphql.GraphQLContext
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.DataLoaderRegistry
+
+/**
+ * Looks up the [DataLoaderRegistry] of the current request from a batch loader, so batch loaders can use other data
+ * loaders without holding on to a registry themselves.
+ *
+ * The registry is stored in the request's [GraphQLContext] when the registry is built, and the `GraphQLContext` is the
+ * context of the [BatchLoaderEnvironment] given to batch loaders with context. Batch loaders without context need to
+ * be turned into ones with context to use it.
+ */
+object DgsDataLoaderRegistries {
+    private enum class GraphQLContextKey { DATA_LOADER_REGISTRY_KEY }
+
+    /**
+     * Returns the registry of the request the batch is loaded for,
+     * or null if the batch isn't loaded for a request that was given a `GraphQLContext`.
+     */
+    @JvmStatic
+    fun from(environment: BatchLoaderEnvironment): DataLoaderRegistry? =
+        (environment.getContext<Any?>() as? GraphQLContext)?.let { from(it) }
+
+    /**
+     * Returns the registry of the request the [graphQLContext] belongs to, or null if it has none.
+     */
+    @JvmStatic
+    fun from(graphQLContext: GraphQLContext): DataLoaderRegistry? =
+        graphQLContext.get<DataLoaderRegistry?>(GraphQLContextKey.DATA_LOADER_REGISTRY_KEY)
+
+    internal fun bind(
+        graphQLContext: GraphQLContext,
+        registry: DataLoaderRegistry,
+    ) {
+        graphQLContext.put(GraphQLContextKey.DATA_LOADER_REGISTRY_KEY, registry)
+    }
+}
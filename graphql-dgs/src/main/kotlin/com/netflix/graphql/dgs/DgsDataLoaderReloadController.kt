@@ -18,6 +18,7 @@ package com.netflix.graphql.dgs
 
 import org.springframework.context.ApplicationContext
 import java.time.Instant
+import java.util.concurrent.CompletableFuture
 
 /**
  * Public API for controlling data loader reloading.
@@ -46,8 +47,9 @@ interface DgsDataLoaderReloadController {
      * Force immediate reload of all data loaders.
      *
      * This will trigger a complete rediscovery of @DgsDataLoader annotations
-     * and rebuild the internal data loader registry. The reload is performed
-     * synchronously and will affect all subsequent GraphQL requests.
+     * and rebuild the internal data loader registry. This call waits for the reload
+     * to complete, and it will affect all subsequent GraphQL requests. Requests are
+     * not blocked while the data loaders are rebuilt, they keep using the previous ones.
      *
      * @return true if reload was successful, false if an error occurred
      */
@@ -65,6 +67,13 @@ interface DgsDataLoaderReloadController {
      */
     fun reloadDataLoaders(applicationContext: ApplicationContext): Boolean
 
+    /**
+     * Reload all data loaders in the background, without waiting for the reload to complete.
+     *
+     * @return a future completed with true if reload was successful, false if an error occurred
+     */
+    fun reloadDataLoadersAsync(): CompletableFuture<Boolean> = CompletableFuture.completedFuture(reloadDataLoaders())
+
     /**
      * Check if data loader reloading is currently enabled.
      *
@@ -86,6 +95,16 @@ interface DgsDataLoaderReloadController {
      */
     fun getLastReloadTime(): Instant?
 
+    /**
+     * Get the generation of the data loaders that new requests use.
+     *
+     * The generation is incremented each time reloaded data loaders are swapped in,
+     * which makes it easy to tell whether a given reload has taken effect.
+     *
+     * @return the current generation, or 0 if the data loaders were not loaded yet
+     */
+    fun getGeneration(): Long = 0
+
     /**
      * Get statistics about data loader reloading.
      *
@@ -100,11 +119,13 @@ interface DgsDataLoaderReloadController {
      * @property lastReloadTime Timestamp of the last reload operation
      * @property lastReloadDuration Duration of the last reload operation in milliseconds
      * @property isEnabled Whether reload functionality is currently enabled
+     * @property generation Generation of the data loaders that new requests use
      */
     data class DgsDataLoaderReloadStats(
         val totalReloads: Long,
         val lastReloadTime: Instant?,
         val lastReloadDuration: Long?,
         val isEnabled: Boolean,
+        val generation: Long = 0,
     )
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs
+
+/**
+ * Public API for invalidating the caches shared by all requests of data loaders with a
+ * [shared cache][DgsDataLoader.sharedCache].
+ *
+ * Example usage:
+ *
+ * ```kotlin
+ * @Autowired
+ * private lateinit var sharedCaches: DgsDataLoaderSharedCaches
+ *
+ * fun onCountryUpdated(countryCode: String) {
+ *     sharedCaches.invalidate("countries", countryCode)
+ * }
+ * ```
+ */
+interface DgsDataLoaderSharedCaches {
+    /**
+     * The names of the data loaders with a shared cache.
+     */
+    fun dataLoaderNames(): Set<String>
+
+    /**
+     * Removes the value cached for the [key] from the shared cache of the data loader.
+     * Values already loaded by in-flight requests stay in their per-request cache.
+     */
+    fun invalidate(
+        dataLoaderName: String,
+        key: Any,
+    )
+
+    /**
+     * Removes all values from the shared cache of the data loader.
+     */
+    fun invalidateAll(dataLoaderName: String)
+
+    /**
+     * Removes all values from the shared caches of all data loaders.
+     */
+    fun invalidateAll()
+}
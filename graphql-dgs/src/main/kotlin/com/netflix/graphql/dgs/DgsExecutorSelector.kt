@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs
+
+import graphql.schema.FieldCoordinates
+import org.springframework.core.task.AsyncTaskExecutor
+import java.lang.reflect.Method
+
+/**
+ * Selects the executor that a data fetcher method runs on.
+ *
+ * The selector is consulted once for each data fetcher method that specifies an [executor name][DgsData.executor],
+ * when the data fetcher is created. Returning null runs the data fetcher on the default executor, which
+ * is the virtual thread executor if virtual threads are enabled, or the calling thread otherwise.
+ *
+ * Implementations can register a bean of this type to replace the default selector, which
+ * resolves the bulkheads configured under `dgs.graphql.executors`.
+ */
+fun interface DgsExecutorSelector {
+    fun selectExecutor(
+        method: Method,
+        fieldCoordinates: FieldCoordinates,
+        executorName: String,
+    ): AsyncTaskExecutor?
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs
+
+import org.dataloader.BatchLoaderEnvironment
+
+/**
+ * A batch loader implemented as a Kotlin suspend function, for `@DgsDataLoader` beans.
+ *
+ * The batch loader is launched in the coroutine scope of the request, on the `dgsCoroutineDispatcher`, so it is
+ * cancelled when the request completes. Like [org.dataloader.BatchLoader], it must return a value for each key,
+ * in the order of the keys.
+ */
+fun interface SuspendBatchLoader<K : Any, V> {
+    suspend fun load(
+        keys: List<K>,
+        environment: BatchLoaderEnvironment,
+    ): List<V>
+}
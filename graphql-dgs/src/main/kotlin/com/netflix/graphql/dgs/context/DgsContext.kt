@@ -29,16 +29,28 @@ import graphql.execution.instrumentation.parameters.InstrumentationFieldParamete
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters
 import graphql.schema.DataFetchingEnvironment
 import org.dataloader.BatchLoaderEnvironment
+import java.time.Duration
+import java.time.Instant
 import java.util.function.Consumer
 
 /**
  * Context class that is created per request, and is added to both DataFetchingEnvironment and BatchLoaderEnvironment.
  * Custom data can be added by providing a [DgsCustomContextBuilder].
+ *
+ * If the request has a [deadline], data fetchers and batch loads that are still running when it passes are cancelled,
+ * and fields that haven't been fetched yet fail with a
+ * [DgsDeadlineExceededException][com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException].
  */
 open class DgsContext(
     val customContext: Any? = null,
     val requestData: DgsRequestData?,
+    val deadline: Instant?,
 ) : Consumer<GraphQLContext.Builder> {
+    constructor(
+        customContext: Any? = null,
+        requestData: DgsRequestData?,
+    ) : this(customContext, requestData, null)
+
     private enum class GraphQLContextKey { DGS_CONTEXT_KEY }
 
     companion object {
@@ -83,6 +95,19 @@ open class DgsContext(
                 else -> throw RuntimeException("Cannot resolve DgsContext from ${context?.let { it::class.java.name } ?: "null"}.")
             }
 
+        /**
+         * Returns the deadline of the request the [graphQLContext] belongs to,
+         * or null if the request has no deadline or no [DgsContext].
+         */
+        @JvmStatic
+        fun deadline(graphQLContext: GraphQLContext?): Instant? = fromOrNull(graphQLContext)?.deadline
+
+        /**
+         * Returns the [DgsContext] of the request the [graphQLContext] belongs to, or null if it has none.
+         */
+        internal fun fromOrNull(graphQLContext: GraphQLContext?): DgsContext? =
+            graphQLContext?.get<Any?>(GraphQLContextKey.DGS_CONTEXT_KEY) as? DgsContext
+
         @JvmStatic
         fun <T> getCustomContext(context: Any): T {
             @Suppress("UNCHECKED_CAST")
@@ -122,6 +147,12 @@ open class DgsContext(
         }
     }
 
+    /**
+     * Returns the time remaining until the [deadline], which is negative once the deadline has passed,
+     * or null if the request has no deadline.
+     */
+    fun remainingTime(): Duration? = deadline?.let { Duration.between(Instant.now(), it) }
+
     override fun accept(contextBuilder: GraphQLContext.Builder) {
         contextBuilder.put(GraphQLContextKey.DGS_CONTEXT_KEY, this)
     }
@@ -21,13 +21,15 @@ import graphql.GraphQLContext
 import graphql.schema.DataFetchingEnvironment
 import reactor.util.context.Context
 import reactor.util.context.ContextView
+import java.time.Instant
 import kotlin.reflect.safeCast
 
 class ReactiveDgsContext(
     customContext: Any? = null,
     requestData: DgsRequestData?,
     val reactorContext: ContextView? = Context.empty(),
-) : DgsContext(customContext, requestData) {
+    deadline: Instant? = null,
+) : DgsContext(customContext, requestData, deadline) {
     companion object {
         @JvmStatic
         fun from(graphQLContext: GraphQLContext): ReactiveDgsContext? = ReactiveDgsContext::class.safeCast(DgsContext.from(graphQLContext))
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.exceptions
+
+import com.netflix.graphql.types.errors.ErrorType
+import org.slf4j.event.Level
+
+/**
+ * Thrown when a data fetcher can't be scheduled because its bulkhead is at its maximum concurrency
+ * and its queue is full.
+ */
+class DgsBulkheadRejectedException(
+    val bulkheadName: String,
+) : DgsException(
+        message = "Bulkhead '$bulkheadName' is full",
+        errorType = ErrorType.UNAVAILABLE,
+        logLevel = Level.WARN,
+    )
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.exceptions
+
+import com.netflix.graphql.types.errors.ErrorDetail
+import com.netflix.graphql.types.errors.ErrorType
+import com.netflix.graphql.types.errors.TypedGraphQLError
+import graphql.execution.ResultPath
+import org.slf4j.event.Level
+
+/**
+ * Thrown when a data fetcher or batch load is started, or is still running, after the request deadline passed.
+ * Results in an `UNAVAILABLE` error with the `DEADLINE_EXCEEDED` error detail.
+ */
+class DgsDeadlineExceededException(
+    override val message: String = "The request deadline was exceeded",
+) : DgsException(message = message, errorType = ErrorType.UNAVAILABLE, logLevel = Level.WARN) {
+    override fun toGraphQlError(path: ResultPath?): TypedGraphQLError =
+        TypedGraphQLError
+            .newBuilder()
+            .apply {
+                if (path != null) {
+                    path(path)
+                }
+            }.errorDetail(ErrorDetail.Common.DEADLINE_EXCEEDED)
+            .message(message)
+            .extensions(mapOf(EXTENSION_CLASS_KEY to this::class.java.name))
+            .build()
+}
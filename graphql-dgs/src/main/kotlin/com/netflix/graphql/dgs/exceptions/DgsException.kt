@@ -38,7 +38,7 @@ abstract class DgsException(
         const val EXTENSION_CLASS_KEY = "class"
     }
 
-    fun toGraphQlError(path: ResultPath? = null): TypedGraphQLError =
+    open fun toGraphQlError(path: ResultPath? = null): TypedGraphQLError =
         TypedGraphQLError
             .newBuilder()
             .apply {
@@ -157,8 +157,11 @@ object BaseDgsQueryExecutor {
         return try {
             val future = graphQL.executeAsync(executionInput)
 
-            if (dataLoaderRegistry is AutoCloseable) {
-                future.whenComplete { _, _ -> dataLoaderRegistry.close() }
+            future.whenComplete { _, _ ->
+                if (dataLoaderRegistry is AutoCloseable) {
+                    dataLoaderRegistry.close()
+                }
+                RequestCoroutineScope.cancel(executionInput.graphQLContext)
             }
 
             future.exceptionally { exc ->
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.exceptions.InvalidDataLoaderTypeException
+import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
+import org.dataloader.MappedBatchLoader
+import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import java.util.concurrent.CompletionStage
+
+/**
+ * Calls any of the batch loader types, and returns the loaded values by key; keys without a value are left out.
+ * Used where the framework calls batch loaders itself, outside a [org.dataloader.DataLoader].
+ */
+internal fun interface BatchLoadFunction {
+    fun load(
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<Map<Any, Any?>>
+
+    companion object {
+        /**
+         * Creates the function for the [batchLoader] of the data loader with the given [name].
+         */
+        @Suppress("UNCHECKED_CAST")
+        fun of(
+            name: String,
+            batchLoader: Any,
+        ): BatchLoadFunction =
+            when (batchLoader) {
+                is BatchLoader<*, *> ->
+                    BatchLoadFunction { keys, _ ->
+                        (batchLoader as BatchLoader<Any, Any?>).load(keys).thenApply { toMap(name, keys, it) }
+                    }
+                is BatchLoaderWithContext<*, *> ->
+                    BatchLoadFunction { keys, environment ->
+                        (batchLoader as BatchLoaderWithContext<Any, Any?>).load(keys, environment).thenApply { toMap(name, keys, it) }
+                    }
+                is MappedBatchLoader<*, *> ->
+                    BatchLoadFunction { keys, _ ->
+                        (batchLoader as MappedBatchLoader<Any, Any?>).load(keys.toSet())
+                    }
+                is MappedBatchLoaderWithContext<*, *> ->
+                    BatchLoadFunction { keys, environment ->
+                        (batchLoader as MappedBatchLoaderWithContext<Any, Any?>).load(keys.toSet(), environment)
+                    }
+                is BatchPublisher<*, *>, is BatchPublisherWithContext<*, *> ->
+                    BatchLoadFunction { keys, environment ->
+                        BatchPublishers.collectList(batchLoader, keys, environment).thenApply { toMap(name, keys, it) }
+                    }
+                is MappedBatchPublisher<*, *>, is MappedBatchPublisherWithContext<*, *> ->
+                    BatchLoadFunction { keys, environment -> BatchPublishers.collectMap(batchLoader, keys, environment) }
+                else -> throw InvalidDataLoaderTypeException(batchLoader.javaClass)
+            }
+
+        private fun toMap(
+            name: String,
+            keys: List<Any>,
+            values: List<Any?>,
+        ): Map<Any, Any?> {
+            check(keys.size == values.size) {
+                "Data loader '$name' returned ${values.size} values for ${keys.size} keys"
+            }
+            return keys.zip(values).toMap()
+        }
+    }
+}
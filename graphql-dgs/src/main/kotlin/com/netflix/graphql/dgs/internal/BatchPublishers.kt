@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+/**
+ * Helpers for the publisher based batch loaders, for the places where the framework needs all the values of a batch
+ * at once, such as cross-request coalescing, fan-out and shared cache refreshes. The values are collected as they are
+ * published, so they no longer complete their keys one by one.
+ */
+internal object BatchPublishers {
+    /**
+     * Calls a [BatchPublisher] or [BatchPublisherWithContext], and completes with the values it published, in order.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun collectList(
+        batchPublisher: Any,
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<List<Any?>> {
+        val values = ArrayList<Any?>(keys.size)
+        val subscriber = CollectingSubscriber<Any?, List<Any?>>(values) { values.add(it) }
+        when (batchPublisher) {
+            is BatchPublisher<*, *> -> (batchPublisher as BatchPublisher<Any, Any?>).load(keys, subscriber)
+            is BatchPublisherWithContext<*, *> ->
+                (batchPublisher as BatchPublisherWithContext<Any, Any?>).load(keys, subscriber, environment)
+            else -> throw IllegalArgumentException("Not a batch publisher: ${batchPublisher.javaClass.name}")
+        }
+        return subscriber.result
+    }
+
+    /**
+     * Calls a [MappedBatchPublisher] or [MappedBatchPublisherWithContext], and completes with the entries it published.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun collectMap(
+        mappedBatchPublisher: Any,
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<Map<Any, Any?>> {
+        val values = LinkedHashMap<Any, Any?>(keys.size)
+        val subscriber = CollectingSubscriber<Map.Entry<Any, Any?>, Map<Any, Any?>>(values) { values[it.key] = it.value }
+        when (mappedBatchPublisher) {
+            is MappedBatchPublisher<*, *> -> (mappedBatchPublisher as MappedBatchPublisher<Any, Any?>).load(keys.toSet(), subscriber)
+            is MappedBatchPublisherWithContext<*, *> ->
+                (mappedBatchPublisher as MappedBatchPublisherWithContext<Any, Any?>).load(keys, subscriber, environment)
+            else -> throw IllegalArgumentException("Not a mapped batch publisher: ${mappedBatchPublisher.javaClass.name}")
+        }
+        return subscriber.result
+    }
+
+    private class CollectingSubscriber<T, R>(
+        private val values: R,
+        private val add: (T) -> Unit,
+    ) : Subscriber<T> {
+        val result = CompletableFuture<R>()
+
+        override fun onSubscribe(subscription: Subscription) {
+            subscription.request(Long.MAX_VALUE)
+        }
+
+        override fun onNext(value: T) {
+            add(value)
+        }
+
+        override fun onError(throwable: Throwable) {
+            result.completeExceptionally(throwable)
+        }
+
+        override fun onComplete() {
+            result.complete(values)
+        }
+    }
+}
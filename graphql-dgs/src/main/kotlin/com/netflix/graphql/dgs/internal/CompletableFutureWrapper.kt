@@ -19,8 +19,10 @@ package com.netflix.graphql.dgs.internal
 import org.reactivestreams.Publisher
 import org.springframework.core.task.AsyncTaskExecutor
 import java.lang.reflect.Method
+import java.time.Instant
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
+import java.util.concurrent.FutureTask
 import kotlin.reflect.KFunction
 import kotlin.reflect.KType
 import kotlin.reflect.full.isSubtypeOf
@@ -41,7 +43,33 @@ internal class CompletableFutureWrapper(
      * Wrap the call to a data fetcher in CompletableFuture to enable parallel behavior.
      * Used when virtual threads are enabled.
      */
-    fun wrapInCompletableFuture(function: () -> Any?): CompletableFuture<Any?> = CompletableFuture.supplyAsync(function, taskExecutor)
+    fun wrapInCompletableFuture(function: () -> Any?): CompletableFuture<Any?> {
+        val result = CompletableFuture<Any?>()
+        taskExecutor!!.execute(CompletingTask(function, result))
+        return result
+    }
+
+    /**
+     * Wrap the call to a data fetcher in CompletableFuture, interrupting the data fetcher and failing the future
+     * with a [DgsDeadlineExceededException][com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException]
+     * if it is still running when the request [deadline] passes.
+     */
+    fun wrapInCompletableFuture(
+        function: () -> Any?,
+        deadline: Instant?,
+    ): CompletableFuture<Any?> {
+        if (deadline == null) {
+            return wrapInCompletableFuture(function)
+        }
+
+        val result = CompletableFuture<Any?>()
+        val task = CancellableCompletingTask(CompletingTask(function, result))
+        val future = RequestDeadlines.withDeadline(result, deadline, DEADLINE_EXCEEDED_MESSAGE) { task.cancel(true) }
+        if (!future.isDone) {
+            taskExecutor!!.execute(task)
+        }
+        return future
+    }
 
     /**
      * Decides if a data fetcher method should be wrapped in CompletableFuture automatically.
@@ -66,4 +94,40 @@ internal class CompletableFutureWrapper(
             !isReactive(method.returnType)
 
     private fun isReactive(returnType: Class<*>): Boolean = supportsReactor && Publisher::class.java.isAssignableFrom(returnType)
+
+    /**
+     * Completes the [result] with the value of the [function], or fails it if a [DgsBulkhead] can't start it.
+     */
+    private class CompletingTask(
+        private val function: () -> Any?,
+        private val result: CompletableFuture<Any?>,
+    ) : DgsBulkhead.RejectableTask {
+        override fun run() {
+            try {
+                result.complete(function())
+            } catch (exc: Throwable) {
+                result.completeExceptionally(exc)
+            }
+        }
+
+        override fun reject(cause: Throwable) {
+            result.completeExceptionally(cause)
+        }
+    }
+
+    /**
+     * A [CompletingTask] that can be interrupted when the request deadline passes.
+     */
+    private class CancellableCompletingTask(
+        private val task: CompletingTask,
+    ) : FutureTask<Unit>(task, Unit),
+        DgsBulkhead.RejectableTask {
+        override fun reject(cause: Throwable) {
+            task.reject(cause)
+        }
+    }
+
+    companion object {
+        const val DEADLINE_EXCEEDED_MESSAGE = "The request deadline was exceeded while fetching the field"
+    }
 }
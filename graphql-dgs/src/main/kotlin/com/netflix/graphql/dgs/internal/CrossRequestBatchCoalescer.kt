@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.MappedBatchLoaderWithContext
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+
+/**
+ * Coalesces the batches of a data loader marked with `@DgsDataLoader(coalesceAcrossRequests = true)` across requests.
+ *
+ * Each request still has its own data loader, with its own cache, built on [batchLoader] or [mappedBatchLoader].
+ * Their batches are collected for [window], deduplicated, and sent to the batch loader together; the results are then
+ * handed back to the data loader of each request. A coalesced batch is sent early once it holds [maxBatchSize] keys,
+ * and larger batches are split into batches of at most [maxBatchSize] keys.
+ *
+ * A coalesced batch loads keys for several requests, so the batch loader gets a [BatchLoaderEnvironment] without
+ * context; batch loaders that need the context of a request can't be coalesced. Key contexts are kept, from the first
+ * request loading each key.
+ */
+internal class CrossRequestBatchCoalescer private constructor(
+    private val name: String,
+    private val window: Duration,
+    private val maxBatchSize: Int,
+    private val scheduledExecutorService: ScheduledExecutorService,
+    private val loadBatch: BatchLoadFunction,
+) {
+    private val lock = Any()
+    private var pending: CoalescedBatch? = null
+
+    /**
+     * The batch loader for the data loader of each request, for batch loaders returning a list.
+     */
+    val batchLoader: BatchLoaderWithContext<Any, Any?> =
+        BatchLoaderWithContext { keys, environment ->
+            DgsDeadlineDataLoaderCustomizer.load(name, environment) {
+                coalesce(keys, environment).thenApply { results -> keys.map { results[it] } }
+            }
+        }
+
+    /**
+     * The batch loader for the data loader of each request, for batch loaders returning a map.
+     */
+    val mappedBatchLoader: MappedBatchLoaderWithContext<Any, Any?> =
+        MappedBatchLoaderWithContext { keys, environment ->
+            DgsDeadlineDataLoaderCustomizer.load(name, environment) { coalesce(keys.toList(), environment) }
+        }
+
+    private fun coalesce(
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<Map<Any, Any?>> {
+        val keyContexts = environment.keyContextsList
+        var newBatch: CoalescedBatch? = null
+        var fullBatch: CoalescedBatch? = null
+        val futures =
+            synchronized(lock) {
+                val batch = pending ?: CoalescedBatch().also { newBatch = it }
+                pending = batch
+                val futures = keys.mapIndexed { index, key -> batch.add(key, keyContexts.getOrNull(index)) }
+                if (maxBatchSize > 0 && batch.size >= maxBatchSize) {
+                    pending = null
+                    fullBatch = batch
+                }
+                futures
+            }
+        newBatch?.let { scheduleDispatch(it) }
+        fullBatch?.let { dispatch(it) }
+
+        return CompletableFuture.allOf(*futures.toTypedArray()).thenApply {
+            val results = LinkedHashMap<Any, Any?>(keys.size)
+            keys.forEachIndexed { index, key ->
+                val value = futures[index].join()
+                if (value !== MISSING) {
+                    results[key] = value
+                }
+            }
+            results
+        }
+    }
+
+    private fun scheduleDispatch(batch: CoalescedBatch) {
+        try {
+            scheduledExecutorService.schedule({ dispatchIfPending(batch) }, window.toNanos(), TimeUnit.NANOSECONDS)
+        } catch (ex: RejectedExecutionException) {
+            // Without a scheduler the batch would never be sent; send it right away, with the keys added so far.
+            dispatchIfPending(batch)
+        }
+    }
+
+    private fun dispatchIfPending(batch: CoalescedBatch) {
+        val removed =
+            synchronized(lock) {
+                (pending === batch).also { if (it) pending = null }
+            }
+        if (removed) {
+            dispatch(batch)
+        }
+    }
+
+    private fun dispatch(batch: CoalescedBatch) {
+        val entries = batch.entries
+        val chunks = if (maxBatchSize > 0) entries.chunked(maxBatchSize) else listOf(entries)
+        chunks.forEach { chunk ->
+            val keys = chunk.map { it.key }
+            val environment =
+                BatchLoaderEnvironment
+                    .newBatchLoaderEnvironment()
+                    .keyContexts(keys, keyContexts(chunk))
+                    .build()
+            try {
+                loadBatch.load(keys, environment).whenComplete { values, error -> complete(chunk, values, error) }
+            } catch (ex: Exception) {
+                complete(chunk, null, ex)
+            }
+        }
+    }
+
+    /**
+     * Completes the loads of a coalesced batch. Loads of other requests are waiting on these entries, so every entry is
+     * completed, even if the batch loader misbehaves, for example by returning null instead of a map.
+     */
+    private fun complete(
+        chunk: List<Entry>,
+        values: Map<Any, Any?>?,
+        error: Throwable?,
+    ) {
+        try {
+            chunk.forEach { entry ->
+                when {
+                    error != null -> entry.future.completeExceptionally(error)
+                    values == null -> entry.future.completeExceptionally(IllegalStateException("Data loader '$name' returned null"))
+                    values.containsKey(entry.key) -> entry.future.complete(values[entry.key])
+                    else -> entry.future.complete(MISSING)
+                }
+            }
+        } catch (ex: Exception) {
+            chunk.forEach { it.future.completeExceptionally(ex) }
+        }
+    }
+
+    // Loads without a key context have a null key context in the environment, despite its signature.
+    @Suppress("UNCHECKED_CAST")
+    private fun keyContexts(entries: List<Entry>): List<Any> = entries.map { it.keyContext } as List<Any>
+
+    private class CoalescedBatch {
+        private val keys = LinkedHashMap<Any, Entry>()
+
+        val size: Int
+            get() = keys.size
+
+        val entries: List<Entry>
+            get() = keys.values.toList()
+
+        fun add(
+            key: Any,
+            keyContext: Any?,
+        ): CompletableFuture<Any?> = keys.getOrPut(key) { Entry(key, keyContext) }.future
+    }
+
+    private class Entry(
+        val key: Any,
+        val keyContext: Any?,
+    ) {
+        val future = CompletableFuture<Any?>()
+    }
+
+    companion object {
+        private val MISSING = Any()
+
+        /**
+         * Creates the coalescer for the [batchLoader] of the data loader with the given [name], after it has been
+         * customized and wrapped by the instrumentation extension providers.
+         */
+        fun create(
+            name: String,
+            batchLoader: Any,
+            window: Duration,
+            maxBatchSize: Int,
+            scheduledExecutorService: ScheduledExecutorService,
+        ): CrossRequestBatchCoalescer =
+            CrossRequestBatchCoalescer(
+                name,
+                window,
+                maxBatchSize,
+                scheduledExecutorService,
+                BatchLoadFunction.of(name, batchLoader),
+            )
+    }
+}
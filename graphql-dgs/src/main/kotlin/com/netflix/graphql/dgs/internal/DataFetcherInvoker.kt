@@ -16,12 +16,18 @@
 
 package com.netflix.graphql.dgs.internal
 
+import com.netflix.graphql.dgs.context.DgsContext
+import com.netflix.graphql.dgs.context.ReactiveDgsContext
+import com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException
 import com.netflix.graphql.dgs.internal.method.ArgumentResolverComposite
+import com.netflix.graphql.dgs.internal.method.BoundArgument
+import com.netflix.graphql.dgs.internal.utils.KotlinDefaultsUtil
 import graphql.schema.DataFetcher
 import graphql.schema.DataFetchingEnvironment
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.reactor.mono
+import kotlinx.coroutines.future.future
+import kotlinx.coroutines.reactor.ReactorContext
 import org.springframework.core.BridgeMethodResolver
 import org.springframework.core.KotlinDetector
 import org.springframework.core.MethodParameter
@@ -33,9 +39,13 @@ import org.springframework.util.ReflectionUtils
 import java.lang.reflect.InvocationTargetException
 import java.lang.reflect.Method
 import java.lang.reflect.UndeclaredThrowableException
+import java.time.Instant
+import kotlin.reflect.KClass
 import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
+import kotlin.reflect.KType
 import kotlin.reflect.full.callSuspendBy
+import kotlin.reflect.jvm.javaMethod
 import kotlin.reflect.jvm.kotlinFunction
 
 class DataFetcherInvoker internal constructor(
@@ -57,6 +67,7 @@ class DataFetcherInvoker internal constructor(
             null
         }
     private val completableFutureWrapper = CompletableFutureWrapper(taskExecutor)
+    private val methodInvoker = DataFetcherMethodInvoker.create(dgsComponent, bridgedMethod)
 
     private val methodParameters: List<MethodParameter> =
         bridgedMethod.parameters.map { parameter ->
@@ -65,80 +76,145 @@ class DataFetcherInvoker internal constructor(
             methodParameter
         }
 
-    init {
-        ReflectionUtils.makeAccessible(bridgedMethod)
-    }
+    private val kotlinInstanceParameter: KParameter? =
+        kotlinFunction?.parameters?.firstOrNull()?.takeIf { it.kind == KParameter.Kind.INSTANCE }
+
+    /**
+     * The argument resolution plan for this data fetcher; one entry per method parameter,
+     * with everything that doesn't depend on the [DataFetchingEnvironment] resolved up front.
+     */
+    private val argumentPlan: Array<PlannedArgument> = createArgumentPlan()
+
+    /**
+     * Invoker for the `$default` method of Kotlin functions with optional parameters.
+     * Only set if the function can be invoked without going through [KFunction.callBy].
+     */
+    private val kotlinDefaultsInvoker: KotlinDefaultsInvoker? =
+        if (kotlinFunction != null && argumentPlan.any { it.omitIfNull }) {
+            KotlinDefaultsInvoker.find(dgsComponent, bridgedMethod)
+        } else {
+            null
+        }
+
+    /**
+     * Whether the Kotlin function can be invoked by calling the JVM method directly,
+     * or the `$default` method when optional parameters are omitted. Suspend functions,
+     * and functions with inline value class parameters or return types, require [KFunction.callBy].
+     */
+    private val invokeKotlinFunctionDirectly: Boolean =
+        kotlinFunction != null &&
+            !kotlinFunction.isSuspend &&
+            kotlinFunction.javaMethod == bridgedMethod &&
+            kotlinFunction.parameters.none { it.type.isValueClass() } &&
+            !kotlinFunction.returnType.isValueClass() &&
+            (kotlinDefaultsInvoker != null || argumentPlan.none { it.omitIfNull })
+
+    private val shouldWrapInCompletableFuture: Boolean =
+        if (kotlinFunction != null) {
+            completableFutureWrapper.shouldWrapInCompletableFuture(kotlinFunction)
+        } else {
+            completableFutureWrapper.shouldWrapInCompletableFuture(bridgedMethod)
+        }
 
     @Throws(Exception::class)
     override fun get(environment: DataFetchingEnvironment): Any? {
-        if (methodParameters.isEmpty()) {
-            if (completableFutureWrapper.shouldWrapInCompletableFuture(bridgedMethod)) {
-                return completableFutureWrapper.wrapInCompletableFuture { ReflectionUtils.invokeMethod(bridgedMethod, dgsComponent) }
-            }
-            return try {
-                bridgedMethod.invoke(dgsComponent)
-            } catch (exc: Exception) {
-                handleReflectionException(exc)
-            }
+        val deadline = DgsContext.deadline(environment.graphQlContext)
+        if (deadline != null && RequestDeadlines.isExceeded(deadline)) {
+            throw DgsDeadlineExceededException(CompletableFutureWrapper.DEADLINE_EXCEEDED_MESSAGE)
         }
 
-        if (kotlinFunction != null) {
-            return invokeKotlinMethod(kotlinFunction, environment)
+        if (argumentPlan.isEmpty()) {
+            return invoke(NO_ARGS, null, deadline)
+        }
+
+        if (kotlinFunction != null && !invokeKotlinFunctionDirectly) {
+            return invokeKotlinMethod(kotlinFunction, environment, deadline)
         }
 
-        val args = arrayOfNulls<Any?>(methodParameters.size)
+        val args = arrayOfNulls<Any?>(argumentPlan.size)
+        var omittedMasks: IntArray? = null
 
-        for ((idx, parameter) in methodParameters.withIndex()) {
-            if (!resolvers.supportsParameter(parameter)) {
-                throw IllegalStateException(formatArgumentError(parameter, "No suitable resolver"))
+        for (idx in argumentPlan.indices) {
+            val plannedArgument = argumentPlan[idx]
+            val value = plannedArgument.resolve(environment)
+            if (value == null && plannedArgument.omitIfNull) {
+                val defaultsInvoker = kotlinDefaultsInvoker!!
+                val masks = omittedMasks ?: IntArray(defaultsInvoker.maskCount).also { omittedMasks = it }
+                KotlinDefaultsUtil.setOmitted(masks, idx)
+                args[idx] = defaultsInvoker.placeholders[idx]
+            } else {
+                args[idx] = value
             }
-            args[idx] = resolvers.resolveArgument(parameter, environment)
         }
 
-        return if (completableFutureWrapper.shouldWrapInCompletableFuture(bridgedMethod)) {
-            completableFutureWrapper.wrapInCompletableFuture { ReflectionUtils.invokeMethod(bridgedMethod, dgsComponent, *args) }
-        } else {
-            try {
-                bridgedMethod.invoke(dgsComponent, *args)
-            } catch (exc: Exception) {
-                handleReflectionException(exc)
-            }
+        return invoke(args, omittedMasks, deadline)
+    }
+
+    private fun invoke(
+        args: Array<Any?>,
+        omittedMasks: IntArray?,
+        deadline: Instant?,
+    ): Any? {
+        if (shouldWrapInCompletableFuture) {
+            return completableFutureWrapper.wrapInCompletableFuture({ invokeMethod(args, omittedMasks) }, deadline)
         }
+        return invokeMethod(args, omittedMasks)
     }
 
+    private fun invokeMethod(
+        args: Array<Any?>,
+        omittedMasks: IntArray?,
+    ): Any? =
+        if (omittedMasks == null) {
+            methodInvoker.invoke(args)
+        } else {
+            kotlinDefaultsInvoker!!.invoke(args, omittedMasks)
+        }
+
     private fun invokeKotlinMethod(
         kFunc: KFunction<*>,
         dfe: DataFetchingEnvironment,
+        deadline: Instant?,
     ): Any? {
-        val parameters = kFunc.parameters
-        val argsByName = CollectionUtils.newLinkedHashMap<KParameter, Any?>(parameters.size)
+        val argsByName = CollectionUtils.newLinkedHashMap<KParameter, Any?>(kFunc.parameters.size)
 
-        val paramSeq =
-            if (parameters[0].kind == KParameter.Kind.INSTANCE) {
-                argsByName[parameters[0]] = dgsComponent
-                parameters.asSequence().drop(1)
-            } else {
-                parameters.asSequence()
-            }
+        if (kotlinInstanceParameter != null) {
+            argsByName[kotlinInstanceParameter] = dgsComponent
+        }
 
-        for ((kParameter, parameter) in paramSeq.zip(methodParameters.asSequence())) {
-            if (!resolvers.supportsParameter(parameter)) {
-                throw IllegalStateException(formatArgumentError(parameter, "No suitable resolver"))
-            }
-            val value = resolvers.resolveArgument(parameter, dfe)
-            if (value == null && kParameter.isOptional && !kParameter.type.isMarkedNullable) {
+        for (plannedArgument in argumentPlan) {
+            val kParameter = plannedArgument.kParameter ?: break
+            val value = plannedArgument.resolve(dfe)
+            if (value == null && plannedArgument.omitIfNull) {
                 continue
             }
             argsByName[kParameter] = value
         }
 
         if (kFunc.isSuspend) {
-            return mono(coroutineDispatcher) {
-                kFunc.callSuspendBy(argsByName)
-            }.onErrorMap(InvocationTargetException::class.java) { it.targetException }
+            // Suspend functions are launched into the request's scope, so they are cancelled with the request.
+            // The Reactor context of reactive requests is made available as a ReactorContext element.
+            val reactorContext = ReactiveDgsContext.from(dfe)?.reactorContext
+            val coroutineContext =
+                if (reactorContext != null) coroutineDispatcher + ReactorContext(reactorContext) else coroutineDispatcher
+            val result =
+                RequestCoroutineScope.from(dfe.graphQlContext).future(coroutineContext) {
+                    try {
+                        kFunc.callSuspendBy(argsByName)
+                    } catch (exc: InvocationTargetException) {
+                        throw exc.targetException
+                    }
+                }
+            if (deadline == null) {
+                return result
+            }
+            // Cancelling the future cancels the coroutine.
+            return RequestDeadlines.withDeadline(result, deadline, CompletableFutureWrapper.DEADLINE_EXCEEDED_MESSAGE) {
+                result.cancel(true)
+            }
         }
-        return if (completableFutureWrapper.shouldWrapInCompletableFuture(kFunc)) {
-            completableFutureWrapper.wrapInCompletableFuture { kFunc.callBy(argsByName) }
+        return if (shouldWrapInCompletableFuture) {
+            completableFutureWrapper.wrapInCompletableFuture({ kFunc.callBy(argsByName) }, deadline)
         } else {
             try {
                 kFunc.callBy(argsByName)
@@ -148,12 +224,41 @@ class DataFetcherInvoker internal constructor(
         }
     }
 
-    private fun formatArgumentError(
-        param: MethodParameter,
-        message: String,
-    ): String =
-        "Could not resolve parameter [${param.parameterIndex}] in " +
-            param.executable.toGenericString() + if (message.isNotEmpty()) ": $message" else ""
+    private fun createArgumentPlan(): Array<PlannedArgument> {
+        val kParameters =
+            kotlinFunction?.parameters?.let { if (kotlinInstanceParameter != null) it.drop(1) else it } ?: emptyList()
+
+        return Array(methodParameters.size) { idx ->
+            val parameter = methodParameters[idx]
+            val kParameter = kParameters.getOrNull(idx)
+            PlannedArgument(
+                parameter = parameter,
+                argument = resolvers.bind(parameter),
+                kParameter = kParameter,
+                omitIfNull = kParameter != null && kParameter.isOptional && !kParameter.type.isMarkedNullable,
+            )
+        }
+    }
+
+    /**
+     * A single entry of the argument resolution plan.
+     *
+     * @property kParameter the corresponding Kotlin parameter, if any. The trailing [kotlin.coroutines.Continuation]
+     * parameter of a suspend function doesn't have one.
+     * @property omitIfNull whether the argument should be left out when its value is null, so that the Kotlin
+     * default value is used instead.
+     */
+    private class PlannedArgument(
+        val parameter: MethodParameter,
+        val argument: BoundArgument?,
+        val kParameter: KParameter?,
+        val omitIfNull: Boolean,
+    ) {
+        fun resolve(dfe: DataFetchingEnvironment): Any? {
+            val argument = this.argument ?: throw IllegalStateException(formatArgumentError(parameter, "No suitable resolver"))
+            return argument.resolve(dfe)
+        }
+    }
 
     /**
      * Handle the given reflection exception.
@@ -175,4 +280,17 @@ class DataFetcherInvoker internal constructor(
         }
         throw exc
     }
+
+    private companion object {
+        private val NO_ARGS = arrayOf<Any?>()
+
+        private fun KType.isValueClass(): Boolean = (classifier as? KClass<*>)?.isValue == true
+
+        private fun formatArgumentError(
+            param: MethodParameter,
+            message: String,
+        ): String =
+            "Could not resolve parameter [${param.parameterIndex}] in " +
+                param.executable.toGenericString() + if (message.isNotEmpty()) ": $message" else ""
+    }
 }
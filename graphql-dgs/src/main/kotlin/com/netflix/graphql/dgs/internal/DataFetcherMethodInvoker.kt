@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.internal.utils.KotlinDefaultsUtil
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.util.ReflectionUtils
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+
+/**
+ * Invokes a data fetcher method on its bean.
+ *
+ * An invoker is created once per data fetcher method, so that everything that can be resolved up front
+ * (access checks, bridge methods, argument spreading and boxing adaptations) is paid for at startup instead of on
+ * every field fetch. Exceptions thrown by the data fetcher method are propagated as-is,
+ * i.e. they are never wrapped in an [InvocationTargetException].
+ */
+internal sealed interface DataFetcherMethodInvoker {
+    val method: Method
+
+    fun invoke(args: Array<Any?>): Any?
+
+    companion object {
+        private val logger: Logger = LoggerFactory.getLogger(DataFetcherMethodInvoker::class.java)
+
+        /**
+         * Creates an invoker backed by a [MethodHandle], falling back to reflection
+         * if a method handle can't be obtained for the given [method].
+         */
+        fun create(
+            target: Any,
+            method: Method,
+        ): DataFetcherMethodInvoker {
+            ReflectionUtils.makeAccessible(method)
+            return try {
+                MethodHandleInvoker(target, method)
+            } catch (exc: IllegalAccessException) {
+                logger.debug("Unable to create a method handle for {}, falling back to reflection.", method, exc)
+                ReflectiveInvoker(target, method)
+            }
+        }
+    }
+}
+
+/**
+ * Invoker that calls the data fetcher method through a [MethodHandle] that is bound to the target bean and
+ * adapted to the generic `(Object[])Object` signature, allowing it to be called with
+ * [MethodHandle.invokeExact] and thus without the per-call checks done by [Method.invoke].
+ */
+internal class MethodHandleInvoker(
+    target: Any,
+    override val method: Method,
+) : DataFetcherMethodInvoker {
+    private val handle: MethodHandle = createHandle(target, method)
+
+    override fun invoke(args: Array<Any?>): Any? = handle.invokeExact(args) as Any?
+
+    override fun toString(): String = "MethodHandleInvoker{method=$method}"
+
+    companion object {
+        private val GENERIC_TYPE = MethodType.methodType(Any::class.java, Array<Any?>::class.java)
+
+        private fun createHandle(
+            target: Any,
+            method: Method,
+        ): MethodHandle {
+            var handle = MethodHandles.lookup().unreflect(method)
+            if (!Modifier.isStatic(method.modifiers)) {
+                handle = handle.bindTo(target)
+            }
+            return handle
+                .asSpreader(Array<Any?>::class.java, method.parameterCount)
+                .asType(GENERIC_TYPE)
+        }
+    }
+}
+
+/**
+ * Fallback invoker that uses [Method.invoke].
+ */
+internal class ReflectiveInvoker(
+    private val target: Any,
+    override val method: Method,
+) : DataFetcherMethodInvoker {
+    override fun invoke(args: Array<Any?>): Any? =
+        try {
+            method.invoke(target, *args)
+        } catch (exc: InvocationTargetException) {
+            throw exc.targetException
+        } catch (exc: IllegalAccessException) {
+            throw IllegalStateException("Could not access method or field: ${exc.message}")
+        }
+
+    override fun toString(): String = "ReflectiveInvoker{method=$method}"
+}
+
+/**
+ * Invokes the synthetic `$default` method that the Kotlin compiler generates for functions with default
+ * parameter values. This allows a Kotlin data fetcher to be called with some of its optional parameters omitted,
+ * without going through [kotlin.reflect.KFunction.callBy].
+ *
+ * The `$default` method is static, and takes the receiver, the function's parameters, one bitmask per 32 parameters
+ * flagging the omitted ones, and a trailing marker argument that is always `null`.
+ */
+internal class KotlinDefaultsInvoker private constructor(
+    private val target: Any,
+    private val defaultsInvoker: DataFetcherMethodInvoker,
+    private val parameterCount: Int,
+    /**
+     * Placeholder values to pass for omitted parameters, matching the (possibly primitive) parameter types.
+     */
+    val placeholders: Array<Any?>,
+) {
+    /**
+     * The number of bitmasks that need to be passed to [invoke].
+     */
+    val maskCount: Int = KotlinDefaultsUtil.maskCount(parameterCount)
+
+    fun invoke(
+        args: Array<Any?>,
+        masks: IntArray,
+    ): Any? {
+        val defaultsArgs = arrayOfNulls<Any?>(parameterCount + maskCount + 2)
+        defaultsArgs[0] = target
+        System.arraycopy(args, 0, defaultsArgs, 1, parameterCount)
+        for (idx in 0 until maskCount) {
+            defaultsArgs[parameterCount + 1 + idx] = masks[idx]
+        }
+        return defaultsInvoker.invoke(defaultsArgs)
+    }
+
+    companion object {
+        /**
+         * Looks up the `$default` method for the given [method], on its declaring class or one of its superclasses
+         * in case [method] overrides a function declaring the default values. Returns null if there is none.
+         */
+        fun find(
+            target: Any,
+            method: Method,
+        ): KotlinDefaultsInvoker? {
+            val parameterTypes = method.parameterTypes
+            val maskTypes = KotlinDefaultsUtil.maskTypes(parameterTypes.size)
+            val defaultsMethod =
+                generateSequence(method.declaringClass) { it.superclass }
+                    .firstNotNullOfOrNull { owner ->
+                        try {
+                            owner.getDeclaredMethod(
+                                method.name + "\$default",
+                                owner,
+                                *parameterTypes,
+                                *maskTypes,
+                                Any::class.java,
+                            )
+                        } catch (exc: NoSuchMethodException) {
+                            null
+                        }
+                    } ?: return null
+
+            if (!Modifier.isStatic(defaultsMethod.modifiers) || !defaultsMethod.isSynthetic) {
+                return null
+            }
+
+            return KotlinDefaultsInvoker(
+                target = target,
+                defaultsInvoker = DataFetcherMethodInvoker.create(target, defaultsMethod),
+                parameterCount = parameterTypes.size,
+                placeholders = Array(parameterTypes.size) { idx -> KotlinDefaultsUtil.placeholder(parameterTypes[idx]) },
+            )
+        }
+    }
+}
@@ -18,6 +18,12 @@ package com.netflix.graphql.dgs.internal
 
 import com.netflix.graphql.dgs.DgsDataFetchingEnvironment
 
+/**
+ * Converts the results of data fetchers of the types it supports.
+ *
+ * Suspend data fetchers return a [java.util.concurrent.CompletableFuture] launched in the request's
+ * [RequestCoroutineScope], not a `Mono`, so processors for `Mono` results don't apply to them.
+ */
 interface DataFetcherResultProcessor {
     fun supportsType(originalResult: Any): Boolean
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.GraphQLContext
+import org.dataloader.DataLoader
+import org.dataloader.DataLoaderRegistry
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.lang.ref.WeakReference
+import java.time.Duration
+import java.util.Collections
+import java.util.IdentityHashMap
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * The safety net of level-aware dispatch, for loads graphql-java doesn't know about, such as loads on a data loader
+ * that wasn't obtained from the `DataFetchingEnvironment`.
+ *
+ * A single sweep runs every [interval] across all tracked registries, instead of a scheduled check per registry.
+ * Data loaders that still have the keys they had at the previous sweep are dispatched, so batches graphql-java is about
+ * to dispatch aren't split. The sweep only runs while there are registries to check.
+ *
+ * Registries tracked with a `GraphQLContext` are [untracked][untrack] by the [DataLoaderDispatchSafetyNetInstrumentation]
+ * when the execution they belong to completes. Registries that are not used for an execution are referenced weakly, and are dropped once
+ * they are garbage collected.
+ */
+internal class DataLoaderDispatchSafetyNet(
+    private val scheduledExecutorService: ScheduledExecutorService,
+    private val interval: Duration,
+) {
+    private val registries: MutableSet<Tracked> = ConcurrentHashMap.newKeySet()
+    private val scheduled = AtomicBoolean(false)
+
+    // Only used by the sweep, which never runs concurrently with itself.
+    private var pendingAtLastSweep: Set<DataLoader<*, *>> = emptySet()
+
+    fun track(
+        registry: DataLoaderRegistry,
+        graphQLContext: GraphQLContext? = null,
+    ) {
+        val tracked = Tracked(registry)
+        registries.add(tracked)
+        graphQLContext?.put(GraphQLContextKey.TRACKED_REGISTRY, tracked)
+        if (scheduled.compareAndSet(false, true)) {
+            schedule()
+        }
+    }
+
+    private fun schedule() {
+        try {
+            scheduledExecutorService.schedule(::sweep, interval.toNanos(), TimeUnit.NANOSECONDS)
+        } catch (ex: RejectedExecutionException) {
+            scheduled.set(false)
+        }
+    }
+
+    private fun sweep() {
+        val pending = Collections.newSetFromMap(IdentityHashMap<DataLoader<*, *>, Boolean>())
+        val iterator = registries.iterator()
+        while (iterator.hasNext()) {
+            val registry = iterator.next().registry.get()
+            if (registry == null) {
+                iterator.remove()
+                continue
+            }
+            for (dataLoader in registry.dataLoaders) {
+                if (dataLoader.dispatchDepth() == 0) {
+                    continue
+                }
+                if (dataLoader in pendingAtLastSweep) {
+                    dispatch(dataLoader)
+                } else {
+                    pending.add(dataLoader)
+                }
+            }
+        }
+        pendingAtLastSweep = pending
+
+        if (registries.isNotEmpty()) {
+            schedule()
+            return
+        }
+        pendingAtLastSweep = emptySet()
+        scheduled.set(false)
+        // A registry tracked while stopping would otherwise not be checked.
+        if (registries.isNotEmpty() && scheduled.compareAndSet(false, true)) {
+            schedule()
+        }
+    }
+
+    private fun dispatch(dataLoader: DataLoader<*, *>) {
+        try {
+            dataLoader.dispatch()
+        } catch (ex: Exception) {
+            logger.warn("Failed to dispatch data loader {} from the dispatch safety net", dataLoader.name, ex)
+        }
+    }
+
+    private inner class Tracked(
+        registry: DataLoaderRegistry,
+    ) {
+        val registry = WeakReference(registry)
+
+        fun untrack() {
+            registries.remove(this)
+        }
+    }
+
+    companion object {
+        private enum class GraphQLContextKey { TRACKED_REGISTRY }
+
+        /**
+         * Stops checking the registry of the request the [graphQLContext] belongs to, once its execution is complete.
+         */
+        fun untrack(graphQLContext: GraphQLContext) {
+            graphQLContext.get<Tracked?>(GraphQLContextKey.TRACKED_REGISTRY)?.untrack()
+        }
+
+        private val logger: Logger = LoggerFactory.getLogger(DataLoaderDispatchSafetyNet::class.java)
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.ExecutionResult
+import graphql.execution.instrumentation.InstrumentationContext
+import graphql.execution.instrumentation.InstrumentationState
+import graphql.execution.instrumentation.SimpleInstrumentationContext
+import graphql.execution.instrumentation.SimplePerformantInstrumentation
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+
+/**
+ * Stops the level-aware dispatch [DataLoaderDispatchSafetyNet] from checking the data loader registry of a request
+ * as soon as its execution is complete, instead of once the registry is garbage collected.
+ */
+class DataLoaderDispatchSafetyNetInstrumentation : SimplePerformantInstrumentation() {
+    override fun beginExecution(
+        parameters: InstrumentationExecutionParameters,
+        state: InstrumentationState?,
+    ): InstrumentationContext<ExecutionResult> =
+        SimpleInstrumentationContext.whenCompleted { _, _ -> DataLoaderDispatchSafetyNet.untrack(parameters.graphQLContext) }
+}
@@ -20,7 +20,14 @@ import com.netflix.graphql.dgs.DgsDataLoader
 import com.netflix.graphql.dgs.DgsDataLoaderOptionsProvider
 import org.dataloader.DataLoaderOptions
 
-class DefaultDataLoaderOptionsProvider : DgsDataLoaderOptionsProvider {
+/**
+ * Creates the options of a data loader from its [DgsDataLoader] annotation. Data loaders with a
+ * [shared cache][DgsDataLoader.sharedCache] get their [SharedDataLoaderValueCache] from [sharedCaches];
+ * without [sharedCaches], which needs Caffeine on the classpath, the shared cache is ignored.
+ */
+class DefaultDataLoaderOptionsProvider(
+    private val sharedCaches: DefaultDgsDataLoaderSharedCaches? = null,
+) : DgsDataLoaderOptionsProvider {
     override fun getOptions(
         dataLoaderName: String,
         annotation: DgsDataLoader,
@@ -33,6 +40,9 @@ class DefaultDataLoaderOptionsProvider : DgsDataLoaderOptionsProvider {
         if (annotation.maxBatchSize > 0) {
             options.setMaxBatchSize(annotation.maxBatchSize)
         }
+        if (annotation.sharedCache.enabled && sharedCaches != null) {
+            options.setValueCache(sharedCaches.valueCache(dataLoaderName, annotation.sharedCache))
+        }
         return options
     }
 }
@@ -21,28 +21,37 @@ import com.netflix.graphql.dgs.DgsComponent
 import com.netflix.graphql.dgs.DgsDataLoader
 import com.netflix.graphql.dgs.DgsDataLoaderCustomizer
 import com.netflix.graphql.dgs.DgsDataLoaderOptionsProvider
+import com.netflix.graphql.dgs.DgsDataLoaderRegistries
 import com.netflix.graphql.dgs.DgsDataLoaderRegistryConsumer
 import com.netflix.graphql.dgs.DgsDispatchPredicate
 import com.netflix.graphql.dgs.exceptions.DgsUnnamedDataLoaderOnFieldException
 import com.netflix.graphql.dgs.exceptions.InvalidDataLoaderTypeException
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
 import com.netflix.graphql.dgs.exceptions.MultipleDataLoadersDefinedException
 import com.netflix.graphql.dgs.exceptions.UnsupportedSecuredDataLoaderException
 import com.netflix.graphql.dgs.internal.utils.DataLoaderNameUtil
+import graphql.GraphQLContext
 import jakarta.annotation.PostConstruct
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
 import org.dataloader.BatchLoader
 import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
 import org.dataloader.DataLoader
 import org.dataloader.DataLoaderFactory
+import org.dataloader.DataLoaderOptions
 import org.dataloader.DataLoaderRegistry
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
 import org.dataloader.registries.DispatchPredicate
 import org.dataloader.registries.ScheduledDataLoaderRegistry
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.aop.support.AopUtils
 import org.springframework.beans.factory.NoSuchBeanDefinitionException
-import org.springframework.beans.factory.getBeansWithAnnotation
 import org.springframework.context.ApplicationContext
 import org.springframework.context.ConfigurableApplicationContext
 import org.springframework.core.type.StandardMethodMetadata
@@ -51,10 +60,19 @@ import java.time.Duration
 import java.util.concurrent.Executors
 import java.util.concurrent.ScheduledExecutorService
 import java.util.function.Supplier
-import kotlin.system.measureTimeMillis
 
 /**
  * Framework implementation class responsible for finding and configuring data loaders.
+ *
+ * With [enableLazyRegistry], registries are [LazyDataLoaderRegistry]s that only create the data loaders a request uses.
+ *
+ * With [enableLevelAwareDispatch], data loaders are dispatched by graphql-java as soon as each execution level is done,
+ * including data loaders chained from other data loaders, which requires data loader chaining to be enabled in the
+ * `GraphQLContext` of each request. Ticker mode is then disabled; instead, a [DataLoaderDispatchSafetyNet] checks all
+ * registries every [levelAwareSafetyNetDuration] for loads graphql-java didn't dispatch.
+ *
+ * [com.netflix.graphql.dgs.SuspendBatchLoader]s and [com.netflix.graphql.dgs.SuspendMappedBatchLoader]s are launched
+ * on the [coroutineDispatcher], in the coroutine scope of the request.
  */
 class DefaultDgsDataLoaderProvider(
     private val applicationContext: ApplicationContext,
@@ -64,19 +82,16 @@ class DefaultDgsDataLoaderProvider(
     private val scheduledExecutorService: ScheduledExecutorService = Executors.newSingleThreadScheduledExecutor(),
     private val scheduleDuration: Duration = Duration.ofMillis(10),
     private val enableTickerMode: Boolean = false,
+    private val enableLazyRegistry: Boolean = false,
+    private val enableLevelAwareDispatch: Boolean = false,
+    private val levelAwareSafetyNetDuration: Duration = Duration.ofMillis(50),
+    coroutineDispatcher: CoroutineDispatcher = Dispatchers.Unconfined,
 ) : DgsDataLoaderProvider {
-    private data class LoaderHolder<T>(
-        val theLoader: T,
-        val annotation: DgsDataLoader,
-        val name: String,
-        val dispatchPredicate: DispatchPredicate? = null,
-    )
-
     private val dataLoaders = mutableMapOf<String, Class<*>>()
-    private val batchLoaders = mutableListOf<LoaderHolder<BatchLoader<*, *>>>()
-    private val batchLoadersWithContext = mutableListOf<LoaderHolder<BatchLoaderWithContext<*, *>>>()
-    private val mappedBatchLoaders = mutableListOf<LoaderHolder<MappedBatchLoader<*, *>>>()
-    private val mappedBatchLoadersWithContext = mutableListOf<LoaderHolder<MappedBatchLoaderWithContext<*, *>>>()
+    private val loaderTemplates = mutableMapOf<String, LoaderTemplate>()
+    private val suspendBatchLoaders = SuspendBatchLoaders(coroutineDispatcher)
+    private val dispatchSafetyNet =
+        if (enableLevelAwareDispatch) DataLoaderDispatchSafetyNet(scheduledExecutorService, levelAwareSafetyNetDuration) else null
 
     override fun buildRegistry(): DataLoaderRegistry = buildRegistryWithContextSupplier { null }
 
@@ -88,20 +103,29 @@ class DefaultDgsDataLoaderProvider(
                 .newScheduledRegistry()
                 .scheduledExecutorService(
                     scheduledExecutorService,
-                ).tickerMode(enableTickerMode)
+                ).tickerMode(enableTickerMode && !enableLevelAwareDispatch)
                 .schedule(scheduleDuration)
                 .dispatchPredicate(DispatchPredicate.DISPATCH_NEVER)
                 .build()
+        val graphQLContext = contextSupplier.get() as? GraphQLContext
+        dispatchSafetyNet?.track(registry, graphQLContext)
 
-        val totalTime =
-            measureTimeMillis {
-                batchLoaders.forEach { registerDataLoader(it, registry, contextSupplier, extensionProviders) }
-                batchLoadersWithContext.forEach { registerDataLoader(it, registry, contextSupplier, extensionProviders) }
-                mappedBatchLoaders.forEach { registerDataLoader(it, registry, contextSupplier, extensionProviders) }
-                mappedBatchLoadersWithContext.forEach { registerDataLoader(it, registry, contextSupplier, extensionProviders) }
-            }
+        if (enableLazyRegistry) {
+            val lazyRegistry =
+                LazyDataLoaderRegistry(registry, loaderTemplates.keys) { name, lazyRegistry ->
+                    loaderTemplates.getValue(name).register(registry, lazyRegistry, contextSupplier)
+                }
+            graphQLContext?.let { DgsDataLoaderRegistries.bind(it, lazyRegistry) }
+            return lazyRegistry
+        }
+
+        graphQLContext?.let { DgsDataLoaderRegistries.bind(it, registry) }
+        val startTime = System.nanoTime()
+        for (template in loaderTemplates.values) {
+            template.register(registry, registry, contextSupplier)
+        }
         if (logger.isDebugEnabled) {
-            logger.debug("Created DGS dataloader registry in {}ms", totalTime)
+            logger.debug("Created DGS dataloader registry in {}µs", (System.nanoTime() - startTime) / 1000)
         }
         return registry
     }
@@ -113,11 +137,12 @@ class DefaultDgsDataLoaderProvider(
     }
 
     private fun addDataLoaderFields() {
-        val dataLoaders = applicationContext.getBeansWithAnnotation<DgsComponent>()
+        val dataLoaders = DgsComponentIndex.beansWithAnnotation(applicationContext, DgsComponent::class.java)
         dataLoaders.values.forEach { dgsComponent ->
             val javaClass = AopUtils.getTargetClass(dgsComponent)
+            val fields = DgsComponentIndex.annotatedFields(javaClass) ?: javaClass.declaredFields.asList()
 
-            javaClass.declaredFields
+            fields
                 .asSequence()
                 .filter { it.isAnnotationPresent(DgsDataLoader::class.java) }
                 .forEach { field ->
@@ -138,7 +163,7 @@ class DefaultDgsDataLoaderProvider(
     }
 
     private fun addDataLoaderComponents() {
-        val dataLoaders = applicationContext.getBeansWithAnnotation<DgsDataLoader>()
+        val dataLoaders = DgsComponentIndex.beansWithAnnotation(applicationContext, DgsDataLoader::class.java)
         dataLoaders.forEach { (beanName, beanInstance) ->
             val javaClass = AopUtils.getTargetClass(beanInstance)
 
@@ -186,15 +211,49 @@ class DefaultDgsDataLoaderProvider(
         }
         dataLoaders[dataLoaderName] = dgsComponentClass
 
-        fun <T : Any> createHolder(t: T): LoaderHolder<T> = LoaderHolder(t, annotation, dataLoaderName, dispatchPredicate)
-
-        when (val customizedDataLoader = runCustomizers(dataLoader, dataLoaderName, dgsComponentClass)) {
-            is BatchLoader<*, *> -> batchLoaders += createHolder(customizedDataLoader)
-            is BatchLoaderWithContext<*, *> -> batchLoadersWithContext += createHolder(customizedDataLoader)
-            is MappedBatchLoader<*, *> -> mappedBatchLoaders += createHolder(customizedDataLoader)
-            is MappedBatchLoaderWithContext<*, *> -> mappedBatchLoadersWithContext += createHolder(customizedDataLoader)
-            else -> throw InvalidDataLoaderTypeException(dgsComponentClass)
+        val batchLoader = suspendBatchLoaders.adapt(dataLoader)
+        val customizedDataLoader = runCustomizers(batchLoader, dataLoaderName, dgsComponentClass)
+        // Registry consumers get a request bound registry once, instead of the registry of every request.
+        @Suppress("DEPRECATION")
+        val registryConsumers =
+            listOf(dataLoader, customizedDataLoader).distinct().filterIsInstance<DgsDataLoaderRegistryConsumer>()
+        val boundRegistry = if (registryConsumers.isNotEmpty()) RequestBoundDataLoaderRegistry() else null
+        if (boundRegistry != null) {
+            registryConsumers.forEach { it.setDataLoaderRegistry(boundRegistry) }
+            logger.warn(
+                "Data loader {} implements the deprecated DgsDataLoaderRegistryConsumer; its registry may resolve to another " +
+                    "request when used asynchronously, use DgsDataLoaderRegistries.from(BatchLoaderEnvironment) instead",
+                dataLoaderName,
+            )
+        }
+        val coalesce = annotation.coalesceAcrossRequests && registryConsumers.isEmpty()
+        if (annotation.coalesceAcrossRequests && !coalesce) {
+            logger.warn(
+                "Data loader {} implements DgsDataLoaderRegistryConsumer and can't be coalesced across requests",
+                dataLoaderName,
+            )
         }
+        // Suspend batch loaders and loaders wrapped by customizers take a context too, but only the user's loader needs it.
+        val contextAware =
+            dataLoader is BatchLoaderWithContext<*, *> ||
+                dataLoader is MappedBatchLoaderWithContext<*, *> ||
+                dataLoader is BatchPublisherWithContext<*, *> ||
+                dataLoader is MappedBatchPublisherWithContext<*, *>
+        if (coalesce && contextAware) {
+            throw InvalidDgsConfigurationException(
+                "Data loader $dataLoaderName takes the context of the request it loads for, " +
+                    "so it can't be coalesced across requests; remove coalesceAcrossRequests or don't use the context",
+            )
+        }
+        loaderTemplates[dataLoaderName] =
+            compileTemplate(
+                customizedDataLoader,
+                dataLoaderName,
+                annotation,
+                dispatchPredicate,
+                coalesce,
+                boundRegistry,
+            )
     }
 
     private fun runCustomizers(
@@ -208,140 +267,200 @@ class DefaultDgsDataLoaderProvider(
                 is BatchLoaderWithContext<*, *> -> customizer.provide(dataLoader, name)
                 is MappedBatchLoader<*, *> -> customizer.provide(dataLoader, name)
                 is MappedBatchLoaderWithContext<*, *> -> customizer.provide(dataLoader, name)
+                is BatchPublisher<*, *> -> customizer.provide(dataLoader, name)
+                is BatchPublisherWithContext<*, *> -> customizer.provide(dataLoader, name)
+                is MappedBatchPublisher<*, *> -> customizer.provide(dataLoader, name)
+                is MappedBatchPublisherWithContext<*, *> -> customizer.provide(dataLoader, name)
                 else -> throw InvalidDataLoaderTypeException(dgsComponentClass)
             }
         }
 
-    private fun createDataLoader(
-        batchLoader: BatchLoader<*, *>,
-        dgsDataLoader: DgsDataLoader,
+    /**
+     * Compiles the [LoaderTemplate] for a data loader: the fully wrapped batch loader is the same for every request,
+     * so it is computed once, when the data loaders are found. The options are only computed once if they come from the
+     * [DefaultDataLoaderOptionsProvider]; a custom [DgsDataLoaderOptionsProvider] is called for every request, as it
+     * may return a new cache map or value cache each time.
+     */
+    private fun compileTemplate(
+        batchLoader: Any,
         dataLoaderName: String,
-        dataLoaderRegistry: DataLoaderRegistry,
-        extensionProviders: Iterable<DataLoaderInstrumentationExtensionProvider>,
-    ): DataLoader<*, *> {
-        val options = dataLoaderOptionsProvider.getOptions(dataLoaderName, dgsDataLoader)
+        annotation: DgsDataLoader,
+        dispatchPredicate: DispatchPredicate?,
+        coalesce: Boolean,
+        boundRegistry: RequestBoundDataLoaderRegistry?,
+    ): LoaderTemplate {
+        val options = optionsSupplier(dataLoaderName, annotation)
+        val predicate = dispatchPredicate ?: DispatchPredicate.DISPATCH_ALWAYS
+
+        val instrumented: Any =
+            when (batchLoader) {
+                is BatchLoader<*, *> ->
+                    wrappedDataLoader<BatchLoader<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is BatchLoaderWithContext<*, *> ->
+                    wrappedDataLoader<BatchLoaderWithContext<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is MappedBatchLoader<*, *> ->
+                    wrappedDataLoader<MappedBatchLoader<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is MappedBatchLoaderWithContext<*, *> ->
+                    wrappedDataLoader<MappedBatchLoaderWithContext<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is BatchPublisher<*, *> ->
+                    wrappedDataLoader<BatchPublisher<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is BatchPublisherWithContext<*, *> ->
+                    wrappedDataLoader<BatchPublisherWithContext<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is MappedBatchPublisher<*, *> ->
+                    wrappedDataLoader<MappedBatchPublisher<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                is MappedBatchPublisherWithContext<*, *> ->
+                    wrappedDataLoader<MappedBatchPublisherWithContext<*, *>>(batchLoader, dataLoaderName, extensionProviders)
+                else -> throw InvalidDataLoaderTypeException(batchLoader.javaClass)
+            }
+        val wrapped =
+            if (annotation.fanOutBatchSize > 0) {
+                FanOutBatchLoader.wrap(dataLoaderName, instrumented, annotation.fanOutBatchSize, annotation.fanOutConcurrency)
+            } else {
+                instrumented
+            }
+        // Only look for a shared cache when asked for, so Caffeine isn't needed otherwise.
+        if (annotation.sharedCache.enabled) {
+            (options().valueCache().orElse(null) as? SharedDataLoaderValueCache)?.bindBatchLoader(wrapped)
+        }
 
-        if (batchLoader is DgsDataLoaderRegistryConsumer) {
-            batchLoader.setDataLoaderRegistry(dataLoaderRegistry)
+        if (coalesce) {
+            val maxBatchSize = if (annotation.coalesceMaxBatchSize > 0) annotation.coalesceMaxBatchSize else annotation.maxBatchSize
+            val coalescer =
+                CrossRequestBatchCoalescer.create(
+                    dataLoaderName,
+                    wrapped,
+                    Duration.ofMillis(annotation.coalesceWindowMillis),
+                    maxBatchSize,
+                    scheduledExecutorService,
+                )
+            val factory =
+                if (wrapped is MappedBatchLoader<*, *> ||
+                    wrapped is MappedBatchLoaderWithContext<*, *> ||
+                    wrapped is MappedBatchPublisher<*, *> ||
+                    wrapped is MappedBatchPublisherWithContext<*, *>
+                ) {
+                    dataLoaderFactory(dataLoaderName, coalescer.mappedBatchLoader)
+                } else {
+                    dataLoaderFactory(dataLoaderName, coalescer.batchLoader)
+                }
+            return LoaderTemplate(dataLoaderName, options, null, predicate, factory)
         }
 
-        val extendedBatchLoader = wrappedDataLoader(batchLoader, dataLoaderName, extensionProviders)
-        return DataLoaderFactory.newDataLoader(dataLoaderName, extendedBatchLoader, options.build())
+        val factory =
+            when (wrapped) {
+                is BatchLoader<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is BatchLoaderWithContext<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is MappedBatchLoader<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is MappedBatchLoaderWithContext<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is BatchPublisher<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is BatchPublisherWithContext<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is MappedBatchPublisher<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                is MappedBatchPublisherWithContext<*, *> -> dataLoaderFactory(dataLoaderName, wrapped)
+                else -> throw InvalidDataLoaderTypeException(batchLoader.javaClass)
+            }
+
+        return LoaderTemplate(dataLoaderName, options, boundRegistry, predicate, factory)
     }
 
-    private fun createDataLoader(
-        batchLoader: MappedBatchLoader<*, *>,
-        dgsDataLoader: DgsDataLoader,
+    private fun optionsSupplier(
         dataLoaderName: String,
-        dataLoaderRegistry: DataLoaderRegistry,
-        extensionProviders: Iterable<DataLoaderInstrumentationExtensionProvider>,
-    ): DataLoader<*, *> {
-        val options = dataLoaderOptionsProvider.getOptions(dataLoaderName, dgsDataLoader)
-
-        if (batchLoader is DgsDataLoaderRegistryConsumer) {
-            batchLoader.setDataLoaderRegistry(dataLoaderRegistry)
+        annotation: DgsDataLoader,
+    ): () -> DataLoaderOptions {
+        if (dataLoaderOptionsProvider is DefaultDataLoaderOptionsProvider) {
+            val options = dataLoaderOptionsProvider.getOptions(dataLoaderName, annotation).build()
+            return { options }
         }
-        val extendedBatchLoader = wrappedDataLoader(batchLoader, dataLoaderName, extensionProviders)
-
-        return DataLoaderFactory.newMappedDataLoader(extendedBatchLoader, options.build())
+        return { dataLoaderOptionsProvider.getOptions(dataLoaderName, annotation).build() }
     }
 
-    private fun <T : Any> createDataLoader(
+    private fun dataLoaderFactory(
+        name: String,
+        batchLoader: BatchLoader<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { _, options -> DataLoaderFactory.newDataLoader(name, batchLoader, options) }
+
+    private fun dataLoaderFactory(
+        name: String,
         batchLoader: BatchLoaderWithContext<*, *>,
-        dgsDataLoader: DgsDataLoader,
-        dataLoaderName: String,
-        supplier: Supplier<T>,
-        dataLoaderRegistry: DataLoaderRegistry,
-        extensionProviders: Iterable<DataLoaderInstrumentationExtensionProvider>,
-    ): DataLoader<*, *> {
-        val options =
-            dataLoaderOptionsProvider
-                .getOptions(dataLoaderName, dgsDataLoader)
-                .setBatchLoaderContextProvider(supplier::get)
-
-        if (batchLoader is DgsDataLoaderRegistryConsumer) {
-            batchLoader.setDataLoaderRegistry(dataLoaderRegistry)
-        }
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { contextSupplier, options -> DataLoaderFactory.newDataLoader(name, batchLoader, withContextProvider(options, contextSupplier)) }
 
-        val extendedBatchLoader = wrappedDataLoader(batchLoader, dataLoaderName, extensionProviders)
-        return DataLoaderFactory.newDataLoader(dataLoaderName, extendedBatchLoader, options.build())
-    }
+    private fun dataLoaderFactory(
+        name: String,
+        batchLoader: MappedBatchLoader<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { _, options -> DataLoaderFactory.newMappedDataLoader(name, batchLoader, options) }
 
-    private fun <T : Any> createDataLoader(
+    private fun dataLoaderFactory(
+        name: String,
         batchLoader: MappedBatchLoaderWithContext<*, *>,
-        dgsDataLoader: DgsDataLoader,
-        dataLoaderName: String,
-        supplier: Supplier<T>,
-        dataLoaderRegistry: DataLoaderRegistry,
-        extensionProviders: Iterable<DataLoaderInstrumentationExtensionProvider>,
-    ): DataLoader<*, *> {
-        val options =
-            dataLoaderOptionsProvider
-                .getOptions(dataLoaderName, dgsDataLoader)
-                .setBatchLoaderContextProvider(supplier::get)
-
-        if (batchLoader is DgsDataLoaderRegistryConsumer) {
-            batchLoader.setDataLoaderRegistry(dataLoaderRegistry)
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { contextSupplier, options ->
+            DataLoaderFactory.newMappedDataLoader(name, batchLoader, withContextProvider(options, contextSupplier))
         }
 
-        val extendedBatchLoader = wrappedDataLoader(batchLoader, dataLoaderName, extensionProviders)
-        return DataLoaderFactory.newMappedDataLoader(dataLoaderName, extendedBatchLoader, options.build())
-    }
-
-    private fun registerDataLoader(
-        holder: LoaderHolder<*>,
-        registry: ScheduledDataLoaderRegistry,
-        contextSupplier: Supplier<*>,
-        extensionProviders: Iterable<DataLoaderInstrumentationExtensionProvider>,
-    ) {
-        val loader =
-            when (holder.theLoader) {
-                is BatchLoader<*, *> ->
-                    createDataLoader(
-                        holder.theLoader,
-                        holder.annotation,
-                        holder.name,
-                        registry,
-                        extensionProviders,
-                    )
+    private fun dataLoaderFactory(
+        name: String,
+        batchPublisher: BatchPublisher<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { _, options -> DataLoaderFactory.newPublisherDataLoader(name, batchPublisher, options) }
 
-                is BatchLoaderWithContext<*, *> ->
-                    createDataLoader(
-                        holder.theLoader,
-                        holder.annotation,
-                        holder.name,
-                        contextSupplier,
-                        registry,
-                        extensionProviders,
-                    )
+    private fun dataLoaderFactory(
+        name: String,
+        batchPublisher: BatchPublisherWithContext<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { contextSupplier, options ->
+            DataLoaderFactory.newPublisherDataLoader(name, batchPublisher, withContextProvider(options, contextSupplier))
+        }
 
-                is MappedBatchLoader<*, *> ->
-                    createDataLoader(
-                        holder.theLoader,
-                        holder.annotation,
-                        holder.name,
-                        registry,
-                        extensionProviders,
-                    )
+    private fun dataLoaderFactory(
+        name: String,
+        batchPublisher: MappedBatchPublisher<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { _, options -> DataLoaderFactory.newMappedPublisherDataLoader(name, batchPublisher, options) }
 
-                is MappedBatchLoaderWithContext<*, *> ->
-                    createDataLoader(
-                        holder.theLoader,
-                        holder.annotation,
-                        holder.name,
-                        contextSupplier,
-                        registry,
-                        extensionProviders,
-                    )
-
-                else -> throw IllegalArgumentException("Data loader ${holder.name} has unknown type")
-            }
-        // detect and throw an exception if multiple data loaders use the same name
-        if (registry.getDataLoader<Any, Any>(holder.name) != null) {
-            throw MultipleDataLoadersDefinedException(holder.theLoader.javaClass)
+    private fun dataLoaderFactory(
+        name: String,
+        batchPublisher: MappedBatchPublisherWithContext<*, *>,
+    ): (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *> =
+        { contextSupplier, options ->
+            DataLoaderFactory.newMappedPublisherDataLoader(name, batchPublisher, withContextProvider(options, contextSupplier))
         }
 
-        registry.register(holder.name, loader, holder.dispatchPredicate ?: DispatchPredicate.DISPATCH_ALWAYS)
+    private fun withContextProvider(
+        options: DataLoaderOptions,
+        contextSupplier: Supplier<*>,
+    ): DataLoaderOptions = options.transform { it.setBatchLoaderContextProvider(contextSupplier::get) }
+
+    /**
+     * Everything needed to create a data loader that doesn't change between requests: the options, the batch
+     * loader wrapped by all [DataLoaderInstrumentationExtensionProvider]s, and the dispatch predicate.
+     * Creating the data loader for a request only instantiates it and registers it.
+     *
+     * @property boundRegistry the registry set on the batch loader if it is a [DgsDataLoaderRegistryConsumer],
+     * which needs the request's registry bound to it while it is called
+     */
+    private class LoaderTemplate(
+        val name: String,
+        private val options: () -> DataLoaderOptions,
+        private val boundRegistry: RequestBoundDataLoaderRegistry?,
+        private val dispatchPredicate: DispatchPredicate,
+        private val dataLoaderFactory: (Supplier<*>, DataLoaderOptions) -> DataLoader<*, *>,
+    ) {
+        /**
+         * Creates the data loader and registers it in the [registry].
+         * The [consumerRegistry] is the registry [DgsDataLoaderRegistryConsumer]s see; the registry itself,
+         * or the [LazyDataLoaderRegistry] wrapping it.
+         */
+        fun register(
+            registry: ScheduledDataLoaderRegistry,
+            consumerRegistry: DataLoaderRegistry,
+            contextSupplier: Supplier<*>,
+        ) {
+            val options = options()
+            val requestOptions = boundRegistry?.bindTo(options, consumerRegistry) ?: options
+            registry.register(name, dataLoaderFactory(contextSupplier, requestOptions), dispatchPredicate)
+        }
     }
 
     private inline fun <reified T> wrappedDataLoader(
@@ -371,6 +490,26 @@ class DefaultDgsDataLoaderProvider(
                     extensionProviders.forEach { wrappedBatchLoader = it.provide(wrappedBatchLoader, name) }
                     return wrappedBatchLoader as T
                 }
+                is BatchPublisher<*, *> -> {
+                    var wrappedBatchPublisher: BatchPublisher<*, *> = loader
+                    extensionProviders.forEach { wrappedBatchPublisher = it.provide(wrappedBatchPublisher, name) }
+                    return wrappedBatchPublisher as T
+                }
+                is BatchPublisherWithContext<*, *> -> {
+                    var wrappedBatchPublisher: BatchPublisherWithContext<*, *> = loader
+                    extensionProviders.forEach { wrappedBatchPublisher = it.provide(wrappedBatchPublisher, name) }
+                    return wrappedBatchPublisher as T
+                }
+                is MappedBatchPublisher<*, *> -> {
+                    var wrappedBatchPublisher: MappedBatchPublisher<*, *> = loader
+                    extensionProviders.forEach { wrappedBatchPublisher = it.provide(wrappedBatchPublisher, name) }
+                    return wrappedBatchPublisher as T
+                }
+                is MappedBatchPublisherWithContext<*, *> -> {
+                    var wrappedBatchPublisher: MappedBatchPublisherWithContext<*, *> = loader
+                    extensionProviders.forEach { wrappedBatchPublisher = it.provide(wrappedBatchPublisher, name) }
+                    return wrappedBatchPublisher as T
+                }
             }
         } catch (ex: NoSuchBeanDefinitionException) {
             logger.debug("Unable to wrap the [{} : {}]", name, loader, ex)
@@ -21,6 +21,7 @@ import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.context.ApplicationContext
 import java.time.Instant
+import java.util.concurrent.CompletableFuture
 import java.util.concurrent.atomic.AtomicLong
 import kotlin.system.measureTimeMillis
 
@@ -134,6 +135,36 @@ class DefaultDgsDataLoaderReloadController(
         }
     }
 
+    /**
+     * Reload all data loaders in the background.
+     *
+     * The new data loaders are built by the ReloadableDgsDataLoaderProvider on its reload executor,
+     * and the statistics are updated once they are published.
+     *
+     * @return a future completed with true if reload was successful, false if an error occurred
+     */
+    override fun reloadDataLoadersAsync(): CompletableFuture<Boolean> {
+        logger.info("Programmatic background data loader reload requested")
+        val start = System.nanoTime()
+        return try {
+            reloadableProvider.reloadAsync().thenApply { success ->
+                if (success) {
+                    val duration = (System.nanoTime() - start) / 1_000_000
+                    lastReloadTime = Instant.now()
+                    lastReloadDuration = duration
+                    totalReloads.incrementAndGet()
+                    logger.info("Background data loader reload completed successfully in {}ms", duration)
+                } else {
+                    logger.warn("Background data loader reload reported failure")
+                }
+                success
+            }
+        } catch (e: Exception) {
+            logger.error("Failed to reload data loaders", e)
+            CompletableFuture.completedFuture(false)
+        }
+    }
+
     /**
      * Check if data loader reloading is currently enabled.
      *
@@ -155,6 +186,16 @@ class DefaultDgsDataLoaderReloadController(
      */
     override fun getLastReloadTime(): Instant? = lastReloadTime
 
+    /**
+     * Get the generation of the data loaders that new requests use.
+     *
+     * Unlike the other statistics, this reflects every reload of the ReloadableDgsDataLoaderProvider,
+     * including the initial load.
+     *
+     * @return the current generation, or 0 if the data loaders were not loaded yet
+     */
+    override fun getGeneration(): Long = reloadableProvider.getGeneration()
+
     /**
      * Get comprehensive statistics about data loader reloading.
      *
@@ -166,5 +207,6 @@ class DefaultDgsDataLoaderReloadController(
             lastReloadTime = lastReloadTime,
             lastReloadDuration = lastReloadDuration,
             isEnabled = true,
+            generation = getGeneration(),
         )
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsDataLoaderSharedCache
+import com.netflix.graphql.dgs.DgsDataLoaderSharedCaches
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * Holds the [SharedDataLoaderValueCache] of each data loader with a [shared cache][DgsDataLoaderSharedCache].
+ * Caches are created by the [DefaultDataLoaderOptionsProvider] when the data loaders are found, and kept when
+ * data loaders are reloaded.
+ */
+class DefaultDgsDataLoaderSharedCaches : DgsDataLoaderSharedCaches {
+    private val caches = ConcurrentHashMap<String, SharedDataLoaderValueCache>()
+    private val listeners = CopyOnWriteArrayList<(SharedDataLoaderValueCache) -> Unit>()
+
+    /**
+     * Returns the shared cache of the data loader, creating it on first use.
+     */
+    fun valueCache(
+        dataLoaderName: String,
+        config: DgsDataLoaderSharedCache,
+    ): SharedDataLoaderValueCache {
+        var created: SharedDataLoaderValueCache? = null
+        val cache =
+            caches.computeIfAbsent(dataLoaderName) {
+                SharedDataLoaderValueCache(dataLoaderName, config).also { created = it }
+            }
+        created?.let { newCache -> listeners.forEach { it(newCache) } }
+        return cache
+    }
+
+    /**
+     * Calls the [listener] for every shared cache, the existing ones and the ones created later.
+     */
+    fun forEachCache(listener: (SharedDataLoaderValueCache) -> Unit) {
+        listeners.add(listener)
+        caches.values.forEach(listener)
+    }
+
+    override fun dataLoaderNames(): Set<String> = caches.keys.toSet()
+
+    override fun invalidate(
+        dataLoaderName: String,
+        key: Any,
+    ) {
+        caches[dataLoaderName]?.cache?.invalidate(key)
+    }
+
+    override fun invalidateAll(dataLoaderName: String) {
+        caches[dataLoaderName]?.cache?.invalidateAll()
+    }
+
+    override fun invalidateAll() {
+        caches.values.forEach { it.cache.invalidateAll() }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsExecutorSelector
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
+import graphql.schema.FieldCoordinates
+import org.springframework.core.task.AsyncTaskExecutor
+import java.lang.reflect.Method
+
+/**
+ * Default [DgsExecutorSelector] that resolves executor names to the configured [bulkheads].
+ * Referencing an executor that isn't configured fails at startup.
+ */
+class DefaultDgsExecutorSelector(
+    val bulkheads: List<DgsBulkhead>,
+) : DgsExecutorSelector {
+    private val bulkheadsByName = bulkheads.associateBy { it.name }
+
+    override fun selectExecutor(
+        method: Method,
+        fieldCoordinates: FieldCoordinates,
+        executorName: String,
+    ): AsyncTaskExecutor =
+        bulkheadsByName[executorName]
+            ?: throw InvalidDgsConfigurationException(
+                "Data fetcher $fieldCoordinates (${method.declaringClass.name}.${method.name}) uses executor '$executorName', " +
+                    "but no such executor is configured. Available executors: ${bulkheadsByName.keys}",
+            )
+}
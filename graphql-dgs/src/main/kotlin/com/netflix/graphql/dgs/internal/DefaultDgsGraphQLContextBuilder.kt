@@ -29,6 +29,7 @@ import kotlin.time.measureTimedValue
 open class DefaultDgsGraphQLContextBuilder(
     private val dgsCustomContextBuilder: Optional<DgsCustomContextBuilder<*>>,
     private val dgsCustomContextBuilderWithRequest: Optional<DgsCustomContextBuilderWithRequest<*>> = Optional.empty(),
+    private val deadlineResolver: DgsRequestDeadlineResolver? = null,
 ) {
     fun build(dgsRequestData: DgsWebMvcRequestData): DgsContext {
         val (context, elapsed) = measureTimedValue { buildDgsContext(dgsRequestData) }
@@ -57,6 +58,7 @@ open class DefaultDgsGraphQLContextBuilder(
         return DgsContext(
             customContext,
             dgsRequestData,
+            deadlineResolver?.resolve(dgsRequestData?.headers),
         )
     }
 
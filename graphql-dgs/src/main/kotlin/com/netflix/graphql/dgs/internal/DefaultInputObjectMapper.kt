@@ -17,25 +17,35 @@
 package com.netflix.graphql.dgs.internal
 
 import com.netflix.graphql.dgs.exceptions.DgsInvalidInputArgumentException
+import com.netflix.graphql.dgs.internal.utils.KotlinDefaultsUtil
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
-import org.springframework.beans.ConfigurablePropertyAccessor
-import org.springframework.beans.PropertyAccessorFactory
+import org.springframework.beans.BeanUtils
 import org.springframework.core.KotlinDetector
 import org.springframework.core.ResolvableType
 import org.springframework.core.convert.ConversionException
+import org.springframework.core.convert.Property
 import org.springframework.core.convert.TypeDescriptor
 import org.springframework.core.convert.converter.ConditionalGenericConverter
 import org.springframework.core.convert.converter.GenericConverter
 import org.springframework.core.convert.support.DefaultConversionService
 import org.springframework.util.CollectionUtils
+import org.springframework.util.ReflectionUtils
+import org.springframework.util.StringUtils
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
 import java.lang.reflect.Constructor
+import java.lang.reflect.Field
 import java.lang.reflect.Type
 import java.util.Optional
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentMap
 import kotlin.reflect.KClass
+import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
-import kotlin.reflect.KType
 import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
 import kotlin.reflect.jvm.javaType
 import kotlin.reflect.jvm.jvmErasure
 
@@ -44,6 +54,16 @@ class DefaultInputObjectMapper(
 ) : InputObjectMapper {
     companion object {
         private val logger: Logger = LoggerFactory.getLogger(InputObjectMapper::class.java)
+
+        private val SETTER_TYPE: MethodType = MethodType.methodType(Any::class.java, Any::class.java, Any::class.java)
+        private val SPREAD_CONSTRUCTOR_TYPE: MethodType = MethodType.methodType(Any::class.java, Array<Any?>::class.java)
+
+        private fun spreadConstructor(constructor: Constructor<*>): MethodHandle =
+            MethodHandles
+                .lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Array<Any?>::class.java, constructor.parameterCount)
+                .asType(SPREAD_CONSTRUCTOR_TYPE)
     }
 
     private val conversionService = DefaultConversionService()
@@ -87,157 +107,371 @@ class DefaultInputObjectMapper(
         }
     }
 
+    private val kotlinObjectPlans: ConcurrentMap<KClass<*>, KotlinObjectPlan> = ConcurrentHashMap()
+    private val javaObjectPlans: ConcurrentMap<Class<*>, JavaObjectPlan> = ConcurrentHashMap()
+    private val recordPlans: ConcurrentMap<Class<*>, RecordPlan> = ConcurrentHashMap()
+
     override fun <T : Any> mapToKotlinObject(
         inputMap: Map<String, *>,
         targetClass: KClass<T>,
     ): T {
-        val constructor =
-            targetClass.primaryConstructor
-                ?: throw DgsInvalidInputArgumentException("No primary constructor found for class $targetClass")
-
-        val parameters = constructor.parameters
-        val parametersByName = CollectionUtils.newLinkedHashMap<KParameter, Any?>(parameters.size)
-
-        for (parameter in parameters) {
-            if (parameter.name !in inputMap) {
-                if (parameter.isOptional) {
-                    continue
-                } else if (parameter.type.isMarkedNullable) {
-                    parametersByName[parameter] = null
-                    continue
-                }
-                throw DgsInvalidInputArgumentException("No value specified for required parameter ${parameter.name} of class $targetClass")
-            }
+        val plan = kotlinObjectPlans[targetClass] ?: kotlinObjectPlans.computeIfAbsent(targetClass) { KotlinObjectPlan(it) }
+        @Suppress("UNCHECKED_CAST")
+        return plan.map(inputMap) as T
+    }
 
-            val input = inputMap[parameter.name]
-            parametersByName[parameter] = maybeConvert(input, parameter.type)
+    override fun <T> mapToJavaObject(
+        inputMap: Map<String, *>,
+        targetClass: Class<T>,
+    ): T {
+        if (targetClass.isAssignableFrom(inputMap::class.java)) {
+            @Suppress("UNCHECKED_CAST")
+            return inputMap as T
         }
 
-        return try {
-            constructor.callBy(parametersByName)
-        } catch (ex: Exception) {
-            throw DgsInvalidInputArgumentException("Provided input arguments do not match arguments of data class `$targetClass`", ex)
+        if (targetClass.isRecord) {
+            val plan = recordPlans[targetClass] ?: recordPlans.computeIfAbsent(targetClass) { RecordPlan(it) }
+            @Suppress("UNCHECKED_CAST")
+            return plan.map(inputMap) as T
         }
-    }
 
-    private fun maybeConvert(
-        input: Any?,
-        parameterType: KType,
-    ): Any? {
-        // Check if input is already an instance of the parameter type; we check against the KType / KClass
-        // to support inline value classes.
-        if (parameterType.arguments.isEmpty() && parameterType.jvmErasure.isInstance(input)) {
-            return input
-        }
-        return maybeConvert(input, parameterType.javaType)
+        val plan = javaObjectPlans[targetClass] ?: javaObjectPlans.computeIfAbsent(targetClass) { JavaObjectPlan(it) }
+        @Suppress("UNCHECKED_CAST")
+        return plan.map(inputMap) as T
     }
 
-    private fun maybeConvert(
-        input: Any?,
+    /**
+     * Converts values to the type of a constructor parameter or record component,
+     * with the target [TypeDescriptor] resolved once.
+     */
+    private inner class ValueConverter(
         parameterType: Type,
-    ): Any? {
-        val targetType: TypeDescriptor
-        if (parameterType is Class<*>) {
-            if (parameterType.isInstance(input)) {
+        private val kotlinType: KClass<*>? = null,
+    ) {
+        private val rawType: Class<*>? = parameterType as? Class<*>
+        private val targetType: TypeDescriptor =
+            if (parameterType is Class<*>) {
+                TypeDescriptor.valueOf(parameterType)
+            } else {
+                TypeDescriptor(ResolvableType.forType(parameterType), null, null)
+            }
+
+        fun convert(input: Any?): Any? {
+            // Check if input is already an instance of the parameter type; for Kotlin we check against the KClass
+            // to support inline value classes.
+            if (kotlinType != null && kotlinType.isInstance(input)) {
+                return input
+            }
+            if (rawType != null && rawType.isInstance(input)) {
                 // No conversion necessary
                 return input
             }
-            targetType = TypeDescriptor.valueOf(parameterType)
-        } else {
-            targetType = TypeDescriptor(ResolvableType.forType(parameterType), null, null)
-        }
-        val sourceType = TypeDescriptor.forObject(input)
 
-        try {
-            return conversionService.convert(input, sourceType, targetType)
-        } catch (exc: ConversionException) {
-            throw DgsInvalidInputArgumentException("Failed to convert value $input to $targetType", exc)
+            try {
+                return conversionService.convert(input, TypeDescriptor.forObject(input), targetType)
+            } catch (exc: ConversionException) {
+                throw DgsInvalidInputArgumentException("Failed to convert value $input to $targetType", exc)
+            }
         }
     }
 
-    override fun <T> mapToJavaObject(
-        inputMap: Map<String, *>,
-        targetClass: Class<T>,
-    ): T {
-        if (targetClass.isAssignableFrom(inputMap::class.java)) {
-            @Suppress("UNCHECKED_CAST")
-            return inputMap as T
-        }
+    /**
+     * Maps input to a Kotlin class through its primary constructor. When the constructor can be called directly,
+     * it is invoked through a [MethodHandle], or through the synthetic `$default` constructor when optional
+     * parameters are omitted. Otherwise, e.g. for inline value class parameters, [KFunction.callBy] is used.
+     */
+    private inner class KotlinObjectPlan(
+        private val targetClass: KClass<*>,
+    ) {
+        private val constructor: KFunction<*>? = targetClass.primaryConstructor
+        private val parameters: List<KParameter> = constructor?.parameters ?: emptyList()
+        private val parameterNames: Array<String?> = Array(parameters.size) { parameters[it].name }
+        private val converters: Array<ValueConverter> =
+            Array(parameters.size) { idx ->
+                val type = parameters[idx].type
+                ValueConverter(type.javaType, if (type.arguments.isEmpty()) type.jvmErasure else null)
+            }
 
-        if (targetClass.isRecord) {
-            return handleRecordClass(inputMap, targetClass)
+        private val constructorHandle: MethodHandle?
+        private val defaultsConstructorHandle: MethodHandle?
+        private val placeholders: Array<Any?>
+        private val maskCount = KotlinDefaultsUtil.maskCount(parameters.size)
+
+        init {
+            val javaConstructor = constructor?.javaConstructor
+            if (javaConstructor != null && canInvokeDirectly()) {
+                ReflectionUtils.makeAccessible(javaConstructor)
+                constructorHandle = spreadConstructor(javaConstructor)
+                defaultsConstructorHandle =
+                    if (parameters.any { it.isOptional }) findDefaultsConstructor(javaConstructor)?.let { spreadConstructor(it) } else null
+                placeholders = Array(parameters.size) { KotlinDefaultsUtil.placeholder(javaConstructor.parameterTypes[it]) }
+            } else {
+                constructorHandle = null
+                defaultsConstructorHandle = null
+                placeholders = emptyArray()
+            }
         }
 
-        @Suppress("UNCHECKED_CAST")
-        val ctor = targetClass.getDeclaredConstructor() as Constructor<T>
-        ctor.trySetAccessible()
-        val instance = ctor.newInstance()
-        val setterAccessor = setterAccessor(instance)
-        val fieldAccessor = fieldAccessor(instance)
-        var nrOfPropertyErrors = 0
-
-        for ((name, value) in inputMap.entries) {
-            try {
-                if (setterAccessor.isWritableProperty(name)) {
-                    setterAccessor.setPropertyValue(name, value)
-                } else if (fieldAccessor.isWritableProperty(name)) {
-                    fieldAccessor.setPropertyValue(name, value)
+        private fun canInvokeDirectly(): Boolean =
+            parameters.all { it.kind == KParameter.Kind.VALUE && (it.type.classifier as? KClass<*>)?.isValue != true }
+
+        fun map(inputMap: Map<String, *>): Any {
+            if (constructor == null) {
+                throw DgsInvalidInputArgumentException("No primary constructor found for class $targetClass")
+            }
+            if (constructorHandle == null) {
+                return mapWithCallBy(constructor, inputMap)
+            }
+
+            val args = arrayOfNulls<Any?>(parameters.size)
+            var omittedMasks: IntArray? = null
+
+            for (idx in parameters.indices) {
+                val name = parameterNames[idx]
+                if (!inputMap.containsKey(name)) {
+                    val parameter = parameters[idx]
+                    if (parameter.isOptional && defaultsConstructorHandle != null) {
+                        val masks = omittedMasks ?: IntArray(maskCount).also { omittedMasks = it }
+                        KotlinDefaultsUtil.setOmitted(masks, idx)
+                        args[idx] = placeholders[idx]
+                        continue
+                    } else if (parameter.isOptional) {
+                        return mapWithCallBy(constructor, inputMap)
+                    } else if (parameter.type.isMarkedNullable) {
+                        continue
+                    }
+                    throw DgsInvalidInputArgumentException("No value specified for required parameter $name of class $targetClass")
+                }
+                args[idx] = converters[idx].convert(inputMap[name])
+            }
+
+            return try {
+                val masks = omittedMasks
+                if (masks == null) {
+                    constructorHandle.invokeExact(args) as Any
                 } else {
-                    nrOfPropertyErrors++
-                    logger.warn("Field or property '{}' was not found on Input object of type '{}'", name, targetClass)
+                    val defaultsArgs = args.copyOf(parameters.size + maskCount + 1)
+                    for (idx in 0 until maskCount) {
+                        defaultsArgs[parameters.size + idx] = masks[idx]
+                    }
+                    defaultsConstructorHandle!!.invokeExact(defaultsArgs) as Any
                 }
             } catch (ex: Exception) {
-                throw DgsInvalidInputArgumentException(
-                    "Invalid input argument `$value` for field/property `$name` on type `${targetClass.name}`",
-                    ex,
-                )
+                throw DgsInvalidInputArgumentException("Provided input arguments do not match arguments of data class `$targetClass`", ex)
             }
         }
 
-        /**
-         We can't error out if only some fields don't match.
-         This would happen if new schema fields are added, but the Java type wasn't updated yet.
-         If none of the fields match however, it's a pretty good indication that the wrong type was used, hence this check.
-         */
-        if (inputMap.isNotEmpty() && nrOfPropertyErrors == inputMap.size) {
-            throw DgsInvalidInputArgumentException("Input argument type '$targetClass' doesn't match input $inputMap")
+        private fun mapWithCallBy(
+            constructor: KFunction<*>,
+            inputMap: Map<String, *>,
+        ): Any {
+            val parametersByName = CollectionUtils.newLinkedHashMap<KParameter, Any?>(parameters.size)
+
+            for ((idx, parameter) in parameters.withIndex()) {
+                if (parameter.name !in inputMap) {
+                    if (parameter.isOptional) {
+                        continue
+                    } else if (parameter.type.isMarkedNullable) {
+                        parametersByName[parameter] = null
+                        continue
+                    }
+                    throw DgsInvalidInputArgumentException(
+                        "No value specified for required parameter ${parameter.name} of class $targetClass",
+                    )
+                }
+
+                parametersByName[parameter] = converters[idx].convert(inputMap[parameter.name])
+            }
+
+            return try {
+                constructor.callBy(parametersByName)!!
+            } catch (ex: Exception) {
+                throw DgsInvalidInputArgumentException("Provided input arguments do not match arguments of data class `$targetClass`", ex)
+            }
         }
 
-        return instance
+        private fun findDefaultsConstructor(javaConstructor: Constructor<*>): Constructor<*>? {
+            val maskTypes = KotlinDefaultsUtil.maskTypes(parameters.size)
+            return try {
+                targetClass.java
+                    .getDeclaredConstructor(*javaConstructor.parameterTypes, *maskTypes, KotlinDefaultsUtil.DEFAULT_CONSTRUCTOR_MARKER)
+                    .also { ReflectionUtils.makeAccessible(it) }
+            } catch (exc: NoSuchMethodException) {
+                null
+            }
+        }
     }
 
-    private fun <T> handleRecordClass(
-        inputMap: Map<String, Any?>,
-        targetClass: Class<T>,
-    ): T {
-        val recordComponents = targetClass.recordComponents
-        val args = arrayOfNulls<Any?>(recordComponents.size)
-        for ((index, component) in recordComponents.withIndex()) {
-            if (component.name in inputMap) {
-                args[index] = maybeConvert(inputMap[component.name], component.genericType)
-            }
+    /**
+     * Maps input to a Java record through its canonical constructor.
+     */
+    private inner class RecordPlan(
+        private val targetClass: Class<*>,
+    ) {
+        private val componentNames: Array<String>
+        private val converters: Array<ValueConverter>
+        private val constructorHandle: MethodHandle
+
+        init {
+            val recordComponents = targetClass.recordComponents
+            componentNames = Array(recordComponents.size) { recordComponents[it].name }
+            converters = Array(recordComponents.size) { ValueConverter(recordComponents[it].genericType) }
+            val ctor = targetClass.declaredConstructors.first()
+            ctor.trySetAccessible()
+            constructorHandle = spreadConstructor(ctor)
         }
-        @Suppress("UNCHECKED_CAST")
-        val ctor = targetClass.declaredConstructors.first() as Constructor<T>
-        ctor.trySetAccessible()
-        try {
-            return ctor.newInstance(*args)
-        } catch (exc: ReflectiveOperationException) {
-            throw DgsInvalidInputArgumentException("Failed to construct record, class=${targetClass.simpleName}", exc)
+
+        fun map(inputMap: Map<String, *>): Any {
+            val args = arrayOfNulls<Any?>(componentNames.size)
+            for (index in componentNames.indices) {
+                val name = componentNames[index]
+                if (inputMap.containsKey(name)) {
+                    args[index] = converters[index].convert(inputMap[name])
+                }
+            }
+            try {
+                return constructorHandle.invokeExact(args) as Any
+            } catch (exc: Exception) {
+                throw DgsInvalidInputArgumentException("Failed to construct record, class=${targetClass.simpleName}", exc)
+            }
         }
     }
 
-    private fun <T> fieldAccessor(instance: T?): ConfigurablePropertyAccessor {
-        val accessor = PropertyAccessorFactory.forDirectFieldAccess(instance as Any)
+    /**
+     * Maps input to a Java object by calling its no-arg constructor, and then its setters or, if a property doesn't have one,
+     * by setting the field directly. Setters and fields are resolved once, the same way a
+     * [BeanWrapper][org.springframework.beans.BeanWrapper] and a [DirectFieldAccessor][org.springframework.beans.DirectFieldAccessor] would.
+     */
+    private inner class JavaObjectPlan(
+        private val targetClass: Class<*>,
+    ) {
+        private val constructorHandle: MethodHandle
+        private val setters: Map<String, PropertyWriter>
+        private val fields: Map<String, PropertyWriter>
+        private val reportedUnknownProperties: MutableSet<String> = ConcurrentHashMap.newKeySet()
+
+        init {
+            val ctor = targetClass.getDeclaredConstructor()
+            ctor.trySetAccessible()
+            constructorHandle = MethodHandles.lookup().unreflectConstructor(ctor).asType(MethodType.methodType(Any::class.java))
+
+            setters =
+                BeanUtils
+                    .getPropertyDescriptors(targetClass)
+                    .filter { it.writeMethod != null }
+                    .associate { descriptor ->
+                        val writeMethod = descriptor.writeMethod
+                        ReflectionUtils.makeAccessible(writeMethod)
+                        val property = Property(targetClass, descriptor.readMethod, writeMethod, descriptor.name)
+                        descriptor.name to
+                            PropertyWriter(setterHandle(MethodHandles.lookup().unreflect(writeMethod)), TypeDescriptor(property))
+                    }
+
+            val fieldWriters = mutableMapOf<String, PropertyWriter>()
+            var searchType: Class<*>? = targetClass
+            while (searchType != null && searchType != Any::class.java) {
+                for (field in searchType.declaredFields) {
+                    if (field.name !in fieldWriters) {
+                        fieldWriters[field.name] = fieldWriter(field)
+                    }
+                }
+                searchType = searchType.superclass
+            }
+            fields = fieldWriters
+        }
+
+        private fun findWriter(name: String): PropertyWriter? =
+            setters[name]
+                ?: setters[StringUtils.uncapitalize(name)]
+                ?: setters[StringUtils.capitalize(name)]
+                ?: fields[name]
+
+        fun map(inputMap: Map<String, *>): Any {
+            val instance = constructorHandle.invokeExact() as Any
+            var nrOfPropertyErrors = 0
+
+            for ((name, value) in inputMap.entries) {
+                val writer = findWriter(name)
+                if (writer == null) {
+                    nrOfPropertyErrors++
+                    if (reportedUnknownProperties.add(name)) {
+                        logger.warn("Field or property '{}' was not found on Input object of type '{}'", name, targetClass)
+                    }
+                    continue
+                }
+                try {
+                    writer.write(instance, value)
+                } catch (ex: Exception) {
+                    throw DgsInvalidInputArgumentException(
+                        "Invalid input argument `$value` for field/property `$name` on type `${targetClass.name}`",
+                        ex,
+                    )
+                }
+            }
+
+            /**
+             We can't error out if only some fields don't match.
+             This would happen if new schema fields are added, but the Java type wasn't updated yet.
+             If none of the fields match however, it's a pretty good indication that the wrong type was used, hence this check.
+             */
+            if (inputMap.isNotEmpty() && nrOfPropertyErrors == inputMap.size) {
+                throw DgsInvalidInputArgumentException("Input argument type '$targetClass' doesn't match input $inputMap")
+            }
 
-        accessor.conversionService = conversionService
-        return accessor
+            return instance
+        }
+
+        private fun fieldWriter(field: Field): PropertyWriter {
+            ReflectionUtils.makeAccessible(field)
+            val setter =
+                try {
+                    setterHandle(MethodHandles.lookup().unreflectSetter(field))
+                } catch (exc: IllegalAccessException) {
+                    // e.g. final fields, which can still be set through reflection
+                    MethodHandles
+                        .lookup()
+                        .findVirtual(Field::class.java, "set", MethodType.methodType(Void.TYPE, Any::class.java, Any::class.java))
+                        .bindTo(field)
+                        .asType(SETTER_TYPE)
+                }
+            return PropertyWriter(setter, TypeDescriptor(field))
+        }
+
+        private fun setterHandle(handle: MethodHandle): MethodHandle = handle.asType(SETTER_TYPE)
     }
 
-    private fun <T> setterAccessor(instance: T?): ConfigurablePropertyAccessor {
-        val accessor = PropertyAccessorFactory.forBeanPropertyAccess(instance as Any)
+    /**
+     * Writes a property value, converting it the same way a property accessor configured with
+     * the [conversionService] would.
+     */
+    private inner class PropertyWriter(
+        private val setter: MethodHandle,
+        private val targetType: TypeDescriptor,
+    ) {
+        private val passThrough = !targetType.resolvableType.hasGenerics()
+
+        fun write(
+            instance: Any,
+            value: Any?,
+        ) {
+            setter.invokeExact(instance, convert(value)) as Any?
+        }
 
-        accessor.conversionService = conversionService
-        return accessor
+        private fun convert(value: Any?): Any? {
+            if (value == null) {
+                return if (targetType.type == Optional::class.java) Optional.empty<Any>() else null
+            }
+            if (passThrough && targetType.objectType.isInstance(value)) {
+                return value
+            }
+            val sourceType = TypeDescriptor.forObject(value)
+            if (conversionService.canConvert(sourceType, targetType)) {
+                return conversionService.convert(value, sourceType, targetType)
+            }
+            if (targetType.objectType.isInstance(value)) {
+                return value
+            }
+            throw IllegalArgumentException("Cannot convert value of type '${value.javaClass.name}' to required type '$targetType'")
+        }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.exceptions.DgsBulkheadRejectedException
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.core.task.AsyncTaskExecutor
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executor
+import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * An executor that limits the number of tasks running concurrently on the [delegate] executor.
+ *
+ * At most [maxConcurrency] tasks run at the same time; additional tasks are queued, up to [maxQueueSize].
+ * Tasks submitted while the queue is full are rejected with a [DgsBulkheadRejectedException], which results in an
+ * `UNAVAILABLE` error for the field instead of piling up work behind a slow dependency.
+ */
+class DgsBulkhead(
+    val name: String,
+    private val delegate: Executor,
+    val maxConcurrency: Int,
+    val maxQueueSize: Int,
+) : AsyncTaskExecutor {
+    private val active = AtomicInteger()
+    private val queued = AtomicInteger()
+    private val rejected = AtomicLong()
+    private val queue = ConcurrentLinkedQueue<Runnable>()
+
+    init {
+        require(maxConcurrency > 0) { "The max concurrency of bulkhead '$name' must be greater than zero" }
+        require(maxQueueSize >= 0) { "The queue size of bulkhead '$name' must not be negative" }
+    }
+
+    /**
+     * The number of tasks that are currently running.
+     */
+    val activeCount: Int
+        get() = active.get()
+
+    /**
+     * The number of tasks that are waiting for a permit.
+     */
+    val queuedCount: Int
+        get() = queued.get()
+
+    /**
+     * The total number of tasks that were rejected because the bulkhead was full.
+     */
+    val rejectedCount: Long
+        get() = rejected.get()
+
+    override fun execute(task: Runnable) {
+        if (queued.get() == 0 && tryAcquire()) {
+            start(task)
+            return
+        }
+        if (!tryReserveQueueSlot()) {
+            rejected.incrementAndGet()
+            throw DgsBulkheadRejectedException(name)
+        }
+        queue.offer(task)
+        drain()
+    }
+
+    override fun toString(): String = "DgsBulkhead{name=$name, maxConcurrency=$maxConcurrency, maxQueueSize=$maxQueueSize}"
+
+    private fun start(task: Runnable) {
+        try {
+            delegate.execute {
+                try {
+                    task.run()
+                } finally {
+                    active.decrementAndGet()
+                    drain()
+                }
+            }
+        } catch (exc: RuntimeException) {
+            active.decrementAndGet()
+            throw exc
+        }
+    }
+
+    /**
+     * Starts queued tasks for as long as permits are available. This is called after every enqueue and after every
+     * completed task, so a task that is queued concurrently with a permit being released is always picked up.
+     */
+    private fun drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            val task = queue.poll()
+            if (task == null) {
+                active.decrementAndGet()
+                continue
+            }
+            queued.decrementAndGet()
+            try {
+                start(task)
+            } catch (exc: RuntimeException) {
+                reject(task, exc)
+            }
+        }
+    }
+
+    /**
+     * Fails a queued task that the delegate refused to start. Its submitter already returned, so the failure is
+     * reported through the task itself rather than thrown from whichever task happened to drain the queue.
+     */
+    private fun reject(
+        task: Runnable,
+        cause: RuntimeException,
+    ) {
+        rejected.incrementAndGet()
+        when (task) {
+            is RejectableTask -> task.reject(cause)
+            is Future<*> -> task.cancel(false)
+            else -> logger.warn("Bulkhead '{}' could not start a queued task that can't be failed: {}", name, task, cause)
+        }
+    }
+
+    private fun tryAcquire(): Boolean {
+        while (true) {
+            val current = active.get()
+            if (current >= maxConcurrency) {
+                return false
+            }
+            if (active.compareAndSet(current, current + 1)) {
+                return true
+            }
+        }
+    }
+
+    private fun tryReserveQueueSlot(): Boolean {
+        while (true) {
+            val current = queued.get()
+            if (current >= maxQueueSize) {
+                return false
+            }
+            if (queued.compareAndSet(current, current + 1)) {
+                return true
+            }
+        }
+    }
+
+    /**
+     * A task that can be failed if it is queued by a [DgsBulkhead], but can't be started on its delegate executor,
+     * for example because the delegate was shut down. Tasks that are a [Future] are cancelled instead.
+     */
+    interface RejectableTask : Runnable {
+        fun reject(cause: Throwable)
+    }
+
+    private companion object {
+        private val logger: Logger = LoggerFactory.getLogger(DgsBulkhead::class.java)
+    }
+}
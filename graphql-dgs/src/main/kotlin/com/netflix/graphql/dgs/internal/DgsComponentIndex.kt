@@ -0,0 +1,245 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory
+import org.springframework.context.ApplicationContext
+import org.springframework.context.ConfigurableApplicationContext
+import org.springframework.core.SpringProperties
+import org.springframework.util.ClassUtils
+import org.springframework.util.ConcurrentReferenceHashMap
+import org.springframework.util.ReflectionUtils
+import java.lang.reflect.Field
+import java.lang.reflect.Method
+import java.security.ProtectionDomain
+import java.util.Properties
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Reads the index written by the DGS component index annotation processor, which lists the classes using DGS
+ * annotations with their annotated members. The schema and data loader providers find their components, and the
+ * annotated members of each component, through the index instead of scanning the beans and their members.
+ *
+ * Beans whose class is in a jar or directory without an index are still looked up by annotation, and classes that
+ * aren't in the index are still scanned. A class that no longer matches the index, because it has members the index
+ * doesn't list, or lacks members it does list, is scanned too; the index is out of date when the class was compiled
+ * again without the annotation processor.
+ *
+ * Set the `dgs.index.ignore` system property, or Spring property, to `true` to ignore the index.
+ */
+internal object DgsComponentIndex {
+    const val INDEX_LOCATION = "META-INF/dgs-components.properties"
+    const val IGNORE_INDEX_PROPERTY = "dgs.index.ignore"
+
+    private val logger: Logger = LoggerFactory.getLogger(DgsComponentIndex::class.java)
+
+    private val indexes = ConcurrentReferenceHashMap<ClassLoader, Index>()
+
+    /**
+     * Returns the beans annotated with the [annotationType], like [ApplicationContext.getBeansWithAnnotation].
+     * Only the beans whose class is in the index, or in a jar or directory without an index, are looked up.
+     */
+    fun beansWithAnnotation(
+        applicationContext: ApplicationContext,
+        annotationType: Class<out Annotation>,
+    ): Map<String, Any> {
+        val beanFactory = (applicationContext as? ConfigurableApplicationContext)?.beanFactory
+        val index = applicationContext.classLoader?.let { index(it) }
+        if (beanFactory == null || index == null || index.types.isEmpty()) {
+            return applicationContext.getBeansWithAnnotation(annotationType)
+        }
+        val beanNames = LinkedHashSet<String>()
+        beanFactory.beanDefinitionNames.filterTo(beanNames) { !beanFactory.getBeanDefinition(it).isAbstract }
+        beanNames.addAll(beanFactory.singletonNames)
+
+        val beans = LinkedHashMap<String, Any>()
+        beanNames
+            .filter { mayBeAnnotated(beanFactory, it, index) && beanFactory.findAnnotationOnBean(it, annotationType) != null }
+            .forEach { beans[it] = beanFactory.getBean(it) }
+        return beans
+    }
+
+    private fun mayBeAnnotated(
+        beanFactory: ConfigurableListableBeanFactory,
+        beanName: String,
+        index: Index,
+    ): Boolean {
+        // The annotation may be on the factory method of the bean rather than on its class.
+        if (beanFactory.containsBeanDefinition(beanName) && beanFactory.getMergedBeanDefinition(beanName).factoryMethodName != null) {
+            return true
+        }
+        val type = beanFactory.getType(beanName, false) ?: return true
+        val userClass = ClassUtils.getUserClass(type)
+        return userClass.name in index.types || !index.covers(userClass)
+    }
+
+    /**
+     * Returns the methods of the class that have DGS annotations,
+     * or null if the class isn't in the index, or doesn't match it, and needs to be scanned.
+     */
+    fun annotatedMethods(type: Class<*>): List<Method>? {
+        val userClass = ClassUtils.getUserClass(type)
+        val indexedType = indexedType(userClass) ?: return null
+        return indexedType.methods.map { (name, parameterTypeNames) ->
+            val parameterTypes =
+                parameterTypeNames.map { typeName ->
+                    try {
+                        ClassUtils.forName(typeName, userClass.classLoader)
+                    } catch (e: ClassNotFoundException) {
+                        return outOfDate(userClass, "$name($parameterTypeNames)")
+                    }
+                }
+            ReflectionUtils.findMethod(userClass, name, *parameterTypes.toTypedArray())
+                ?: return outOfDate(userClass, "$name($parameterTypeNames)")
+        }.distinct()
+    }
+
+    /**
+     * Returns the fields the class itself declares that have DGS annotations,
+     * or null if the class isn't in the index, or doesn't match it, and needs to be scanned.
+     */
+    fun annotatedFields(type: Class<*>): List<Field>? {
+        val userClass = ClassUtils.getUserClass(type)
+        val indexedType = indexedType(userClass) ?: return null
+        return indexedType.fields
+            .map { name -> ReflectionUtils.findField(userClass, name) ?: return outOfDate(userClass, name) }
+            .filter { it.declaringClass == userClass }
+    }
+
+    private fun indexedType(userClass: Class<*>): IndexedType? {
+        val classLoader = userClass.classLoader ?: return null
+        val indexedType = index(classLoader)?.types?.get(userClass.name) ?: return null
+        if (indexedType.methodCount != countMembers(userClass) { it.declaredMethods.count { method -> !method.isSynthetic } } ||
+            indexedType.fieldCount != countMembers(userClass) { it.declaredFields.count { field -> !field.isSynthetic } }
+        ) {
+            return outOfDate(userClass, "members")
+        }
+        return indexedType
+    }
+
+    private fun countMembers(
+        userClass: Class<*>,
+        count: (Class<*>) -> Int,
+    ): Int {
+        var total = 0
+        var current: Class<*>? = userClass
+        while (current != null && current != Any::class.java) {
+            total += count(current)
+            current = current.superclass
+        }
+        return total
+    }
+
+    private fun outOfDate(
+        userClass: Class<*>,
+        member: String,
+    ): Nothing? {
+        logger.warn("The DGS component index doesn't match the {} of {}, scanning the class instead", member, userClass.name)
+        return null
+    }
+
+    private fun index(classLoader: ClassLoader): Index? {
+        if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+            return null
+        }
+        return indexes.computeIfAbsent(classLoader) { load(it) }
+    }
+
+    fun load(classLoader: ClassLoader): Index {
+        val types = HashMap<String, IndexedType>()
+        val roots = HashSet<String>()
+        try {
+            classLoader.getResources(INDEX_LOCATION).asSequence().forEach { url ->
+                roots.add(url.toString().removeSuffix(INDEX_LOCATION))
+                val properties = Properties()
+                url.openStream().use { properties.load(it) }
+                properties.stringPropertyNames().forEach { type ->
+                    types.merge(type, IndexedType.parse(properties.getProperty(type))) { existing, added -> existing.merge(added) }
+                }
+            }
+        } catch (e: Exception) {
+            logger.warn("Unable to read the DGS component index, components will be scanned instead", e)
+            return Index(emptyMap(), emptySet())
+        }
+        logger.debug("Loaded the DGS component index with {} classes", types.size)
+        return Index(types, roots)
+    }
+
+    /**
+     * The classes listed by the indexes of a class loader, and the roots of the jars and directories that have an index.
+     */
+    class Index(
+        val types: Map<String, IndexedType>,
+        private val roots: Set<String>,
+    ) {
+        private val covered = ConcurrentHashMap<ProtectionDomain, Boolean>()
+
+        /**
+         * Whether the jar or directory the class is loaded from has an index, which lists the class if it uses DGS annotations.
+         */
+        fun covers(type: Class<*>): Boolean {
+            val protectionDomain = type.protectionDomain ?: return root(type) in roots
+            return covered.computeIfAbsent(protectionDomain) { root(type) in roots }
+        }
+
+        private fun root(type: Class<*>): String? {
+            val path = ClassUtils.convertClassNameToResourcePath(type.name) + ClassUtils.CLASS_FILE_SUFFIX
+            return type.classLoader?.getResource(path)?.toString()?.removeSuffix(path)
+        }
+    }
+
+    /**
+     * An entry of the index: the number of methods and fields the class and its superclasses declare,
+     * and its members with DGS annotations.
+     */
+    class IndexedType(
+        val methodCount: Int,
+        val fieldCount: Int,
+        val methods: List<Pair<String, List<String>>>,
+        val fields: Set<String>,
+    ) {
+        fun merge(other: IndexedType): IndexedType =
+            if (methodCount == other.methodCount && fieldCount == other.fieldCount) {
+                IndexedType(methodCount, fieldCount, (methods + other.methods).distinct(), fields + other.fields)
+            } else {
+                // The same class was indexed twice, from different versions; it can't match both, so it is scanned.
+                IndexedType(-1, -1, emptyList(), emptySet())
+            }
+
+        companion object {
+            fun parse(entry: String): IndexedType {
+                val parts = entry.split(';')
+                val counts = parts.first().split('/')
+                val members = parts.drop(1).filter { it.isNotBlank() }
+                val methods =
+                    members.filter { it.endsWith(")") }.map { member ->
+                        val name = member.substringBefore('(')
+                        val parameterTypes = member.substringAfter('(').removeSuffix(")").split(',').filter { it.isNotBlank() }
+                        name to parameterTypes
+                    }
+                return IndexedType(
+                    counts.getOrNull(0)?.toIntOrNull() ?: -1,
+                    counts.getOrNull(1)?.toIntOrNull() ?: -1,
+                    methods,
+                    members.filterNot { it.endsWith(")") }.toSet(),
+                )
+            }
+        }
+    }
+}
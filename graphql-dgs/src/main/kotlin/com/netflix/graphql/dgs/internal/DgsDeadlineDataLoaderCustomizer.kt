@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsDataLoaderCustomizer
+import com.netflix.graphql.dgs.context.DgsContext
+import com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException
+import graphql.GraphQLContext
+import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
+import org.dataloader.MappedBatchLoader
+import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+
+/**
+ * Makes data loaders observe the [request deadline][DgsContext.deadline]. Batches that are dispatched after the
+ * deadline passed fail without calling the batch loader, and batches that are still loading when it passes are
+ * cancelled. Either way, the pending loads fail with a [DgsDeadlineExceededException]. For batch publishers, the values
+ * published before the deadline are kept, and the subscription is cancelled when it passes.
+ *
+ * Every data loader is converted into its "WithContext" version, since the deadline is read from the
+ * [BatchLoaderEnvironment].
+ */
+class DgsDeadlineDataLoaderCustomizer : DgsDataLoaderCustomizer {
+    override fun provide(
+        original: BatchLoader<*, *>,
+        name: String,
+    ): Any = DeadlineBatchLoader(name, BatchLoaderWithContextWrapper(original as BatchLoader<Any, Any>))
+
+    override fun provide(
+        original: BatchLoaderWithContext<*, *>,
+        name: String,
+    ): Any = DeadlineBatchLoader(name, original as BatchLoaderWithContext<Any, Any>)
+
+    override fun provide(
+        original: MappedBatchLoader<*, *>,
+        name: String,
+    ): Any = DeadlineMappedBatchLoader(name, MappedBatchLoaderWithContextWrapper(original as MappedBatchLoader<Any, Any>))
+
+    override fun provide(
+        original: MappedBatchLoaderWithContext<*, *>,
+        name: String,
+    ): Any = DeadlineMappedBatchLoader(name, original as MappedBatchLoaderWithContext<Any, Any>)
+
+    override fun provide(
+        original: BatchPublisher<*, *>,
+        name: String,
+    ): Any = DeadlineBatchPublisher(name, BatchPublisherWithContextWrapper(original as BatchPublisher<Any, Any>))
+
+    override fun provide(
+        original: BatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = DeadlineBatchPublisher(name, original as BatchPublisherWithContext<Any, Any>)
+
+    override fun provide(
+        original: MappedBatchPublisher<*, *>,
+        name: String,
+    ): Any = DeadlineMappedBatchPublisher(name, MappedBatchPublisherWithContextWrapper(original as MappedBatchPublisher<Any, Any>))
+
+    override fun provide(
+        original: MappedBatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = DeadlineMappedBatchPublisher(name, original as MappedBatchPublisherWithContext<Any, Any>)
+
+    internal companion object {
+        fun deadline(environment: BatchLoaderEnvironment): Instant? =
+            when (val context = environment.getContext<Any>()) {
+                is GraphQLContext -> DgsContext.deadline(context)
+                is DgsContext -> context.deadline
+                else -> null
+            }
+
+        fun <T> load(
+            name: String,
+            environment: BatchLoaderEnvironment,
+            load: () -> CompletionStage<T>,
+        ): CompletionStage<T> {
+            val deadline = deadline(environment) ?: return load()
+            val message = "The request deadline was exceeded while loading data loader '$name'"
+            if (RequestDeadlines.isExceeded(deadline)) {
+                return CompletableFuture.failedFuture(DgsDeadlineExceededException(message))
+            }
+            val future = load().toCompletableFuture()
+            return RequestDeadlines.withDeadline(future.thenApply { it }, deadline, message) { future.cancel(true) }
+        }
+
+        fun <T> publish(
+            name: String,
+            environment: BatchLoaderEnvironment,
+            subscriber: Subscriber<T>,
+            publish: (Subscriber<T>) -> Unit,
+        ) {
+            val deadline = deadline(environment) ?: return publish(subscriber)
+            val message = "The request deadline was exceeded while loading data loader '$name'"
+            val deadlineSubscriber = DeadlineSubscriber(subscriber)
+            if (RequestDeadlines.isExceeded(deadline)) {
+                deadlineSubscriber.expire(DgsDeadlineExceededException(message))
+                return
+            }
+            publish(deadlineSubscriber)
+            RequestDeadlines.withDeadline(deadlineSubscriber.completion, deadline, message) {
+                deadlineSubscriber.expire(DgsDeadlineExceededException(message))
+            }
+        }
+    }
+}
+
+internal class DeadlineBatchLoader<K : Any, V : Any>(
+    private val name: String,
+    private val original: BatchLoaderWithContext<K, V>,
+) : BatchLoaderWithContext<K, V> {
+    override fun load(
+        keys: List<K>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<List<V>> = DgsDeadlineDataLoaderCustomizer.load(name, environment) { original.load(keys, environment) }
+}
+
+internal class DeadlineMappedBatchLoader<K : Any, V : Any>(
+    private val name: String,
+    private val original: MappedBatchLoaderWithContext<K, V>,
+) : MappedBatchLoaderWithContext<K, V> {
+    override fun load(
+        keys: Set<K>,
+        environment: BatchLoaderEnvironment,
+    ): CompletionStage<Map<K, V>> = DgsDeadlineDataLoaderCustomizer.load(name, environment) { original.load(keys, environment) }
+}
+
+internal class DeadlineBatchPublisher<K : Any, V : Any>(
+    private val name: String,
+    private val original: BatchPublisherWithContext<K, V>,
+) : BatchPublisherWithContext<K, V> {
+    override fun load(
+        keys: List<K>,
+        subscriber: Subscriber<V>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        DgsDeadlineDataLoaderCustomizer.publish(name, environment, subscriber) { original.load(keys, it, environment) }
+    }
+}
+
+internal class DeadlineMappedBatchPublisher<K : Any, V : Any>(
+    private val name: String,
+    private val original: MappedBatchPublisherWithContext<K, V>,
+) : MappedBatchPublisherWithContext<K, V> {
+    override fun load(
+        keys: List<K>,
+        subscriber: Subscriber<Map.Entry<K, V>>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        DgsDeadlineDataLoaderCustomizer.publish(name, environment, subscriber) { original.load(keys, it, environment) }
+    }
+}
+
+/**
+ * Forwards the signals of a batch publisher until the deadline [expires][expire], after which the subscription is
+ * cancelled and the [downstream] subscriber is failed.
+ */
+private class DeadlineSubscriber<T>(
+    private val downstream: Subscriber<T>,
+) : Subscriber<T> {
+    val completion = CompletableFuture<Unit>()
+    private var subscription: Subscription? = null
+    private var terminated = false
+
+    override fun onSubscribe(subscription: Subscription) {
+        synchronized(this) {
+            if (terminated) {
+                subscription.cancel()
+                return
+            }
+            this.subscription = subscription
+            downstream.onSubscribe(subscription)
+        }
+    }
+
+    override fun onNext(value: T) {
+        synchronized(this) {
+            if (!terminated) {
+                downstream.onNext(value)
+            }
+        }
+    }
+
+    override fun onError(throwable: Throwable) {
+        terminate { downstream.onError(throwable) }
+    }
+
+    override fun onComplete() {
+        terminate { downstream.onComplete() }
+    }
+
+    fun expire(exception: DgsDeadlineExceededException) {
+        terminate {
+            val subscription = subscription
+            if (subscription == null) {
+                downstream.onSubscribe(CancelledSubscription)
+            } else {
+                subscription.cancel()
+            }
+            downstream.onError(exception)
+        }
+    }
+
+    private fun terminate(signal: () -> Unit) {
+        synchronized(this) {
+            if (terminated) {
+                return
+            }
+            terminated = true
+            signal()
+        }
+        completion.complete(Unit)
+    }
+
+    private object CancelledSubscription : Subscription {
+        override fun request(n: Long) {}
+
+        override fun cancel() {}
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.http.HttpHeaders
+import java.time.DateTimeException
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * Determines the deadline of a request, based on the remaining time budget sent in the [headerName] header,
+ * falling back to the [defaultTimeout]. The header value is either a number of milliseconds, or an ISO-8601 duration
+ * such as `PT1.5S`. Returns null if neither is available, in which case the request has no deadline.
+ *
+ * The header is sent by the client, so it is not trusted: values that are not positive or can't be parsed are ignored,
+ * and values are capped at the [maxTimeout], or at the [defaultTimeout] if no maximum is set.
+ */
+class DgsRequestDeadlineResolver(
+    private val headerName: String? = DEFAULT_HEADER_NAME,
+    private val defaultTimeout: Duration? = null,
+    private val maxTimeout: Duration? = null,
+) {
+    fun resolve(headers: HttpHeaders?): Instant? {
+        val now = Instant.now()
+        val requested = headerName?.let { headers?.getFirst(it) }?.let { parseTimeout(it) }
+        return requested?.let { plus(now, cap(it)) } ?: defaultTimeout?.let { plus(now, it) }
+    }
+
+    private fun parseTimeout(value: String): Duration? {
+        val trimmed = value.trim()
+        val timeout =
+            try {
+                trimmed.toLongOrNull()?.let { Duration.ofMillis(it) } ?: Duration.parse(trimmed)
+            } catch (exc: DateTimeException) {
+                null
+            } catch (exc: ArithmeticException) {
+                null
+            }
+        if (timeout == null || timeout.isNegative || timeout.isZero) {
+            logger.debug("Ignoring invalid {} header value: {}", headerName, value)
+            return null
+        }
+        return timeout
+    }
+
+    private fun cap(timeout: Duration): Duration {
+        val max = maxTimeout ?: defaultTimeout ?: return timeout
+        return if (timeout > max) max else timeout
+    }
+
+    private fun plus(
+        now: Instant,
+        timeout: Duration,
+    ): Instant? =
+        try {
+            now.plus(timeout)
+        } catch (exc: DateTimeException) {
+            logger.debug("Ignoring {} timeout that is out of range: {}", headerName, timeout)
+            null
+        } catch (exc: ArithmeticException) {
+            logger.debug("Ignoring {} timeout that is out of range: {}", headerName, timeout)
+            null
+        }
+
+    companion object {
+        const val DEFAULT_HEADER_NAME = "X-Request-Timeout"
+
+        private val logger: Logger = LoggerFactory.getLogger(DgsRequestDeadlineResolver::class.java)
+    }
+}
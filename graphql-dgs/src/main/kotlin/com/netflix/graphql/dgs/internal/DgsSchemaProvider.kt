@@ -52,7 +52,6 @@ import graphql.language.ScalarTypeDefinition
 import graphql.language.StringValue
 import graphql.language.TypeName
 import graphql.language.UnionTypeDefinition
-import graphql.parser.MultiSourceReader
 import graphql.schema.Coercing
 import graphql.schema.DataFetcherFactory
 import graphql.schema.FieldCoordinates
@@ -73,7 +72,6 @@ import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.aop.support.AopUtils
 import org.springframework.beans.factory.annotation.Autowired
-import org.springframework.beans.factory.getBeansWithAnnotation
 import org.springframework.context.ApplicationContext
 import org.springframework.core.BridgeMethodResolver
 import org.springframework.core.MethodParameter
@@ -85,6 +83,7 @@ import org.springframework.core.io.support.ResourcePatternUtils
 import org.springframework.util.ReflectionUtils
 import java.io.IOException
 import java.lang.reflect.Method
+import java.nio.file.Path
 import java.util.Optional
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
@@ -114,6 +113,7 @@ class DgsSchemaProvider
         private val fallbackTypeResolver: TypeResolver? = null,
         private val enableStrictMode: Boolean = true,
         private val federationEnabled: Boolean = true,
+        private val schemaSnapshotDirectory: Path? = null,
     ) {
         @Suppress("UNUSED_PARAMETER")
         @Deprecated("The mockProviders argument is no longer supported")
@@ -191,8 +191,8 @@ class DgsSchemaProvider
         ): Pair<SchemaProviderResult, DataFetcherInfo> {
             val startTime = System.currentTimeMillis()
             val dgsComponents =
-                applicationContext
-                    .getBeansWithAnnotation<DgsComponent>()
+                DgsComponentIndex
+                    .beansWithAnnotation(applicationContext, DgsComponent::class.java)
                     .values
                     .asSequence()
                     .let { beans -> if (componentFilter != null) beans.filter(componentFilter) else beans }
@@ -203,21 +203,10 @@ class DgsSchemaProvider
                 if (schema == null) {
                     val hasDynamicTypeRegistry =
                         dgsComponents.any { it.annotatedMethods<DgsTypeDefinitionRegistry>().any() }
-                    val readerBuilder =
-                        MultiSourceReader
-                            .newMultiSourceReader()
-                            .trackData(false)
-                    for (schemaFile in findSchemaFiles(hasDynamicTypeRegistry)) {
-                        readerBuilder.reader(schemaFile.inputStream.reader(), schemaFile.filename)
-                        // Add a reader that inserts a newline between schema files to avoid issues when
-                        // the source files aren't newline-terminated.
-                        readerBuilder.reader("\n".reader(), "newline")
-                    }
-
-                    for (resource in schemaResources) {
-                        readerBuilder.reader(resource.inputStream.reader(), resource.filename)
-                    }
-                    SchemaParser().parse(readerBuilder.build())
+                    SchemaFileParser.parse(
+                        findSchemaFiles(hasDynamicTypeRegistry) + schemaResources,
+                        snapshotDirectory = schemaSnapshotDirectory,
+                    )
                 } else {
                     SchemaParser().parse(schema)
                 }
@@ -250,6 +239,7 @@ class DgsSchemaProvider
 
             val dataFetcherInfo = MutableDataFetcherInfo()
             findDataFetchers(dgsComponents, dgsCodeRegistryBuilder, mergedRegistry, dataFetcherInfo)
+            methodDataFetcherFactory.reportTrivialDataFetchers()
             findTypeResolvers(dgsComponents, runtimeWiringBuilder, mergedRegistry)
 
             dgsComponents.forEach { dgsComponent ->
@@ -899,7 +889,7 @@ class DgsSchemaProvider
             applicationContext: ApplicationContext,
             runtimeWiringBuilder: RuntimeWiring.Builder,
         ) {
-            applicationContext.getBeansWithAnnotation<DgsScalar>().values.forEach { scalarComponent ->
+            DgsComponentIndex.beansWithAnnotation(applicationContext, DgsScalar::class.java).values.forEach { scalarComponent ->
                 val annotation = AopUtils.getTargetClass(scalarComponent).getAnnotation(DgsScalar::class.java)
                 when (scalarComponent) {
                     is Coercing<*, *> ->
@@ -920,7 +910,7 @@ class DgsSchemaProvider
             applicationContext: ApplicationContext,
             runtimeWiringBuilder: RuntimeWiring.Builder,
         ) {
-            applicationContext.getBeansWithAnnotation<DgsDirective>().values.forEach { directiveComponent ->
+            DgsComponentIndex.beansWithAnnotation(applicationContext, DgsDirective::class.java).values.forEach { directiveComponent ->
                 val annotation = AopUtils.getTargetClass(directiveComponent).getAnnotation(DgsDirective::class.java)
                 when (directiveComponent) {
                     is SchemaDirectiveWiring ->
@@ -981,7 +971,8 @@ class DgsSchemaProvider
                 val targetClass: Class<*> = AopUtils.getTargetClass(instance),
             ) {
                 private val cachedMethods =
-                    ReflectionUtils.getUniqueDeclaredMethods(targetClass, ReflectionUtils.USER_DECLARED_METHODS)
+                    DgsComponentIndex.annotatedMethods(targetClass)
+                        ?: ReflectionUtils.getUniqueDeclaredMethods(targetClass, ReflectionUtils.USER_DECLARED_METHODS).asList()
                 val methods: Sequence<Method> get() = cachedMethods.asSequence()
 
                 inline fun <reified T : Annotation> annotatedMethods(): Sequence<Method> =
@@ -17,13 +17,16 @@
 package com.netflix.graphql.dgs.internal
 
 import com.netflix.graphql.dgs.DgsDataLoaderCustomizer
-import com.netflix.graphql.dgs.DgsDataLoaderRegistryConsumer
 import org.dataloader.BatchLoader
 import org.dataloader.BatchLoaderEnvironment
 import org.dataloader.BatchLoaderWithContext
-import org.dataloader.DataLoaderRegistry
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import org.reactivestreams.Subscriber
 import java.util.concurrent.CompletionStage
 
 class DgsWrapWithContextDataLoaderCustomizer : DgsDataLoaderCustomizer {
@@ -46,36 +49,66 @@ class DgsWrapWithContextDataLoaderCustomizer : DgsDataLoaderCustomizer {
         original: MappedBatchLoaderWithContext<*, *>,
         name: String,
     ): Any = original
+
+    override fun provide(
+        original: BatchPublisher<*, *>,
+        name: String,
+    ): Any = BatchPublisherWithContextWrapper(original as BatchPublisher<Any, Any>)
+
+    override fun provide(
+        original: BatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = original
+
+    override fun provide(
+        original: MappedBatchPublisher<*, *>,
+        name: String,
+    ): Any = MappedBatchPublisherWithContextWrapper(original as MappedBatchPublisher<Any, Any>)
+
+    override fun provide(
+        original: MappedBatchPublisherWithContext<*, *>,
+        name: String,
+    ): Any = original
 }
 
 internal class BatchLoaderWithContextWrapper<K : Any, V : Any>(
     private val original: BatchLoader<K, V>,
-) : BatchLoaderWithContext<K, V>,
-    DgsDataLoaderRegistryConsumer {
+) : BatchLoaderWithContext<K, V> {
     override fun load(
         keys: List<K>,
         environment: BatchLoaderEnvironment,
     ): CompletionStage<List<V>> = original.load(keys)
-
-    override fun setDataLoaderRegistry(dataLoaderRegistry: DataLoaderRegistry?) {
-        if (original is DgsDataLoaderRegistryConsumer) {
-            original.setDataLoaderRegistry(dataLoaderRegistry)
-        }
-    }
 }
 
 internal class MappedBatchLoaderWithContextWrapper<K : Any, V : Any>(
     private val original: MappedBatchLoader<K, V>,
-) : MappedBatchLoaderWithContext<K, V>,
-    DgsDataLoaderRegistryConsumer {
+) : MappedBatchLoaderWithContext<K, V> {
     override fun load(
         keys: Set<K>,
         environment: BatchLoaderEnvironment,
     ): CompletionStage<Map<K, V>> = original.load(keys)
+}
 
-    override fun setDataLoaderRegistry(dataLoaderRegistry: DataLoaderRegistry?) {
-        if (original is DgsDataLoaderRegistryConsumer) {
-            original.setDataLoaderRegistry(dataLoaderRegistry)
-        }
+internal class BatchPublisherWithContextWrapper<K : Any, V : Any>(
+    private val original: BatchPublisher<K, V>,
+) : BatchPublisherWithContext<K, V> {
+    override fun load(
+        keys: List<K>,
+        subscriber: Subscriber<V>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        original.load(keys, subscriber)
+    }
+}
+
+internal class MappedBatchPublisherWithContextWrapper<K : Any, V : Any>(
+    private val original: MappedBatchPublisher<K, V>,
+) : MappedBatchPublisherWithContext<K, V> {
+    override fun load(
+        keys: List<K>,
+        subscriber: Subscriber<Map.Entry<K, V>>,
+        environment: BatchLoaderEnvironment,
+    ) {
+        original.load(keys.toSet(), subscriber)
     }
 }
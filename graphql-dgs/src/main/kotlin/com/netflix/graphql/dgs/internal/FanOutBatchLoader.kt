@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.exceptions.InvalidDataLoaderTypeException
+import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.BatchPublisherWithContext
+import org.dataloader.MappedBatchLoader
+import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.MappedBatchPublisher
+import org.dataloader.MappedBatchPublisherWithContext
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Splits the batches of a data loader marked with `@DgsDataLoader(fanOutBatchSize = ...)` into chunks of at most
+ * [chunkSize] keys, and sends the chunks to the batch loader in parallel, with at most [concurrency] chunks in flight
+ * when [concurrency] is greater than zero. The results of the chunks are put back together in key order.
+ *
+ * Each chunk gets the context of the batch and the key contexts of its keys. A failed chunk fails the whole batch, and
+ * the remaining chunks aren't sent. Chunks only overlap if the batch loader is asynchronous.
+ * While a chunk is sent, [FanOutChunks.isLoadingChunk] is true.
+ */
+internal class FanOutBatchLoader<R : Any> private constructor(
+    private val chunkSize: Int,
+    private val concurrency: Int,
+    private val loadChunk: (List<Any>, BatchLoaderEnvironment) -> CompletionStage<R>,
+) {
+    fun load(
+        keys: List<Any>,
+        environment: BatchLoaderEnvironment,
+    ): CompletableFuture<List<R>> {
+        if (keys.size <= chunkSize) {
+            return loadChunk(keys, environment).toCompletableFuture().thenApply { listOf(it) }
+        }
+        return FanOut(keys, environment).start()
+    }
+
+    private inner class FanOut(
+        keys: List<Any>,
+        private val environment: BatchLoaderEnvironment,
+    ) {
+        private val chunks = keys.chunked(chunkSize)
+        private val keyContexts = environment.keyContextsList
+        private val results = arrayOfNulls<Any>(chunks.size)
+        private val result = CompletableFuture<List<R>>()
+        private val next = AtomicInteger()
+        private val remaining = AtomicInteger(chunks.size)
+
+        fun start(): CompletableFuture<List<R>> {
+            val parallelism = if (concurrency > 0) minOf(concurrency, chunks.size) else chunks.size
+            repeat(parallelism) { launchNext() }
+            return result
+        }
+
+        private fun launchNext() {
+            val index = next.getAndIncrement()
+            if (index >= chunks.size || result.isDone) {
+                return
+            }
+            val stage =
+                try {
+                    FanOutChunks.load { loadChunk(chunks[index], chunkEnvironment(index)) }
+                } catch (ex: Exception) {
+                    CompletableFuture.failedFuture(ex)
+                }
+            stage.whenComplete { value, error ->
+                if (error != null) {
+                    result.completeExceptionally(error)
+                    return@whenComplete
+                }
+                results[index] = value
+                if (remaining.decrementAndGet() == 0) {
+                    @Suppress("UNCHECKED_CAST")
+                    result.complete(results.map { it as R })
+                } else {
+                    launchNext()
+                }
+            }
+        }
+
+        // Loads without a key context have a null key context in the environment, despite its signature.
+        @Suppress("UNCHECKED_CAST")
+        private fun chunkEnvironment(index: Int): BatchLoaderEnvironment {
+            val chunk = chunks[index]
+            val from = index * chunkSize
+            val chunkKeyContexts =
+                if (keyContexts.size >= from + chunk.size) keyContexts.subList(from, from + chunk.size) else List(chunk.size) { null }
+            return BatchLoaderEnvironment
+                .newBatchLoaderEnvironment()
+                .context(environment.getContext<Any?>())
+                .keyContexts(chunk, chunkKeyContexts as List<Any>)
+                .build()
+        }
+    }
+
+    companion object {
+        /**
+         * Wraps the [batchLoader] of the data loader with the given [name], after it has been customized and wrapped by
+         * the instrumentation extension providers, so each chunk is instrumented on its own. Returns a
+         * [BatchLoaderWithContext] for batch loaders returning a list, and a [MappedBatchLoaderWithContext] for batch
+         * loaders returning a map. The values of batch publishers are collected per chunk.
+         */
+        @Suppress("UNCHECKED_CAST")
+        fun wrap(
+            name: String,
+            batchLoader: Any,
+            chunkSize: Int,
+            concurrency: Int,
+        ): Any =
+            when (batchLoader) {
+                is BatchLoader<*, *> ->
+                    listBatchLoader(name, chunkSize, concurrency) { keys, _ -> (batchLoader as BatchLoader<Any, Any?>).load(keys) }
+                is BatchLoaderWithContext<*, *> ->
+                    listBatchLoader(name, chunkSize, concurrency) { keys, environment ->
+                        (batchLoader as BatchLoaderWithContext<Any, Any?>).load(keys, environment)
+                    }
+                is MappedBatchLoader<*, *> ->
+                    mappedBatchLoader(chunkSize, concurrency) { keys, _ ->
+                        (batchLoader as MappedBatchLoader<Any, Any?>).load(keys.toSet())
+                    }
+                is MappedBatchLoaderWithContext<*, *> ->
+                    mappedBatchLoader(chunkSize, concurrency) { keys, environment ->
+                        (batchLoader as MappedBatchLoaderWithContext<Any, Any?>).load(keys.toSet(), environment)
+                    }
+                is BatchPublisher<*, *>, is BatchPublisherWithContext<*, *> ->
+                    listBatchLoader(name, chunkSize, concurrency) { keys, environment ->
+                        BatchPublishers.collectList(batchLoader, keys, environment)
+                    }
+                is MappedBatchPublisher<*, *>, is MappedBatchPublisherWithContext<*, *> ->
+                    mappedBatchLoader(chunkSize, concurrency) { keys, environment ->
+                        BatchPublishers.collectMap(batchLoader, keys, environment)
+                    }
+                else -> throw InvalidDataLoaderTypeException(batchLoader.javaClass)
+            }
+
+        private fun listBatchLoader(
+            name: String,
+            chunkSize: Int,
+            concurrency: Int,
+            load: (List<Any>, BatchLoaderEnvironment) -> CompletionStage<List<Any?>>,
+        ): BatchLoaderWithContext<Any, Any?> {
+            val fanOut =
+                FanOutBatchLoader(chunkSize, concurrency) { keys, environment ->
+                    load(keys, environment).thenApply { values ->
+                        check(values.size == keys.size) {
+                            "Data loader '$name' returned ${values.size} values for ${keys.size} keys"
+                        }
+                        values
+                    }
+                }
+            return BatchLoaderWithContext { keys, environment -> fanOut.load(keys, environment).thenApply { it.flatten() } }
+        }
+
+        private fun mappedBatchLoader(
+            chunkSize: Int,
+            concurrency: Int,
+            load: (List<Any>, BatchLoaderEnvironment) -> CompletionStage<Map<Any, Any?>>,
+        ): MappedBatchLoaderWithContext<Any, Any?> {
+            val fanOut = FanOutBatchLoader(chunkSize, concurrency, load)
+            return MappedBatchLoaderWithContext { keys, environment ->
+                fanOut.load(keys.toList(), environment).thenApply<Map<Any, Any?>> { chunks ->
+                    val values = LinkedHashMap<Any, Any?>(keys.size)
+                    chunks.forEach { values.putAll(it) }
+                    values
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netflix.graphql.dgs.internal
+
+/**
+ * Tells the [com.netflix.graphql.dgs.DataLoaderInstrumentationExtensionProvider]s wrapping a batch loader whether it is
+ * called with a chunk of a batch split by `@DgsDataLoader(fanOutBatchSize = ...)`, so chunks can be instrumented apart
+ * from whole batches. Only true on the thread calling the batch loader, for the duration of the call.
+ */
+object FanOutChunks {
+    private val loadingChunk = ThreadLocal<Boolean>()
+
+    @JvmStatic
+    fun isLoadingChunk(): Boolean = loadingChunk.get() == true
+
+    internal fun <T> load(call: () -> T): T {
+        loadingChunk.set(true)
+        try {
+            return call()
+        } finally {
+            loadingChunk.remove()
+        }
+    }
+}
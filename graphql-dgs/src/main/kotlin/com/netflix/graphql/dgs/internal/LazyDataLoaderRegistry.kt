@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.dataloader.DataLoader
+import org.dataloader.DataLoaderRegistry
+import org.dataloader.instrumentation.DataLoaderInstrumentation
+import org.dataloader.registries.ScheduledDataLoaderRegistry
+import org.dataloader.stats.Statistics
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.util.function.Function
+
+/**
+ * A [DataLoaderRegistry] that only creates a [DataLoader] the first time it is asked for by name.
+ *
+ * Data loaders are registered, with their dispatch predicate, in the [delegate] registry when they are first requested;
+ * dispatching and scheduling, including ticker mode, are left to the delegate, which only sees the data loaders
+ * a request actually used.
+ * [getKeys] includes the data loaders that haven't been created yet, while [getDataLoaders] and [getDataLoadersMap]
+ * only return the data loaders created so far, since only those can have pending loads.
+ *
+ * @param delegate the registry data loaders are registered in once created
+ * @param lazyDataLoaderNames the names of the data loaders that can be created on demand
+ * @param dataLoaderFactory registers the data loader with the given name in the delegate
+ */
+class LazyDataLoaderRegistry internal constructor(
+    private val delegate: ScheduledDataLoaderRegistry,
+    private val lazyDataLoaderNames: Set<String>,
+    private val dataLoaderFactory: (name: String, registry: LazyDataLoaderRegistry) -> Unit,
+) : DataLoaderRegistry(),
+    AutoCloseable {
+    @Volatile
+    private var materializedCount = 0
+
+    /**
+     * The number of data loaders created so far; the data loaders the request actually used.
+     */
+    val materializedDataLoaderCount: Int
+        get() = materializedCount
+
+    override fun <K : Any?, V : Any?> getDataLoader(key: String): DataLoader<K, V>? =
+        delegate.getDataLoader(key) ?: materialize(key)
+
+    private fun <K : Any?, V : Any?> materialize(key: String): DataLoader<K, V>? {
+        if (key !in lazyDataLoaderNames) {
+            return null
+        }
+        synchronized(this) {
+            val existing = delegate.getDataLoader<K, V>(key)
+            if (existing != null) {
+                return existing
+            }
+            dataLoaderFactory(key, this)
+            materializedCount++
+        }
+        return delegate.getDataLoader(key)
+    }
+
+    override fun getInstrumentation(): DataLoaderInstrumentation? = delegate.instrumentation
+
+    override fun register(dataLoader: DataLoader<*, *>): DataLoaderRegistry {
+        delegate.register(dataLoader)
+        return this
+    }
+
+    override fun register(
+        key: String,
+        dataLoader: DataLoader<*, *>,
+    ): DataLoaderRegistry {
+        delegate.register(key, dataLoader)
+        return this
+    }
+
+    override fun <K : Any?, V : Any?> registerAndGet(
+        key: String,
+        dataLoader: DataLoader<*, *>,
+    ): DataLoader<K, V> = delegate.registerAndGet(key, dataLoader)
+
+    override fun <K : Any?, V : Any?> computeIfAbsent(
+        key: String,
+        mappingFunction: Function<String, DataLoader<*, *>>,
+    ): DataLoader<K, V> = delegate.computeIfAbsent(key, mappingFunction)
+
+    override fun unregister(key: String): DataLoaderRegistry {
+        delegate.unregister(key)
+        return this
+    }
+
+    override fun combine(registry: DataLoaderRegistry): DataLoaderRegistry {
+        delegate.combine(registry)
+        return this
+    }
+
+    override fun getDataLoaders(): List<DataLoader<*, *>> = delegate.dataLoaders
+
+    override fun getDataLoadersMap(): Map<String, DataLoader<*, *>> = delegate.dataLoadersMap
+
+    override fun getKeys(): Set<String> = lazyDataLoaderNames + delegate.keys
+
+    override fun dispatchAll() {
+        delegate.dispatchAll()
+    }
+
+    override fun dispatchAllWithCount(): Int = delegate.dispatchAllWithCount()
+
+    override fun dispatchDepth(): Int = delegate.dispatchDepth()
+
+    override fun getStatistics(): Statistics = delegate.statistics
+
+    override fun close() {
+        delegate.close()
+        if (logger.isDebugEnabled) {
+            logger.debug("Request used {} of {} data loaders", materializedCount, lazyDataLoaderNames.size)
+        }
+    }
+
+    private companion object {
+        private val logger: Logger = LoggerFactory.getLogger(LazyDataLoaderRegistry::class.java)
+    }
+}
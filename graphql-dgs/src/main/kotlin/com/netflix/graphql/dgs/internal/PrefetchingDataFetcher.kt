@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsPrefetch
+import com.netflix.graphql.dgs.exceptions.NoDataLoaderFoundException
+import graphql.execution.DataFetcherResult
+import graphql.schema.DataFetcher
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.PropertyDataFetcher
+import java.util.concurrent.CompletionStage
+
+/**
+ * Prefetches the keys declared by the [DgsPrefetch] annotations of a data fetcher once it returns.
+ * Asynchronous results are prefetched before the returned stage completes, so before graphql-java
+ * resolves the fields below.
+ */
+internal class PrefetchingDataFetcher(
+    private val delegate: DataFetcher<Any?>,
+    private val prefetches: List<DgsPrefetch>,
+) : DataFetcher<Any?> {
+    private val keyFetchers: List<PropertyDataFetcher<Any?>> = prefetches.map { PropertyDataFetcher.fetching(it.key) }
+
+    override fun get(environment: DataFetchingEnvironment): Any? {
+        val result = delegate.get(environment)
+        if (result is CompletionStage<*>) {
+            return result.thenApply { value ->
+                prefetch(value, environment)
+                value
+            }
+        }
+        prefetch(result, environment)
+        return result
+    }
+
+    private fun prefetch(
+        result: Any?,
+        environment: DataFetchingEnvironment,
+    ) {
+        val data = (if (result is DataFetcherResult<*>) result.data else result) ?: return
+        for (idx in prefetches.indices) {
+            val prefetch = prefetches[idx]
+            if (!environment.selectionSet.contains(prefetch.field)) {
+                continue
+            }
+            val keys = collectKeys(data, keyFetchers[idx], environment)
+            if (keys.isNotEmpty()) {
+                load(environment, prefetch.dataLoader, keys)
+            }
+        }
+    }
+
+    private fun collectKeys(
+        data: Any,
+        keyFetcher: PropertyDataFetcher<Any?>,
+        environment: DataFetchingEnvironment,
+    ): Collection<Any> {
+        val keys = LinkedHashSet<Any>()
+        val addKeys: (Any?) -> Unit = { source ->
+            when (val key = source?.let { keyFetcher.get(environment.fieldDefinition, it) { environment } }) {
+                null -> {}
+                is Iterable<*> -> key.filterNotNullTo(keys)
+                else -> keys.add(key)
+            }
+        }
+        when (data) {
+            is Iterable<*> -> data.forEach(addKeys)
+            is Array<*> -> data.forEach(addKeys)
+            else -> addKeys(data)
+        }
+        return keys
+    }
+
+    companion object {
+        /**
+         * Queues the [keys] on the data loader, without waiting for them.
+         * Failures surface through the data fetchers that load the same keys later.
+         */
+        fun load(
+            environment: DataFetchingEnvironment,
+            dataLoaderName: String,
+            keys: Collection<Any>,
+        ) {
+            val dataLoader =
+                environment.getDataLoader<Any, Any?>(dataLoaderName)
+                    ?: throw NoDataLoaderFoundException("DataLoader with name $dataLoaderName not found")
+            dataLoader.loadMany(keys.toList())
+        }
+    }
+}
@@ -19,18 +19,31 @@ package com.netflix.graphql.dgs.internal
 import com.netflix.graphql.dgs.DataLoaderInstrumentationExtensionProvider
 import com.netflix.graphql.dgs.DgsDataLoaderCustomizer
 import com.netflix.graphql.dgs.DgsDataLoaderOptionsProvider
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
 import org.dataloader.DataLoaderRegistry
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.context.ApplicationContext
 import java.time.Duration
 import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.Executor
+import java.util.concurrent.RejectedExecutionException
 import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
 import java.util.function.Supplier
 
 /**
  * Implementation of a [DgsDataLoaderProvider] that supports data loader reloading.
- * This is done by creating a new [DefaultDgsDataLoaderProvider] when [forceReload] is called.
+ * This is done by creating a new [DefaultDgsDataLoaderProvider] when [reloadAsync] or [forceReload] is called.
+ *
+ * Each provider that is built is published as a new _generation_ with a single atomic swap, so building a registry
+ * never waits for a reload: requests keep using the current generation until the new one is ready, and requests
+ * in flight keep the registry they were given. Reloads are built on the `reloadExecutor`, and when several reloads
+ * overlap, the most recently requested one wins, even if it finishes first.
  *
  * Reloading by passing an [ApplicationContext] to [forceReload] will set the application only if _force reloading_ is successful.
  * If _force reloading_ is not successful, the provider and the _application_ context will stay the same.
@@ -42,38 +55,61 @@ import java.util.function.Supplier
  * @param scheduledExecutorService Executor service for scheduled data loader registry
  * @param scheduleDuration Duration for data loader scheduling
  * @param enableTickerMode Whether to enable ticker mode for the registry
+ * @param enableLazyRegistry Whether registries only create the data loaders a request uses
+ * @param enableLevelAwareDispatch Whether data loaders are dispatched as soon as each execution level is done
+ * @param levelAwareSafetyNetDuration Interval of the safety net checks for loads not dispatched with level-aware dispatch
+ * @param coroutineDispatcher Dispatcher suspend batch loaders are launched on
+ * @param reloadExecutor Executor the new providers are built on, by default a new daemon thread for each reload
  */
 class ReloadableDgsDataLoaderProvider(
-    @Volatile private var applicationContext: ApplicationContext,
+    private val applicationContext: ApplicationContext,
     private val scheduledExecutorService: ScheduledExecutorService,
     private val extensionProviders: List<DataLoaderInstrumentationExtensionProvider> = listOf(),
     private val customizers: List<DgsDataLoaderCustomizer> = listOf(),
     private val dataLoaderOptionsProvider: DgsDataLoaderOptionsProvider = DefaultDataLoaderOptionsProvider(),
     private val scheduleDuration: Duration = Duration.ofMillis(10),
     private val enableTickerMode: Boolean = false,
+    private val enableLazyRegistry: Boolean = false,
+    private val enableLevelAwareDispatch: Boolean = false,
+    private val levelAwareSafetyNetDuration: Duration = Duration.ofMillis(50),
+    private val coroutineDispatcher: CoroutineDispatcher = Dispatchers.Unconfined,
+    private val reloadExecutor: Executor = Executor { Thread(it, "dgs-dataloader-reload").apply { isDaemon = true }.start() },
 ) : DgsDataLoaderProvider {
-    @Volatile
-    private var currentProvider: DefaultDgsDataLoaderProvider? = null
+    private val current = AtomicReference<Generation?>()
 
-    @Volatile
-    private var lastReloadTime: Instant? = null
+    private val reloadRequests = AtomicLong()
 
     /**
      * Gets the timestamp of the last data loader reload.
      *
      * @return Instant of last reload, or null if never reloaded
      */
-    fun getLastReloadTime(): Instant? = lastReloadTime
+    fun getLastReloadTime(): Instant? = current.get()?.loadedAt
+
+    /**
+     * Gets how long it took to build the current generation of data loaders.
+     *
+     * @return Duration of the last reload, or null if never reloaded
+     */
+    fun getLastReloadDuration(): Duration? = current.get()?.buildDuration
+
+    /**
+     * Gets the generation of the data loaders new registries are built from. The first provider is generation 1,
+     * and each reload that is published increments it.
+     *
+     * @return the current generation, or 0 if not initialized yet
+     */
+    fun getGeneration(): Long = current.get()?.number ?: 0
 
     /**
      * Checks if this provider has been initialized (i.e., has a current provider).
      *
      * @return true if initialized, false otherwise
      */
-    fun isInitialized(): Boolean = currentProvider != null
+    fun isInitialized(): Boolean = current.get() != null
 
     /**
-     * Builds a data loader registry, checking for reload signal first.
+     * Builds a data loader registry from the current generation of data loaders.
      *
      * @return DataLoaderRegistry instance with all discovered data loaders
      */
@@ -83,7 +119,7 @@ class ReloadableDgsDataLoaderProvider(
     }
 
     /**
-     * Builds a data loader registry with a context supplier, checking for reload signal first.
+     * Builds a data loader registry with a context supplier from the current generation of data loaders.
      *
      * @param contextSupplier Supplier for GraphQL context
      * @return DataLoaderRegistry instance with all discovered data loaders
@@ -94,22 +130,23 @@ class ReloadableDgsDataLoaderProvider(
     }
 
     /**
-     * Gets the current provider or creates a new one if reload is indicated.
-     * This method is thread-safe and uses double-checked locking pattern.
+     * Gets the current provider, or creates the first one.
+     * Only the first build locks, since there is nothing to serve requests with until it is done;
+     * after that this is a single volatile read.
      *
      * @return Current or newly created DgsDataLoaderProvider
      */
     private fun getOrCreateProvider(): DefaultDgsDataLoaderProvider {
-        if (currentProvider == null) {
-            synchronized(this) {
-                if (currentProvider == null) {
-                    logger.info("Reloading data loaders due to indicator signal")
-                    currentProvider = createNewProvider(applicationContext)
-                    lastReloadTime = Instant.now()
-                }
-            }
+        current.get()?.let { return it.provider }
+        synchronized(this) {
+            current.get()?.let { return it.provider }
+            logger.info("Loading the initial data loaders")
+            val start = System.nanoTime()
+            val provider = createNewProvider(applicationContext)
+            // A reload may have been published while the initial provider was being built, that one wins.
+            current.compareAndSet(null, Generation(provider, applicationContext, 1, 0, Instant.now(), elapsedSince(start)))
+            return current.get()!!.provider
         }
-        return currentProvider!!
     }
 
     /**
@@ -127,48 +164,103 @@ class ReloadableDgsDataLoaderProvider(
                 dataLoaderOptionsProvider = dataLoaderOptionsProvider,
                 scheduleDuration = scheduleDuration,
                 enableTickerMode = enableTickerMode,
+                enableLazyRegistry = enableLazyRegistry,
+                enableLevelAwareDispatch = enableLevelAwareDispatch,
+                levelAwareSafetyNetDuration = levelAwareSafetyNetDuration,
+                coroutineDispatcher = coroutineDispatcher,
             )
         // Trigger discovery of data loaders
         newProvider.findDataLoaders()
         return newProvider
     }
 
+    /**
+     * Reloads the data loaders of the current application context in the background.
+     *
+     * @return a future completed with true once the new generation is published, or false if the reload failed
+     */
+    fun reloadAsync(): CompletableFuture<Boolean> = reloadAsync(current.get()?.applicationContext ?: applicationContext)
+
+    /**
+     * Reloads the data loaders of the given application context in the background.
+     * Registries keep being built from the current generation until the new one is published.
+     *
+     * @return a future completed with true once the new generation is published, or false if the reload failed
+     */
+    fun reloadAsync(applicationContext: ApplicationContext): CompletableFuture<Boolean> {
+        val requestId = reloadRequests.incrementAndGet()
+        return try {
+            CompletableFuture
+                .supplyAsync({ reload(applicationContext, requestId) }, reloadExecutor)
+                .exceptionally { e ->
+                    logger.error("Failed to force reload of data loaders", (e as? CompletionException)?.cause ?: e)
+                    false
+                }
+        } catch (e: RejectedExecutionException) {
+            logger.error("Failed to schedule the reload of data loaders", e)
+            CompletableFuture.completedFuture(false)
+        }
+    }
+
     /**
      * Programmatic API to force data loader reload.
      * Useful for development tools and administrative interfaces.
-     * This method is thread-safe and will create a new provider instance.
+     * This method is thread-safe and waits until the new provider instance is published.
      *
      * @return true if reload was successful, false otherwise
      */
-    fun forceReload(): Boolean = forceReload(applicationContext)
+    fun forceReload(): Boolean = reloadAsync().join()
 
     /**
      * Programmatic API to force data loader reload.
      * Useful for development tools and administrative interfaces.
-     * This method is thread-safe and will create a new provider instance.
+     * This method is thread-safe and waits until the new provider instance is published.
      *
      * @return true if reload was successful, false otherwise
      */
-    fun forceReload(applicationContext: ApplicationContext): Boolean {
-        try {
-            logger.info(
-                "Forcing reload data loaders for application context {},{}",
-                applicationContext.id,
-                applicationContext.applicationName,
-            )
-            synchronized(this) {
-                this.currentProvider = createNewProvider(applicationContext)
-                this.applicationContext = applicationContext
-                this.lastReloadTime = Instant.now()
+    fun forceReload(applicationContext: ApplicationContext): Boolean = reloadAsync(applicationContext).join()
+
+    private fun reload(
+        applicationContext: ApplicationContext,
+        requestId: Long,
+    ): Boolean {
+        logger.info(
+            "Forcing reload data loaders for application context {},{}",
+            applicationContext.id,
+            applicationContext.applicationName,
+        )
+        val start = System.nanoTime()
+        val provider = createNewProvider(applicationContext)
+        val buildDuration = elapsedSince(start)
+        while (true) {
+            val previous = current.get()
+            if (previous != null && previous.requestId > requestId) {
+                logger.debug("Discarding reloaded data loaders, a more recent reload was already published")
+                return true
+            }
+            val next = Generation(provider, applicationContext, (previous?.number ?: 0) + 1, requestId, Instant.now(), buildDuration)
+            if (current.compareAndSet(previous, next)) {
+                logger.debug("Published data loader generation {}, built in {}ms", next.number, buildDuration.toMillis())
+                return true
             }
-            logger.debug("Reload application context successfully")
-            return true
-        } catch (e: Exception) {
-            logger.error("Failed to force reload of data loaders", e)
-            return false
         }
     }
 
+    private fun elapsedSince(start: Long): Duration = Duration.ofNanos(System.nanoTime() - start)
+
+    /**
+     * A provider and the application context it was built from, swapped together.
+     * The request id orders overlapping reloads by when they were requested rather than when they finished.
+     */
+    private class Generation(
+        val provider: DefaultDgsDataLoaderProvider,
+        val applicationContext: ApplicationContext,
+        val number: Long,
+        val requestId: Long,
+        val loadedAt: Instant,
+        val buildDuration: Duration,
+    )
+
     companion object {
         private val logger: Logger = LoggerFactory.getLogger(ReloadableDgsDataLoaderProvider::class.java)
     }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsDataLoaderRegistries
+import com.netflix.graphql.dgs.DgsDataLoaderRegistryConsumer
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.DataLoader
+import org.dataloader.DataLoaderOptions
+import org.dataloader.DataLoaderRegistry
+import org.dataloader.instrumentation.DataLoaderInstrumentation
+import org.dataloader.scheduler.BatchLoaderScheduler
+import org.dataloader.stats.Statistics
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.ConcurrentHashMap
+import java.util.function.Function
+
+/**
+ * The [DataLoaderRegistry] handed to a [DgsDataLoaderRegistryConsumer]. It is set once, when the data loaders are found,
+ * instead of setting the registry of every request on the singleton batch loader, which raced between concurrent
+ * requests. Each consumer gets its own instance, which forwards to the registry of the request whose batch it loads.
+ *
+ * The request's registry is bound to the calling thread for the duration of each call to the batch loader, by the
+ * [BatchLoaderScheduler] added by [bindTo], and is tracked until the batch completes. Used from another thread, for
+ * example from a callback that runs once the batch completes, the registry resolves to the request whose batch is
+ * loading; if batches of several requests are loading, to the one that started last, as the registry set on the batch
+ * loader used to. Batch loaders that need the exact request from any thread should use [DgsDataLoaderRegistries].
+ */
+internal class RequestBoundDataLoaderRegistry : DataLoaderRegistry() {
+    @Volatile
+    private var latest: DataLoaderRegistry? = null
+    private val loading = ConcurrentHashMap<DataLoaderRegistry, Int>()
+
+    /**
+     * Returns the [options] with a [BatchLoaderScheduler] that binds the [registry] while the batch loader is called.
+     * A scheduler already in the options still schedules the calls.
+     */
+    fun bindTo(
+        options: DataLoaderOptions,
+        registry: DataLoaderRegistry,
+    ): DataLoaderOptions = options.transform { it.setBatchLoaderScheduler(BindingScheduler(registry, options.batchLoaderScheduler)) }
+
+    private fun <T> load(
+        registry: DataLoaderRegistry,
+        call: () -> CompletionStage<T>,
+    ): CompletionStage<T> {
+        latest = registry
+        loading.merge(registry, 1) { count, added -> count + added }
+        val result =
+            try {
+                bind(registry, call)
+            } catch (exc: Throwable) {
+                loaded(registry)
+                throw exc
+            }
+        result.whenComplete { _, _ -> loaded(registry) }
+        return result
+    }
+
+    private fun loaded(registry: DataLoaderRegistry) {
+        loading.computeIfPresent(registry) { _, count -> if (count == 1) null else count - 1 }
+    }
+
+    private inline fun <T> bind(
+        registry: DataLoaderRegistry,
+        call: () -> T,
+    ): T {
+        val previous = current.get()
+        current.set(registry)
+        try {
+            return call()
+        } finally {
+            if (previous == null) current.remove() else current.set(previous)
+        }
+    }
+
+    private fun currentRegistry(): DataLoaderRegistry =
+        current.get()
+            ?: loading.keys.singleOrNull()
+            ?: latest
+            ?: throw IllegalStateException(
+                "The DataLoaderRegistry of a DgsDataLoaderRegistryConsumer can only be used once its batch loader was called",
+            )
+    override fun getInstrumentation(): DataLoaderInstrumentation? = currentRegistry().instrumentation
+
+    override fun register(dataLoader: DataLoader<*, *>): DataLoaderRegistry = currentRegistry().register(dataLoader)
+
+    override fun register(
+        key: String,
+        dataLoader: DataLoader<*, *>,
+    ): DataLoaderRegistry = currentRegistry().register(key, dataLoader)
+
+    override fun <K : Any?, V : Any?> registerAndGet(
+        key: String,
+        dataLoader: DataLoader<*, *>,
+    ): DataLoader<K, V> = currentRegistry().registerAndGet(key, dataLoader)
+
+    override fun <K : Any?, V : Any?> computeIfAbsent(
+        key: String,
+        mappingFunction: Function<String, DataLoader<*, *>>,
+    ): DataLoader<K, V> = currentRegistry().computeIfAbsent(key, mappingFunction)
+
+    override fun combine(registry: DataLoaderRegistry): DataLoaderRegistry = currentRegistry().combine(registry)
+
+    override fun getDataLoaders(): List<DataLoader<*, *>> = currentRegistry().dataLoaders
+
+    override fun getDataLoadersMap(): Map<String, DataLoader<*, *>> = currentRegistry().dataLoadersMap
+
+    override fun unregister(key: String): DataLoaderRegistry = currentRegistry().unregister(key)
+
+    override fun <K : Any?, V : Any?> getDataLoader(key: String): DataLoader<K, V>? = currentRegistry().getDataLoader(key)
+
+    override fun getKeys(): Set<String> = currentRegistry().keys
+
+    override fun dispatchAll() {
+        currentRegistry().dispatchAll()
+    }
+
+    override fun dispatchAllWithCount(): Int = currentRegistry().dispatchAllWithCount()
+
+    override fun dispatchDepth(): Int = currentRegistry().dispatchDepth()
+
+    override fun getStatistics(): Statistics = currentRegistry().statistics
+
+    private inner class BindingScheduler(
+        private val registry: DataLoaderRegistry,
+        private val delegate: BatchLoaderScheduler?,
+    ) : BatchLoaderScheduler {
+        override fun <K, V> scheduleBatchLoader(
+            scheduledCall: BatchLoaderScheduler.ScheduledBatchLoaderCall<V>,
+            keys: List<K>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<List<V>> {
+            val call = BatchLoaderScheduler.ScheduledBatchLoaderCall<V> { load(registry) { scheduledCall.invoke() } }
+            return delegate?.scheduleBatchLoader(call, keys, environment) ?: call.invoke()
+        }
+
+        override fun <K, V> scheduleMappedBatchLoader(
+            scheduledCall: BatchLoaderScheduler.ScheduledMappedBatchLoaderCall<K, V>,
+            keys: List<K>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<Map<K, V>> {
+            val call = BatchLoaderScheduler.ScheduledMappedBatchLoaderCall<K, V> { load(registry) { scheduledCall.invoke() } }
+            return delegate?.scheduleMappedBatchLoader(call, keys, environment) ?: call.invoke()
+        }
+
+        override fun <K> scheduleBatchPublisher(
+            scheduledCall: BatchLoaderScheduler.ScheduledBatchPublisherCall,
+            keys: List<K>,
+            environment: BatchLoaderEnvironment,
+        ) {
+            val call =
+                BatchLoaderScheduler.ScheduledBatchPublisherCall {
+                    latest = registry
+                    bind(registry) { scheduledCall.invoke() }
+                }
+            if (delegate != null) {
+                delegate.scheduleBatchPublisher(call, keys, environment)
+            } else {
+                call.invoke()
+            }
+        }
+    }
+
+    private companion object {
+        private val current = ThreadLocal<DataLoaderRegistry>()
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.ExecutionResult
+import graphql.GraphQLContext
+import kotlinx.coroutines.CoroutineName
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancel
+import org.reactivestreams.Publisher
+import org.reactivestreams.Subscriber
+import org.reactivestreams.Subscription
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * The [CoroutineScope] suspend data fetchers of a single request are launched in.
+ *
+ * The scope is created on first use and stored in the request's [GraphQLContext]. It is cancelled, together with any
+ * coroutine still running in it, when the request completes; see [cancel]. The events of a subscription are resolved
+ * after the request completes, so the scope of a subscription is cancelled once its stream of events ends instead;
+ * see [RequestCoroutineScopeInstrumentation]. The scope uses a [SupervisorJob], so a failing data fetcher doesn't
+ * cancel its siblings.
+ */
+class RequestCoroutineScope private constructor() : CoroutineScope {
+    override val coroutineContext: CoroutineContext = SupervisorJob() + CoroutineName("dgs-request")
+
+    private enum class GraphQLContextKey { REQUEST_COROUTINE_SCOPE_KEY, SUBSCRIPTION_KEY }
+
+    companion object {
+        /**
+         * Returns the scope of the request the [graphQLContext] belongs to, creating it if needed.
+         */
+        @JvmStatic
+        fun from(graphQLContext: GraphQLContext): RequestCoroutineScope =
+            graphQLContext.computeIfAbsent(GraphQLContextKey.REQUEST_COROUTINE_SCOPE_KEY) { RequestCoroutineScope() }
+
+        /**
+         * Cancels the scope of the request the [graphQLContext] belongs to, if it was created.
+         * Called once the request has completed, alongside closing its data loader registry.
+         * Does nothing for subscriptions, whose scope is cancelled once their stream of events ends.
+         */
+        @JvmStatic
+        fun cancel(graphQLContext: GraphQLContext?) {
+            if (graphQLContext == null || graphQLContext.getOrDefault(GraphQLContextKey.SUBSCRIPTION_KEY, false)) {
+                return
+            }
+            cancelNow(graphQLContext)
+        }
+
+        /**
+         * Keeps the scope of a subscription until the stream of events of its [result] is complete, failed or cancelled.
+         */
+        internal fun cancelWhenComplete(
+            result: ExecutionResult,
+            graphQLContext: GraphQLContext,
+        ): ExecutionResult {
+            val events = result.getData<Any?>() as? Publisher<*> ?: return result
+            graphQLContext.put(GraphQLContextKey.SUBSCRIPTION_KEY, true)
+            return result.transform { it.data(OnTerminatePublisher(events) { cancelNow(graphQLContext) }) }
+        }
+
+        private fun cancelNow(graphQLContext: GraphQLContext) {
+            graphQLContext.get<RequestCoroutineScope?>(GraphQLContextKey.REQUEST_COROUTINE_SCOPE_KEY)?.cancel()
+        }
+    }
+
+    /**
+     * Calls [onTerminate] once the subscriber of the [source] is done with it.
+     */
+    private class OnTerminatePublisher<T>(
+        private val source: Publisher<T>,
+        private val onTerminate: () -> Unit,
+    ) : Publisher<T> {
+        override fun subscribe(subscriber: Subscriber<in T>) {
+            source.subscribe(
+                object : Subscriber<T> {
+                    override fun onSubscribe(subscription: Subscription) {
+                        subscriber.onSubscribe(
+                            object : Subscription {
+                                override fun request(n: Long) {
+                                    subscription.request(n)
+                                }
+
+                                override fun cancel() {
+                                    try {
+                                        subscription.cancel()
+                                    } finally {
+                                        onTerminate()
+                                    }
+                                }
+                            },
+                        )
+                    }
+
+                    override fun onNext(item: T) {
+                        subscriber.onNext(item)
+                    }
+
+                    override fun onError(error: Throwable) {
+                        try {
+                            subscriber.onError(error)
+                        } finally {
+                            onTerminate()
+                        }
+                    }
+
+                    override fun onComplete() {
+                        try {
+                            subscriber.onComplete()
+                        } finally {
+                            onTerminate()
+                        }
+                    }
+                },
+            )
+        }
+    }
+}
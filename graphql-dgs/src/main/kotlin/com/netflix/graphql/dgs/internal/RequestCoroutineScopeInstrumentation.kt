@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.ExecutionResult
+import graphql.execution.instrumentation.InstrumentationState
+import graphql.execution.instrumentation.SimplePerformantInstrumentation
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters
+import java.util.concurrent.CompletableFuture
+
+/**
+ * Keeps the [RequestCoroutineScope] of a subscription open until its stream of events ends,
+ * so suspend data fetchers and data loaders resolving the events aren't started in a cancelled scope.
+ */
+class RequestCoroutineScopeInstrumentation : SimplePerformantInstrumentation() {
+    override fun instrumentExecutionResult(
+        executionResult: ExecutionResult,
+        parameters: InstrumentationExecutionParameters,
+        state: InstrumentationState?,
+    ): CompletableFuture<ExecutionResult> =
+        CompletableFuture.completedFuture(RequestCoroutineScope.cancelWhenComplete(executionResult, parameters.graphQLContext))
+}
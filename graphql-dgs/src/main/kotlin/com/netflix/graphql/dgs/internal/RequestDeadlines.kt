@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Helpers to enforce the [request deadline][com.netflix.graphql.dgs.context.DgsContext.deadline].
+ */
+internal object RequestDeadlines {
+    fun isExceeded(deadline: Instant): Boolean = !Instant.now().isBefore(deadline)
+
+    /**
+     * Fails the returned future with a [DgsDeadlineExceededException] if [future] hasn't completed by the [deadline],
+     * in which case [onExpired] is called to cancel the underlying work.
+     */
+    fun <T> withDeadline(
+        future: CompletableFuture<T>,
+        deadline: Instant,
+        message: String,
+        onExpired: () -> Unit,
+    ): CompletableFuture<T> {
+        val remaining = Duration.between(Instant.now(), deadline)
+        if (remaining.isNegative || remaining.isZero) {
+            onExpired()
+            return CompletableFuture.failedFuture(DgsDeadlineExceededException(message))
+        }
+        // A timeout of the future itself isn't the deadline expiring, so the deadline completes the result
+        // with its own exception rather than using orTimeout.
+        val result = CompletableFuture<T>()
+        CompletableFuture
+            .delayedExecutor(toNanosSaturated(remaining), TimeUnit.NANOSECONDS)
+            .execute { result.completeExceptionally(DeadlineExpiredException()) }
+        future.whenComplete { value, exc ->
+            if (exc == null) {
+                result.complete(value)
+            } else {
+                result.completeExceptionally(exc)
+            }
+        }
+        return result.exceptionallyCompose { exc ->
+            if (exc is DeadlineExpiredException) {
+                onExpired()
+                CompletableFuture.failedFuture(DgsDeadlineExceededException(message))
+            } else {
+                CompletableFuture.failedFuture(exc)
+            }
+        }
+    }
+
+    private fun toNanosSaturated(duration: Duration): Long =
+        try {
+            duration.toNanos()
+        } catch (exc: ArithmeticException) {
+            Long.MAX_VALUE
+        }
+
+    private class DeadlineExpiredException : RuntimeException(null, null, false, false)
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.language.Definition
+import graphql.language.Document
+import graphql.parser.InvalidSyntaxException
+import graphql.parser.MultiSourceReader
+import graphql.parser.Parser
+import graphql.parser.ParserEnvironment
+import graphql.parser.ParserOptions
+import graphql.schema.idl.SchemaParser
+import graphql.schema.idl.TypeDefinitionRegistry
+import graphql.schema.idl.errors.SchemaProblem
+import org.springframework.core.io.Resource
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * Reads and parses schema files concurrently on a bounded [ForkJoinPool].
+ *
+ * Each file is parsed into its own [Document], and the definitions of all the documents are then added to a single
+ * [TypeDefinitionRegistry] in the order of the files, which gives the same registry, and the same errors, as parsing
+ * the files one after the other. Syntax errors name the file they were found in.
+ */
+internal object SchemaFileParser {
+    /**
+     * Parses the schema files. When a snapshot directory is given, the parsed definitions are stored in a
+     * [SchemaSnapshot], and loaded from it instead of being parsed again as long as the schema files don't change.
+     */
+    fun parse(
+        schemaFiles: List<Resource>,
+        parallelism: Int = Runtime.getRuntime().availableProcessors(),
+        snapshotDirectory: Path? = null,
+    ): TypeDefinitionRegistry {
+        val definitions =
+            if (snapshotDirectory == null) {
+                parseDefinitions(schemaFiles, parallelism) { parseDocument(it.filename, read(it)) }
+            } else {
+                // The snapshot is keyed by the content of the files, so they are all read first.
+                val sources = schemaFiles.map { it.filename to read(it) }
+                SchemaSnapshot(snapshotDirectory).definitions(sources) {
+                    parseDefinitions(sources, parallelism) { (filename, content) -> parseDocument(filename, content) }
+                }
+            }
+        return SchemaParser().buildRegistry(Document.newDocument().definitions(definitions).build())
+    }
+
+    private fun <T> parseDefinitions(
+        schemaFiles: List<T>,
+        parallelism: Int,
+        parseDocument: (T) -> Document?,
+    ): List<Definition<*>> {
+        val documents =
+            if (schemaFiles.size < 2 || parallelism < 2) {
+                schemaFiles.map(parseDocument)
+            } else {
+                parseConcurrently(schemaFiles, minOf(parallelism, schemaFiles.size), parseDocument)
+            }
+        return documents.flatMap { it?.definitions.orEmpty() }
+    }
+
+    private fun <T> parseConcurrently(
+        schemaFiles: List<T>,
+        parallelism: Int,
+        parseDocument: (T) -> Document?,
+    ): List<Document?> {
+        val pool = ForkJoinPool(parallelism)
+        try {
+            // Failures are collected rather than thrown, so the error of the first failing file is reported.
+            val results =
+                pool
+                    .submit(Callable { schemaFiles.parallelStream().map { runCatching { parseDocument(it) } }.toList() })
+                    .get()
+            return results.map { it.getOrThrow() }
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } finally {
+            pool.shutdown()
+        }
+    }
+
+    private fun read(schemaFile: Resource): String = schemaFile.inputStream.reader().use { it.readText() }
+
+    /**
+     * Parses the content of a single schema file, or returns null if it doesn't contain any definitions.
+     */
+    private fun parseDocument(
+        filename: String?,
+        content: String,
+    ): Document? {
+        if (content.lineSequence().all { it.isBlank() || it.trimStart().startsWith("#") }) {
+            return null
+        }
+        val reader =
+            MultiSourceReader
+                .newMultiSourceReader()
+                .reader(content.reader(), filename)
+                .trackData(false)
+                .build()
+        val environment =
+            ParserEnvironment
+                .newParserEnvironment()
+                .document(reader)
+                .parserOptions(ParserOptions.getDefaultSdlParserOptions())
+                .build()
+        return try {
+            Parser.parse(environment)
+        } catch (e: InvalidSyntaxException) {
+            throw SchemaProblem(listOf(e.toInvalidSyntaxError()))
+        }
+    }
+}
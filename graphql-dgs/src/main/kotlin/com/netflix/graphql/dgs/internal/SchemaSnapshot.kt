@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.language.Definition
+import graphql.language.Document
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import java.io.BufferedOutputStream
+import java.io.InputStream
+import java.io.ObjectInputFilter
+import java.io.ObjectInputStream
+import java.io.ObjectOutputStream
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.LinkOption
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.nio.file.attribute.PosixFileAttributeView
+import java.nio.file.attribute.PosixFilePermission
+import java.nio.file.attribute.PosixFilePermissions
+import java.security.MessageDigest
+import java.util.HexFormat
+
+/**
+ * Stores the parsed definitions of the schema files in a directory, so they can be loaded instead of parsed on the
+ * next start. Snapshots are keyed by a hash of the names and content of the schema files, and of the DGS and
+ * graphql-java versions, and are read with a memory-mapped read.
+ *
+ * The definitions are stored with Java serialization, which the graphql-java AST supports, and only graphql-java
+ * and JDK collection classes are accepted when reading them. A snapshot that can't be read is parsed and written
+ * again, and failing to write a snapshot only logs a warning.
+ *
+ * Anyone who can write to the [directory] decides the schema of the application, so the directory is created
+ * accessible to its owner only, and snapshots are only used if the directory and the snapshot are owned by the user
+ * running the application, and can't be written by anyone else.
+ */
+internal class SchemaSnapshot(
+    private val directory: Path,
+) {
+    fun definitions(
+        schemaFiles: List<Pair<String?, String>>,
+        parse: () -> List<Definition<*>>,
+    ): List<Definition<*>> {
+        if (!createDirectory()) {
+            return parse()
+        }
+        if (!isTrusted(directory)) {
+            logger.warn("Ignoring the schema snapshot directory {}, which is not owned by the user running the application", directory)
+            return parse()
+        }
+        val snapshotFile = directory.resolve("schema-${key(schemaFiles)}.ser")
+        read(snapshotFile)?.let { definitions ->
+            logger.debug("Loaded the schema snapshot {}", snapshotFile)
+            return definitions
+        }
+        val definitions = parse()
+        write(snapshotFile, definitions)
+        return definitions
+    }
+
+    private fun key(schemaFiles: List<Pair<String?, String>>): String {
+        val digest = MessageDigest.getInstance("SHA-256")
+        val update = { value: String? ->
+            val bytes = value.orEmpty().toByteArray()
+            digest.update(ByteBuffer.allocate(Int.SIZE_BYTES).putInt(bytes.size).array())
+            digest.update(bytes)
+        }
+        update(version(DgsSchemaProvider::class.java))
+        update(version(Document::class.java))
+        schemaFiles.forEach { (filename, content) ->
+            update(filename)
+            update(content)
+        }
+        return HexFormat.of().formatHex(digest.digest())
+    }
+
+    /**
+     * The version of the library the [type] belongs to. Without a version in the manifest, for example when running from
+     * a build directory or a shaded jar, the location and the modification time of the class file identify the build.
+     */
+    private fun version(type: Class<*>): String {
+        type.`package`?.implementationVersion?.let { return it }
+        val classFile = type.getResource("${type.simpleName}.class") ?: return "unknown"
+        return "$classFile@${classFile.openConnection().lastModified}"
+    }
+
+    private fun createDirectory(): Boolean =
+        try {
+            if (directory.fileSystem.supportedFileAttributeViews().contains("posix")) {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY))
+            } else {
+                Files.createDirectories(directory)
+            }
+            true
+        } catch (e: Exception) {
+            logger.warn("Unable to create the schema snapshot directory {}", directory, e)
+            false
+        }
+
+    /**
+     * Whether the [path] is owned by the user running the application, and can't be written by anyone else.
+     */
+    private fun isTrusted(path: Path): Boolean =
+        try {
+            val owner = Files.getOwner(path, LinkOption.NOFOLLOW_LINKS)
+            val user = path.fileSystem.userPrincipalLookupService.lookupPrincipalByName(System.getProperty("user.name"))
+            val posix = Files.getFileAttributeView(path, PosixFileAttributeView::class.java, LinkOption.NOFOLLOW_LINKS)
+            val permissions = posix?.readAttributes()?.permissions().orEmpty()
+            owner == user && PosixFilePermission.GROUP_WRITE !in permissions && PosixFilePermission.OTHERS_WRITE !in permissions
+        } catch (e: Exception) {
+            logger.debug("Unable to check the owner of {}", path, e)
+            false
+        }
+
+    private fun read(snapshotFile: Path): List<Definition<*>>? {
+        if (!Files.isRegularFile(snapshotFile, LinkOption.NOFOLLOW_LINKS)) {
+            return null
+        }
+        if (!isTrusted(snapshotFile)) {
+            logger.warn("Ignoring the schema snapshot {}, which is not owned by the user running the application", snapshotFile)
+            return null
+        }
+        return try {
+            FileChannel.open(snapshotFile, StandardOpenOption.READ).use { channel ->
+                val buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                ObjectInputStream(ByteBufferInputStream(buffer)).use { input ->
+                    input.objectInputFilter = SNAPSHOT_FILTER
+                    @Suppress("UNCHECKED_CAST")
+                    input.readObject() as List<Definition<*>>
+                }
+            }
+        } catch (e: Exception) {
+            logger.warn("Unable to read the schema snapshot {}, the schema files will be parsed instead", snapshotFile, e)
+            null
+        }
+    }
+
+    private fun write(
+        snapshotFile: Path,
+        definitions: List<Definition<*>>,
+    ) {
+        try {
+            val tempFile = Files.createTempFile(directory, "schema-", ".tmp")
+            try {
+                ObjectOutputStream(BufferedOutputStream(Files.newOutputStream(tempFile))).use { output ->
+                    output.writeObject(ArrayList(definitions))
+                }
+                // Readers either see the complete snapshot or none at all, even when several contexts start at once.
+                Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+            } finally {
+                Files.deleteIfExists(tempFile)
+            }
+        } catch (e: Exception) {
+            logger.warn("Unable to write the schema snapshot {}", snapshotFile, e)
+        }
+    }
+
+    private class ByteBufferInputStream(
+        private val buffer: ByteBuffer,
+    ) : InputStream() {
+        override fun read(): Int = if (buffer.hasRemaining()) buffer.get().toInt() and 0xFF else -1
+
+        override fun read(
+            bytes: ByteArray,
+            offset: Int,
+            length: Int,
+        ): Int {
+            if (length == 0) {
+                return 0
+            }
+            if (!buffer.hasRemaining()) {
+                return -1
+            }
+            val count = minOf(length, buffer.remaining())
+            buffer.get(bytes, offset, count)
+            return count
+        }
+
+        override fun available(): Int = buffer.remaining()
+    }
+
+    private companion object {
+        private val logger: Logger = LoggerFactory.getLogger(SchemaSnapshot::class.java)
+
+        private val OWNER_ONLY = PosixFilePermissions.fromString("rwx------")
+
+        private val SNAPSHOT_FILTER: ObjectInputFilter =
+            ObjectInputFilter.Config.createFilter("graphql.**;com.google.common.collect.*;java.util.**;java.lang.*;java.math.*;!*")
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.github.benmanes.caffeine.cache.CacheLoader
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import com.github.benmanes.caffeine.cache.LoadingCache
+import com.netflix.graphql.dgs.DgsDataLoaderSharedCache
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.Try
+import org.dataloader.ValueCache
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
+
+/**
+ * A [ValueCache] backed by Caffeine, shared by the data loaders of all requests for the data loader with the given
+ * [name]; see [DgsDataLoaderSharedCache].
+ *
+ * Values are cached for [DgsDataLoaderSharedCache.ttlMillis]. Keys the batch loader returned no value for are cached
+ * for [DgsDataLoaderSharedCache.negativeTtlMillis], if set. With [DgsDataLoaderSharedCache.refreshAfterMillis], values
+ * read after that time are reloaded in the background with the batch loader bound by [bindBatchLoader]. Reloads are not
+ * part of a request, so the batch loader gets an environment without context.
+ *
+ * Clearing the data loader of a request only clears its own cache; [delete] and [clear] leave this cache, shared by
+ * all requests, untouched. It is invalidated through [DgsDataLoaderSharedCaches][com.netflix.graphql.dgs.DgsDataLoaderSharedCaches].
+ */
+class SharedDataLoaderValueCache internal constructor(
+    val name: String,
+    config: DgsDataLoaderSharedCache,
+) : ValueCache<Any, Any?> {
+    private val negativeCaching = config.negativeTtlMillis > 0
+
+    @Volatile
+    private var batchLoadFunction: BatchLoadFunction? = null
+
+    /**
+     * The underlying Caffeine cache, recording statistics; missing values are cached as a sentinel.
+     */
+    val cache: LoadingCache<Any, Any>
+
+    init {
+        val ttl = Duration.ofMillis(config.ttlMillis).toNanos()
+        val negativeTtl = Duration.ofMillis(config.negativeTtlMillis).toNanos()
+        val builder =
+            Caffeine
+                .newBuilder()
+                .maximumSize(config.maximumSize)
+                .expireAfter(
+                    object : Expiry<Any, Any> {
+                        override fun expireAfterCreate(
+                            key: Any,
+                            value: Any,
+                            currentTime: Long,
+                        ): Long = if (value === NO_VALUE) negativeTtl else ttl
+
+                        override fun expireAfterUpdate(
+                            key: Any,
+                            value: Any,
+                            currentTime: Long,
+                            currentDuration: Long,
+                        ): Long = expireAfterCreate(key, value, currentTime)
+
+                        override fun expireAfterRead(
+                            key: Any,
+                            value: Any,
+                            currentTime: Long,
+                            currentDuration: Long,
+                        ): Long = currentDuration
+                    },
+                ).recordStats()
+        if (config.refreshAfterMillis > 0) {
+            builder.refreshAfterWrite(Duration.ofMillis(config.refreshAfterMillis))
+        }
+        cache =
+            builder.build(
+                object : CacheLoader<Any, Any> {
+                    override fun load(key: Any): Any? = reload(key).join()
+
+                    override fun asyncReload(
+                        key: Any,
+                        oldValue: Any,
+                        executor: Executor,
+                    ): CompletableFuture<out Any?> = reload(key)
+                },
+            )
+    }
+
+    /**
+     * Binds the batch loader used to refresh values, after it has been customized and wrapped by the
+     * instrumentation extension providers.
+     */
+    internal fun bindBatchLoader(batchLoader: Any) {
+        batchLoadFunction = BatchLoadFunction.of(name, batchLoader)
+    }
+
+    private fun reload(key: Any): CompletableFuture<Any?> {
+        val function = batchLoadFunction ?: return CompletableFuture.completedFuture(null)
+        val environment = BatchLoaderEnvironment.newBatchLoaderEnvironment().build()
+        return function
+            .load(listOf(key), environment)
+            .toCompletableFuture()
+            .thenApply { values -> values[key] ?: if (negativeCaching) NO_VALUE else null }
+    }
+
+    override fun get(key: Any): CompletableFuture<Any?> =
+        when (val value = cache.getIfPresent(key)) {
+            null -> MISS
+            NO_VALUE -> CompletableFuture.completedFuture(null)
+            else -> CompletableFuture.completedFuture(value)
+        }
+
+    override fun getValues(keys: List<Any>): CompletableFuture<List<Try<Any?>>> {
+        val values = cache.getAllPresent(keys)
+        return CompletableFuture.completedFuture(
+            keys.map { key ->
+                when (val value = values[key]) {
+                    null -> Try.failed(CacheMissException)
+                    NO_VALUE -> Try.succeeded(null)
+                    else -> Try.succeeded(value)
+                }
+            },
+        )
+    }
+
+    override fun set(
+        key: Any,
+        value: Any?,
+    ): CompletableFuture<Any?> {
+        put(key, value)
+        return CompletableFuture.completedFuture(value)
+    }
+
+    override fun setValues(
+        keys: List<Any>,
+        values: List<Any?>,
+    ): CompletableFuture<List<Any?>> {
+        keys.forEachIndexed { index, key -> put(key, values[index]) }
+        return CompletableFuture.completedFuture(values)
+    }
+
+    private fun put(
+        key: Any,
+        value: Any?,
+    ) {
+        when {
+            value != null -> cache.put(key, value)
+            negativeCaching -> cache.put(key, NO_VALUE)
+        }
+    }
+
+    override fun delete(key: Any): CompletableFuture<Void> = CompletableFuture.completedFuture(null)
+
+    override fun clear(): CompletableFuture<Void> = CompletableFuture.completedFuture(null)
+
+    private object CacheMissException : RuntimeException("Not in the shared data loader cache", null, false, false)
+
+    private companion object {
+        private val NO_VALUE = Any()
+        private val MISS: CompletableFuture<Any?> = CompletableFuture.failedFuture(CacheMissException)
+    }
+}
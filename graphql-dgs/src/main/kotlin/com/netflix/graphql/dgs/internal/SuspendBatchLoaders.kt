@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.SuspendBatchLoader
+import com.netflix.graphql.dgs.SuspendMappedBatchLoader
+import com.netflix.graphql.dgs.context.DgsContext
+import com.netflix.graphql.dgs.context.ReactiveDgsContext
+import graphql.GraphQLContext
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.CoroutineName
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.future.future
+import kotlinx.coroutines.reactor.ReactorContext
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.dataloader.MappedBatchLoaderWithContext
+import java.util.concurrent.CompletionStage
+
+/**
+ * Adapts [SuspendBatchLoader]s and [SuspendMappedBatchLoader]s to the batch loaders of java-dataloader, so they are
+ * customized, instrumented and registered like any other batch loader.
+ *
+ * Each batch is launched in the [RequestCoroutineScope] of the request found in the [BatchLoaderEnvironment], on the
+ * [coroutineDispatcher], so it is cancelled with the request; cancelling the returned future cancels the coroutine too.
+ * The Reactor context of reactive requests is made available as a [ReactorContext] element. Batches loaded outside
+ * a request, without a `GraphQLContext`, are launched in a scope of their own.
+ */
+internal class SuspendBatchLoaders(
+    private val coroutineDispatcher: CoroutineDispatcher,
+) {
+    /**
+     * Returns the java-dataloader batch loader for the [dataLoader] if it is a suspend batch loader,
+     * or the [dataLoader] itself otherwise.
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun adapt(dataLoader: Any): Any =
+        when (dataLoader) {
+            is SuspendBatchLoader<*, *> -> SuspendBatchLoaderAdapter(dataLoader as SuspendBatchLoader<Any, Any?>)
+            is SuspendMappedBatchLoader<*, *> -> SuspendMappedBatchLoaderAdapter(dataLoader as SuspendMappedBatchLoader<Any, Any?>)
+            else -> dataLoader
+        }
+
+    private fun <T> launch(
+        environment: BatchLoaderEnvironment,
+        load: suspend CoroutineScope.() -> T,
+    ): CompletionStage<T> {
+        val graphQLContext =
+            environment.getContext<Any?>() as? GraphQLContext
+                ?: return detachedScope.future(coroutineDispatcher, block = load)
+        val reactorContext = (DgsContext.fromOrNull(graphQLContext) as? ReactiveDgsContext)?.reactorContext
+        val coroutineContext = if (reactorContext != null) coroutineDispatcher + ReactorContext(reactorContext) else coroutineDispatcher
+        return RequestCoroutineScope.from(graphQLContext).future(coroutineContext, block = load)
+    }
+
+    private inner class SuspendBatchLoaderAdapter(
+        private val original: SuspendBatchLoader<Any, Any?>,
+    ) : BatchLoaderWithContext<Any, Any?> {
+        override fun load(
+            keys: List<Any>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<List<Any?>> = launch(environment) { original.load(keys, environment) }
+    }
+
+    private inner class SuspendMappedBatchLoaderAdapter(
+        private val original: SuspendMappedBatchLoader<Any, Any?>,
+    ) : MappedBatchLoaderWithContext<Any, Any?> {
+        override fun load(
+            keys: Set<Any>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<Map<Any, Any?>> = launch(environment) { original.load(keys, environment) }
+    }
+
+    private companion object {
+        private val detachedScope = CoroutineScope(SupervisorJob() + CoroutineName("dgs-dataloader"))
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import java.time.Duration
+import java.util.concurrent.AbstractExecutorService
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Delayed
+import java.util.concurrent.Executors
+import java.util.concurrent.FutureTask
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.locks.LockSupport
+
+/**
+ * A [ScheduledExecutorService] for the dispatch checks of [org.dataloader.registries.ScheduledDataLoaderRegistry]s,
+ * backed by hashed timer wheels.
+ *
+ * The executor is split into [shards]; each shard owns a timer wheel and a thread that advances it every tick.
+ * A task is placed in the bucket of the tick it is due at, so all registries due at the same tick are checked in a
+ * single wake-up, instead of one wake-up each. Tasks scheduled from a timer thread, such as a registry in ticker mode
+ * rescheduling itself, stay on the shard of that thread; other tasks are spread randomly across the shards.
+ * A shard without tasks parks until a task is scheduled on it.
+ *
+ * Delays are rounded up to the next tick. Tasks run on the timer threads, so they must be short; dispatching
+ * a data loader only starts its batch loader. Tasks that haven't run yet are cancelled on shutdown.
+ *
+ * @param shardCount the number of timer wheels, each with its own thread
+ * @param tickDuration the resolution of the timer wheels
+ * @param wheelSize the number of buckets per timer wheel, rounded up to a power of two
+ */
+class TimerWheelScheduledExecutorService(
+    shardCount: Int = Runtime.getRuntime().availableProcessors(),
+    tickDuration: Duration = Duration.ofMillis(1),
+    wheelSize: Int = 512,
+    threadNamePrefix: String = "dgs-dataloader-timer",
+) : AbstractExecutorService(),
+    ScheduledExecutorService {
+    private val tickNanos = tickDuration.toNanos()
+    private val wheelMask = Integer.highestOneBit(maxOf(wheelSize - 1, 1)) * 2 - 1
+    private val stopped = AtomicBoolean(false)
+
+    /**
+     * The shards of this executor, exposing the scheduling lag and queue depth of each timer wheel.
+     */
+    val shards: List<Shard>
+
+    init {
+        require(shardCount > 0) { "The number of timer wheel shards must be greater than zero" }
+        require(tickNanos > 0) { "The timer wheel tick duration must be greater than zero" }
+        shards = List(shardCount) { Shard(it, "$threadNamePrefix-$it") }
+        shards.forEach { it.thread.start() }
+    }
+
+    override fun schedule(
+        command: Runnable,
+        delay: Long,
+        unit: TimeUnit,
+    ): ScheduledFuture<*> = enqueue(TimerTask(Executors.callable(command, null), triggerTime(delay, unit), 0))
+
+    override fun <V> schedule(
+        callable: Callable<V>,
+        delay: Long,
+        unit: TimeUnit,
+    ): ScheduledFuture<V> = enqueue(TimerTask(callable, triggerTime(delay, unit), 0))
+
+    override fun scheduleAtFixedRate(
+        command: Runnable,
+        initialDelay: Long,
+        period: Long,
+        unit: TimeUnit,
+    ): ScheduledFuture<*> {
+        require(period > 0) { "The period must be greater than zero" }
+        return enqueue(TimerTask(Executors.callable(command, null), triggerTime(initialDelay, unit), unit.toNanos(period)))
+    }
+
+    override fun scheduleWithFixedDelay(
+        command: Runnable,
+        initialDelay: Long,
+        delay: Long,
+        unit: TimeUnit,
+    ): ScheduledFuture<*> {
+        require(delay > 0) { "The delay must be greater than zero" }
+        return enqueue(TimerTask(Executors.callable(command, null), triggerTime(initialDelay, unit), -unit.toNanos(delay)))
+    }
+
+    override fun execute(command: Runnable) {
+        schedule(command, 0, TimeUnit.NANOSECONDS)
+    }
+
+    override fun shutdown() {
+        if (stopped.compareAndSet(false, true)) {
+            shards.forEach { LockSupport.unpark(it.thread) }
+        }
+    }
+
+    /**
+     * Shuts the executor down. The timer threads cancel the tasks that haven't run yet, so no tasks are returned.
+     */
+    override fun shutdownNow(): MutableList<Runnable> {
+        shutdown()
+        return mutableListOf()
+    }
+
+    override fun isShutdown(): Boolean = stopped.get()
+
+    override fun isTerminated(): Boolean = isShutdown && shards.none { it.thread.isAlive }
+
+    override fun awaitTermination(
+        timeout: Long,
+        unit: TimeUnit,
+    ): Boolean {
+        val deadline = System.nanoTime() + unit.toNanos(timeout)
+        for (shard in shards) {
+            val remaining = deadline - System.nanoTime()
+            if (remaining <= 0) {
+                return isTerminated
+            }
+            TimeUnit.NANOSECONDS.timedJoin(shard.thread, remaining)
+        }
+        return isTerminated
+    }
+
+    private fun triggerTime(
+        delay: Long,
+        unit: TimeUnit,
+    ): Long = System.nanoTime() + unit.toNanos(maxOf(delay, 0))
+
+    private fun <V> enqueue(task: TimerTask<V>): TimerTask<V> {
+        if (stopped.get()) {
+            throw RejectedExecutionException("The data loader timer wheel has been shut down")
+        }
+        val currentThread = Thread.currentThread()
+        val shard =
+            if (currentThread is TimerThread && currentThread.shard in shards) {
+                currentThread.shard
+            } else {
+                shards[ThreadLocalRandom.current().nextInt(shards.size)]
+            }
+        shard.add(task)
+        if (stopped.get()) {
+            task.cancel(false)
+        }
+        return task
+    }
+
+    /**
+     * A single timer wheel and the thread advancing it.
+     */
+    inner class Shard internal constructor(
+        val index: Int,
+        threadName: String,
+    ) {
+        private val inbound = ConcurrentLinkedQueue<TimerTask<*>>()
+        private val buckets = Array(wheelMask + 1) { ArrayDeque<TimerTask<*>>() }
+        private val pending = AtomicInteger()
+        private var startTime = 0L
+        private var tick = 0L
+
+        @Volatile
+        private var idle = false
+
+        @Volatile
+        private var executed = 0L
+
+        @Volatile
+        private var lagNanos = 0L
+
+        internal val thread: Thread = TimerThread(this, threadName)
+
+        /** The number of tasks scheduled on this shard that haven't run yet. */
+        val queueDepth: Int
+            get() = pending.get()
+
+        /** The number of tasks this shard has run. */
+        val executedCount: Long
+            get() = executed
+
+        /** The sum of the delays between the time each task was due and the time it ran. */
+        val totalLagNanos: Long
+            get() = lagNanos
+
+        internal fun add(task: TimerTask<*>) {
+            pending.incrementAndGet()
+            inbound.add(task)
+            if (idle) {
+                LockSupport.unpark(thread)
+            }
+        }
+
+        internal fun advance() {
+            startTime = System.nanoTime()
+            while (!stopped.get()) {
+                // Park until a task is scheduled when the wheel is empty, rather than waking up every tick.
+                idle = true
+                if (pending.get() == 0) {
+                    LockSupport.park(this)
+                    tick = (System.nanoTime() - startTime) / tickNanos
+                }
+                idle = false
+
+                val deadline = startTime + (tick + 1) * tickNanos
+                var now = System.nanoTime()
+                while (now < deadline && !stopped.get()) {
+                    LockSupport.parkNanos(this, deadline - now)
+                    now = System.nanoTime()
+                }
+                if (stopped.get()) {
+                    break
+                }
+
+                transferInbound()
+                expire(buckets[(tick and wheelMask.toLong()).toInt()], now)
+                tick++
+            }
+            cancelAll()
+        }
+
+        private fun transferInbound() {
+            while (true) {
+                val task = inbound.poll() ?: return
+                if (task.isCancelled) {
+                    pending.decrementAndGet()
+                    continue
+                }
+                // The bucket of a tick is expired once the tick has ended.
+                val dueTick = Math.floorDiv(task.triggerTime - startTime + tickNanos - 1, tickNanos) - 1
+                val targetTick = maxOf(dueTick, tick)
+                task.remainingRounds = (targetTick - tick) / buckets.size
+                buckets[(targetTick and wheelMask.toLong()).toInt()].addLast(task)
+            }
+        }
+
+        private fun expire(
+            bucket: ArrayDeque<TimerTask<*>>,
+            now: Long,
+        ) {
+            repeat(bucket.size) {
+                val task = bucket.removeFirst()
+                when {
+                    task.isCancelled -> pending.decrementAndGet()
+                    task.remainingRounds > 0 -> {
+                        task.remainingRounds--
+                        bucket.addLast(task)
+                    }
+                    else -> {
+                        pending.decrementAndGet()
+                        lagNanos += maxOf(now - task.triggerTime, 0)
+                        executed++
+                        task.run()
+                    }
+                }
+            }
+        }
+
+        private fun cancelAll() {
+            generateSequence { inbound.poll() }.forEach { it.cancel(false) }
+            buckets.forEach { bucket ->
+                bucket.forEach { it.cancel(false) }
+                bucket.clear()
+            }
+            pending.set(0)
+        }
+    }
+
+    private class TimerThread(
+        val shard: TimerWheelScheduledExecutorService.Shard,
+        name: String,
+    ) : Thread(name) {
+        init {
+            isDaemon = true
+        }
+
+        override fun run() {
+            shard.advance()
+        }
+    }
+
+    /**
+     * A task on a timer wheel. A positive [period] makes a fixed rate task, a negative one a fixed delay task.
+     */
+    internal inner class TimerTask<V>(
+        callable: Callable<V>,
+        @Volatile var triggerTime: Long,
+        private val period: Long,
+    ) : FutureTask<V>(callable),
+        ScheduledFuture<V> {
+        var remainingRounds = 0L
+
+        override fun getDelay(unit: TimeUnit): Long = unit.convert(triggerTime - System.nanoTime(), TimeUnit.NANOSECONDS)
+
+        override fun compareTo(other: Delayed): Int =
+            getDelay(TimeUnit.NANOSECONDS).compareTo(other.getDelay(TimeUnit.NANOSECONDS))
+
+        override fun run() {
+            if (period == 0L) {
+                super.run()
+            } else if (runAndReset() && !stopped.get()) {
+                triggerTime = if (period > 0) triggerTime + period else System.nanoTime() - period
+                enqueue(this)
+            }
+        }
+    }
+}
@@ -19,13 +19,17 @@ package com.netflix.graphql.dgs.internal.method
 import com.netflix.graphql.dgs.exceptions.DgsInvalidInputArgumentException
 import com.netflix.graphql.dgs.internal.InputObjectMapper
 import graphql.schema.DataFetchingEnvironment
+import graphql.schema.GraphQLFieldDefinition
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.core.MethodParameter
+import org.springframework.core.convert.ConversionFailedException
 import org.springframework.core.convert.TypeDescriptor
+import org.springframework.core.convert.converter.GenericConverter
 import org.springframework.core.convert.support.DefaultConversionService
 import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.ConcurrentMap
+import kotlin.reflect.KClass
 import kotlin.reflect.KParameter
 import kotlin.reflect.jvm.jvmErasure
 import kotlin.reflect.jvm.kotlinFunction
@@ -37,8 +41,8 @@ abstract class AbstractInputArgumentResolver(
         private val logger: Logger = LoggerFactory.getLogger(AbstractInputArgumentResolver::class.java)
     }
 
-    private val conversionService = DefaultConversionService()
-    private val argumentNameCache: ConcurrentMap<MethodParameter, String> = ConcurrentHashMap()
+    private val conversionService = InputArgumentConversionService()
+    private val bindingCache: ConcurrentMap<MethodParameter, InputArgumentBinding> = ConcurrentHashMap()
 
     init {
         conversionService.addConverter(InputObjectMapperConverter(inputObjectMapper))
@@ -48,31 +52,60 @@ abstract class AbstractInputArgumentResolver(
         parameter: MethodParameter,
         dfe: DataFetchingEnvironment,
     ): Any? {
-        val argumentName = getArgumentName(parameter) ?: return null
-        val value = dfe.getArgument<Any>(argumentName)
+        val binding = bindingCache[parameter] ?: bind(parameter)?.also { bindingCache[parameter] = it } ?: return null
+        return resolveArgument(binding, dfe)
+    }
+
+    /**
+     * Resolves everything about the given [parameter] that doesn't depend on the [DataFetchingEnvironment],
+     * so that it can be done once per data fetcher instead of once per invocation.
+     * Returns null if no argument name can be resolved for the [parameter].
+     */
+    internal fun bind(parameter: MethodParameter): InputArgumentBinding? {
+        val argumentName = resolveArgumentName(parameter) ?: return null
 
         val kfunc = parameter.method?.kotlinFunction
-        if (kfunc != null) {
-            val parameterIdx =
-                if (kfunc.parameters.first().kind == KParameter.Kind.INSTANCE) {
-                    parameter.parameterIndex + 1
-                } else {
-                    parameter.parameterIndex
-                }
-            val param = kfunc.parameters[parameterIdx]
-            if (param.type.arguments.isEmpty() && param.type.jvmErasure.isInstance(value)) {
-                return value
+        val kotlinType =
+            if (kfunc != null) {
+                val parameterIdx =
+                    if (kfunc.parameters.first().kind == KParameter.Kind.INSTANCE) {
+                        parameter.parameterIndex + 1
+                    } else {
+                        parameter.parameterIndex
+                    }
+                val param = kfunc.parameters[parameterIdx]
+                if (param.type.arguments.isEmpty()) param.type.jvmErasure else null
+            } else {
+                null
             }
+
+        return InputArgumentBinding(argumentName, TypeDescriptor(parameter), kotlinType)
+    }
+
+    internal fun resolveArgument(
+        binding: InputArgumentBinding,
+        dfe: DataFetchingEnvironment,
+    ): Any? {
+        val value = dfe.getArgument<Any>(binding.argumentName)
+
+        if (binding.kotlinType != null && binding.kotlinType.isInstance(value)) {
+            return value
         }
 
-        val typeDescriptor = TypeDescriptor(parameter)
-        val convertedValue = convertValue(value, typeDescriptor)
+        val convertedValue = convertValue(value, binding)
 
-        if (convertedValue == null && dfe.fieldDefinition.arguments.none { it.name == argumentName }) {
-            logger.warn(
-                "Unknown argument '{}'",
-                argumentName,
-            )
+        if (convertedValue == null) {
+            val fieldDefinition = dfe.fieldDefinition
+            if (binding.knownArgumentOf !== fieldDefinition) {
+                if (fieldDefinition.arguments.none { it.name == binding.argumentName }) {
+                    logger.warn(
+                        "Unknown argument '{}'",
+                        binding.argumentName,
+                    )
+                } else {
+                    binding.knownArgumentOf = fieldDefinition
+                }
+            }
         }
 
         return convertedValue
@@ -80,29 +113,103 @@ abstract class AbstractInputArgumentResolver(
 
     internal abstract fun resolveArgumentName(parameter: MethodParameter): String?
 
-    private fun getArgumentName(parameter: MethodParameter): String? {
-        val argumentName = argumentNameCache[parameter]
-        if (argumentName != null) {
-            return argumentName
-        }
-        val name = resolveArgumentName(parameter) ?: return null
-        argumentNameCache[parameter] = name
-        return name
-    }
-
     private fun convertValue(
         source: Any?,
-        target: TypeDescriptor,
+        binding: InputArgumentBinding,
     ): Any? {
-        if (target.resolvableType.isInstance(source)) {
+        val target = binding.typeDescriptor
+        if (binding.isInstance(source)) {
             return source
         }
 
-        val sourceType = TypeDescriptor.forObject(source)
-        if (conversionService.canConvert(sourceType, target)) {
-            return conversionService.convert(source, sourceType, target)
+        if (source == null) {
+            return conversionService.convert(null, null, target)
         }
 
-        throw DgsInvalidInputArgumentException("Unable to convert from ${source?.javaClass} to ${target.type}")
+        var conversion = binding.conversion
+        if (conversion == null || conversion.sourceClass !== source.javaClass) {
+            val sourceType = TypeDescriptor.forObject(source)!!
+            conversion = CachedConversion(source.javaClass, sourceType, conversionService.findConverter(sourceType, target))
+            binding.conversion = conversion
+        }
+
+        val converter =
+            conversion.converter
+                ?: throw DgsInvalidInputArgumentException("Unable to convert from ${source.javaClass} to ${target.type}")
+
+        return conversionService.convert(converter, source, conversion.sourceType, target)
+    }
+
+    /**
+     * [DefaultConversionService] that exposes the converter lookup, so that the converter for
+     * a given source and target type can be cached per argument.
+     */
+    private class InputArgumentConversionService : DefaultConversionService() {
+        fun findConverter(
+            sourceType: TypeDescriptor,
+            targetType: TypeDescriptor,
+        ): GenericConverter? = getConverter(sourceType, targetType)
+
+        /**
+         * Invokes the [converter] the same way [convert] would after looking it up.
+         */
+        fun convert(
+            converter: GenericConverter,
+            source: Any,
+            sourceType: TypeDescriptor,
+            targetType: TypeDescriptor,
+        ): Any? {
+            val result =
+                try {
+                    converter.convert(source, sourceType, targetType)
+                } catch (ex: ConversionFailedException) {
+                    throw ex
+                } catch (ex: Throwable) {
+                    throw ConversionFailedException(sourceType, targetType, source, ex)
+                }
+            if (result == null && targetType.isPrimitive) {
+                throw ConversionFailedException(
+                    sourceType,
+                    targetType,
+                    null,
+                    IllegalArgumentException("A null value cannot be assigned to a primitive type"),
+                )
+            }
+            return result
+        }
     }
 }
+
+/**
+ * The parts of an input argument that can be resolved ahead of time, see [AbstractInputArgumentResolver.bind].
+ *
+ * @property kotlinType the erased type of the Kotlin parameter, if values of that type can be passed through without conversion.
+ */
+internal class InputArgumentBinding(
+    val argumentName: String,
+    val typeDescriptor: TypeDescriptor,
+    val kotlinType: KClass<*>?,
+) {
+    private val rawType: Class<*>? = if (typeDescriptor.resolvableType.hasGenerics()) null else typeDescriptor.objectType
+
+    /**
+     * The last conversion used for this argument; arguments typically receive values of a single source type,
+     * so a single entry is enough to avoid repeated converter lookups.
+     */
+    @Volatile
+    var conversion: CachedConversion? = null
+
+    /**
+     * The last field definition that is known to declare this argument.
+     */
+    @Volatile
+    var knownArgumentOf: GraphQLFieldDefinition? = null
+
+    fun isInstance(value: Any?): Boolean = rawType?.isInstance(value) ?: typeDescriptor.resolvableType.isInstance(value)
+}
+
+internal class CachedConversion(
+    val sourceClass: Class<*>,
+    val sourceType: TypeDescriptor,
+    val converter: GenericConverter?,
+)
@@ -45,6 +45,19 @@ class ArgumentResolverComposite(
         return resolver.resolveArgument(parameter, dfe)
     }
 
+    /**
+     * Binds the given [parameter] to its resolver, so that it can be resolved without any further lookups.
+     * Returns null if none of the resolvers supports the parameter.
+     */
+    internal fun bind(parameter: MethodParameter): BoundArgument? {
+        val resolver = getArgumentResolver(parameter) ?: return null
+        if (resolver is AbstractInputArgumentResolver) {
+            val binding = resolver.bind(parameter) ?: return BoundArgument { null }
+            return BoundArgument { dfe -> resolver.resolveArgument(binding, dfe) }
+        }
+        return BoundArgument { dfe -> resolver.resolveArgument(parameter, dfe) }
+    }
+
     internal fun getArgumentResolver(parameter: MethodParameter): ArgumentResolver? {
         val cachedResolver = this.argumentResolverCache[parameter]
         if (cachedResolver != null) {
@@ -59,3 +72,10 @@ class ArgumentResolverComposite(
         return null
     }
 }
+
+/**
+ * A method parameter that is bound to the [ArgumentResolver] supporting it, see [ArgumentResolverComposite.bind].
+ */
+internal fun interface BoundArgument {
+    fun resolve(dfe: DataFetchingEnvironment): Any?
+}
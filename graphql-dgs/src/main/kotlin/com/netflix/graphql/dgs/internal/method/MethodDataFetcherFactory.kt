@@ -16,8 +16,13 @@
 
 package com.netflix.graphql.dgs.internal.method
 
+import com.netflix.graphql.dgs.DgsComponent
 import com.netflix.graphql.dgs.DgsData
+import com.netflix.graphql.dgs.DgsExecutorSelector
+import com.netflix.graphql.dgs.DgsPrefetch
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
 import com.netflix.graphql.dgs.internal.DataFetcherInvoker
+import com.netflix.graphql.dgs.internal.PrefetchingDataFetcher
 import graphql.TrivialDataFetcher
 import graphql.schema.DataFetcher
 import graphql.schema.DataFetchingEnvironment
@@ -27,8 +32,11 @@ import kotlinx.coroutines.Dispatchers
 import org.springframework.core.DefaultParameterNameDiscoverer
 import org.springframework.core.MethodParameter
 import org.springframework.core.ParameterNameDiscoverer
+import org.springframework.core.annotation.AnnotatedElementUtils
+import org.springframework.core.annotation.MergedAnnotation
 import org.springframework.core.annotation.MergedAnnotations
 import org.springframework.core.task.AsyncTaskExecutor
+import org.springframework.util.ClassUtils
 import java.lang.reflect.Method
 import kotlin.jvm.optionals.getOrNull
 
@@ -36,12 +44,21 @@ import kotlin.jvm.optionals.getOrNull
  * Factory for constructing a [DataFetcher] given a [DgsData] annotated method.
  *
  * Resolving of method arguments is handled by the supplied [argument resolvers][ArgumentResolver].
+ * Data fetchers that name an [executor][DgsData.executor] are run on the executor picked by the [DgsExecutorSelector].
+ * Suspend data fetchers run on the [coroutineDispatcher], unless their component names one of the
+ * [coroutineDispatchers] with [DgsComponent.coroutineDispatcher].
+ * Data fetchers that aren't explicitly marked as [trivial][DgsData.trivial] may still be classified as trivial
+ * by the [TrivialDataFetcherDetector], if one is configured.
+ * Data fetchers annotated with [DgsPrefetch] prefetch the declared data loader keys from their result.
  */
 class MethodDataFetcherFactory(
     argumentResolvers: List<ArgumentResolver>,
     internal val parameterNameDiscoverer: ParameterNameDiscoverer = DefaultParameterNameDiscoverer(),
     private val asyncTaskExecutor: AsyncTaskExecutor? = null,
     private val coroutineDispatcher: CoroutineDispatcher = Dispatchers.Unconfined,
+    private val executorSelector: DgsExecutorSelector? = null,
+    private val trivialDataFetcherDetector: TrivialDataFetcherDetector? = null,
+    private val coroutineDispatchers: Map<String, CoroutineDispatcher> = emptyMap(),
 ) {
     private val resolvers = ArgumentResolverComposite(argumentResolvers)
 
@@ -50,15 +67,29 @@ class MethodDataFetcherFactory(
         method: Method,
         fieldCoordinates: FieldCoordinates,
     ): DataFetcher<Any?> {
-        if (isTrivial(method, fieldCoordinates)) {
+        val annotation = findAnnotation(method, fieldCoordinates)
+        val executorName = annotation?.getString("executor").orEmpty()
+        val dispatcher = selectCoroutineDispatcher(bean, fieldCoordinates)
+        val trivial = annotation?.getBoolean("trivial") ?: false
+
+        if (trivial && executorName.isNotBlank()) {
+            throw InvalidDgsConfigurationException(
+                "Data fetcher $fieldCoordinates is marked as trivial and can't be routed to executor '$executorName'.",
+            )
+        }
+
+        if (trivial || isDetectedAsTrivial(bean, method, fieldCoordinates, executorName)) {
             val methodDataFetcher =
-                DataFetcherInvoker(
-                    dgsComponent = bean,
-                    method = method,
-                    resolvers = resolvers,
-                    parameterNameDiscoverer = parameterNameDiscoverer,
-                    taskExecutor = null,
-                    coroutineDispatcher = coroutineDispatcher,
+                withPrefetches(
+                    method,
+                    DataFetcherInvoker(
+                        dgsComponent = bean,
+                        method = method,
+                        resolvers = resolvers,
+                        parameterNameDiscoverer = parameterNameDiscoverer,
+                        taskExecutor = null,
+                        coroutineDispatcher = dispatcher,
+                    ),
                 )
             return object : TrivialDataFetcher<Any?> {
                 override fun get(environment: DataFetchingEnvironment): Any? = methodDataFetcher.get(environment)
@@ -67,32 +98,90 @@ class MethodDataFetcherFactory(
             }
         }
 
-        return DataFetcherInvoker(
-            dgsComponent = bean,
-            method = method,
-            resolvers = resolvers,
-            parameterNameDiscoverer = parameterNameDiscoverer,
-            taskExecutor = asyncTaskExecutor,
-            coroutineDispatcher = coroutineDispatcher,
+        return withPrefetches(
+            method,
+            DataFetcherInvoker(
+                dgsComponent = bean,
+                method = method,
+                resolvers = resolvers,
+                parameterNameDiscoverer = parameterNameDiscoverer,
+                taskExecutor = selectExecutor(method, fieldCoordinates, executorName),
+                coroutineDispatcher = dispatcher,
+            ),
         )
     }
 
+    /**
+     * Logs the data fetchers classified as trivial by the [TrivialDataFetcherDetector] since the last report.
+     */
+    internal fun reportTrivialDataFetchers() {
+        trivialDataFetcherDetector?.logReport()
+    }
+
     internal fun getSelectedArgumentResolver(methodParameter: MethodParameter): ArgumentResolver? =
         resolvers.getArgumentResolver(methodParameter)
 
-    private fun isTrivial(
+    private fun withPrefetches(
+        method: Method,
+        dataFetcher: DataFetcherInvoker,
+    ): DataFetcher<Any?> {
+        val prefetches = AnnotatedElementUtils.findMergedRepeatableAnnotations(method, DgsPrefetch::class.java)
+        return if (prefetches.isEmpty()) dataFetcher else PrefetchingDataFetcher(dataFetcher, prefetches.toList())
+    }
+
+    private fun isDetectedAsTrivial(
+        bean: Any,
         method: Method,
         coordinates: FieldCoordinates,
-    ): Boolean {
-        val annotation =
-            MergedAnnotations
-                .from(method)
-                .stream(DgsData::class.java)
-                .filter { annotation ->
-                    annotation.getString("parentType") == coordinates.typeName &&
-                        annotation.getString("field") == coordinates.fieldName
-                }.findFirst()
-                .getOrNull()
-        return annotation?.getBoolean("trivial") ?: false
+        executorName: String,
+    ): Boolean =
+        executorName.isBlank() &&
+            trivialDataFetcherDetector?.isTrivial(bean, method, coordinates) == true
+
+    private fun selectExecutor(
+        method: Method,
+        coordinates: FieldCoordinates,
+        executorName: String,
+    ): AsyncTaskExecutor? {
+        if (executorName.isBlank()) {
+            return asyncTaskExecutor
+        }
+        val selector =
+            executorSelector
+                ?: throw InvalidDgsConfigurationException(
+                    "Data fetcher $coordinates uses executor '$executorName', but no DgsExecutorSelector is configured.",
+                )
+        return selector.selectExecutor(method, coordinates, executorName) ?: asyncTaskExecutor
     }
+
+    private fun selectCoroutineDispatcher(
+        bean: Any,
+        coordinates: FieldCoordinates,
+    ): CoroutineDispatcher {
+        val dispatcherName =
+            AnnotatedElementUtils
+                .findMergedAnnotation(ClassUtils.getUserClass(bean), DgsComponent::class.java)
+                ?.coroutineDispatcher
+                .orEmpty()
+        if (dispatcherName.isBlank()) {
+            return coroutineDispatcher
+        }
+        return coroutineDispatchers[dispatcherName]
+            ?: throw InvalidDgsConfigurationException(
+                "Data fetcher $coordinates uses coroutine dispatcher '$dispatcherName', but no CoroutineDispatcher with that name exists.",
+            )
+    }
+
+    private fun findAnnotation(
+        method: Method,
+        coordinates: FieldCoordinates,
+    ): MergedAnnotation<DgsData>? =
+        MergedAnnotations
+            .from(method)
+            .stream(DgsData::class.java)
+            .filter { annotation ->
+                annotation.getString("parentType") == coordinates.typeName &&
+                    annotation.getString("field").ifEmpty { method.name } == coordinates.fieldName
+            }.findFirst()
+            .getOrNull()
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal.method
+
+import com.netflix.graphql.dgs.Source
+import graphql.schema.FieldCoordinates
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.aop.support.AopUtils
+import org.springframework.core.BridgeMethodResolver
+import java.lang.reflect.Method
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Future
+
+/**
+ * Classifies `@DgsData` methods that don't set `trivial` explicitly as [graphql.TrivialDataFetcher]s,
+ * so that they skip data fetcher instrumentation (metrics, tracing) and executor wrapping.
+ *
+ * A method is classified as trivial if it is declared in one of the allowlisted [packages], or, when [autoDetect]
+ * is enabled, if it looks like a simple getter: it takes no arguments, or only `@Source` arguments, and carries no
+ * annotations other than DGS and nullability annotations.
+ * In both cases the method must not return an asynchronous type, must not be a suspend function, and must not be
+ * declared on an AOP proxied bean, since advice such as `@Transactional` or `@Cacheable` may well do I/O.
+ *
+ * The classification happens once, when the data fetcher is created. Every classified method is listed
+ * in a report logged after the schema is wired; see [logReport].
+ */
+class TrivialDataFetcherDetector(
+    private val autoDetect: Boolean = true,
+    private val packages: List<String> = emptyList(),
+) {
+    private val classified = ConcurrentLinkedQueue<String>()
+
+    fun isTrivial(
+        bean: Any,
+        method: Method,
+        coordinates: FieldCoordinates,
+    ): Boolean {
+        val bridgedMethod = BridgeMethodResolver.findBridgedMethod(method)
+        if (AopUtils.isAopProxy(bean) || isAsync(bridgedMethod)) {
+            return false
+        }
+
+        val reason =
+            when {
+                isInAllowlistedPackage(bridgedMethod.declaringClass) -> "package allowlist"
+                autoDetect && isSimpleGetter(bridgedMethod) -> "simple getter"
+                else -> return false
+            }
+        classified.add("$coordinates -> ${bridgedMethod.declaringClass.name}#${bridgedMethod.name} ($reason)")
+        return true
+    }
+
+    /**
+     * Logs the data fetchers classified as trivial since the last report, and resets the report.
+     */
+    fun logReport() {
+        val entries = generateSequence { classified.poll() }.toList()
+        if (entries.isEmpty()) {
+            return
+        }
+        logger.info(
+            "Classified {} data fetchers as trivial:{}",
+            entries.size,
+            entries.sorted().joinToString(separator = "") { "\n  $it" },
+        )
+    }
+
+    private fun isInAllowlistedPackage(type: Class<*>): Boolean {
+        val packageName = type.packageName
+        return packages.any { packageName == it || packageName.startsWith("$it.") }
+    }
+
+    private fun isSimpleGetter(method: Method): Boolean =
+        method.parameters.all { it.isAnnotationPresent(Source::class.java) } &&
+            method.annotations.all { isAllowedAnnotation(it.annotationClass.java) }
+
+    private fun isAsync(method: Method): Boolean {
+        val returnType = method.returnType
+        return CompletionStage::class.java.isAssignableFrom(returnType) ||
+            Future::class.java.isAssignableFrom(returnType) ||
+            ASYNC_RETURN_TYPE_NAMES.any { isAssignableTo(returnType, it) } ||
+            method.parameterTypes.lastOrNull()?.name == CONTINUATION_TYPE_NAME
+    }
+
+    private fun isAssignableTo(
+        type: Class<*>,
+        typeName: String,
+    ): Boolean {
+        if (type.name == typeName) {
+            return true
+        }
+        return type.interfaces.any { isAssignableTo(it, typeName) } ||
+            type.superclass?.let { isAssignableTo(it, typeName) } ?: false
+    }
+
+    private fun isAllowedAnnotation(annotationType: Class<*>): Boolean {
+        val packageName = annotationType.packageName
+        return ALLOWED_ANNOTATION_PACKAGES.any { packageName == it || packageName.startsWith("$it.") }
+    }
+
+    companion object {
+        private val logger: Logger = LoggerFactory.getLogger(TrivialDataFetcherDetector::class.java)
+
+        private const val CONTINUATION_TYPE_NAME = "kotlin.coroutines.Continuation"
+
+        private val ASYNC_RETURN_TYPE_NAMES =
+            listOf(
+                "org.reactivestreams.Publisher",
+                "kotlinx.coroutines.flow.Flow",
+            )
+
+        private val ALLOWED_ANNOTATION_PACKAGES =
+            listOf(
+                "com.netflix.graphql.dgs",
+                "kotlin",
+                "org.jetbrains.annotations",
+                "org.jspecify.annotations",
+                "javax.annotation",
+                "jakarta.annotation",
+            )
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal.utils
+
+/**
+ * Helpers for calling the synthetic `$default` methods and constructors that the Kotlin compiler generates for
+ * functions with default parameter values. These take the regular parameters, followed by one bitmask
+ * per 32 parameters in which the bits of the omitted parameters are set, and a trailing marker argument.
+ */
+internal object KotlinDefaultsUtil {
+    /**
+     * The type of the trailing marker parameter of `$default` constructors.
+     */
+    val DEFAULT_CONSTRUCTOR_MARKER: Class<*> = Class.forName("kotlin.jvm.internal.DefaultConstructorMarker")
+
+    private val PRIMITIVE_PLACEHOLDERS: Map<Class<*>, Any> =
+        mapOf(
+            java.lang.Boolean.TYPE to false,
+            java.lang.Byte.TYPE to 0.toByte(),
+            java.lang.Short.TYPE to 0.toShort(),
+            java.lang.Character.TYPE to 0.toChar(),
+            java.lang.Integer.TYPE to 0,
+            java.lang.Long.TYPE to 0L,
+            java.lang.Float.TYPE to 0f,
+            java.lang.Double.TYPE to 0.0,
+        )
+
+    fun maskCount(parameterCount: Int): Int = (parameterCount + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+
+    fun maskTypes(parameterCount: Int): Array<Class<*>> = Array(maskCount(parameterCount)) { Integer.TYPE }
+
+    /**
+     * The value to pass for an omitted parameter of the given type; `null`, or zero for primitives.
+     */
+    fun placeholder(type: Class<*>): Any? = PRIMITIVE_PLACEHOLDERS[type]
+
+    /**
+     * Flags the parameter at [index] as omitted.
+     */
+    fun setOmitted(
+        masks: IntArray,
+        index: Int,
+    ) {
+        masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or (1 shl (index % Int.SIZE_BITS))
+    }
+}
@@ -17,32 +17,49 @@
 package com.netflix.graphql.dgs
 
 import com.netflix.graphql.dgs.context.DgsContext
-import com.netflix.graphql.dgs.internal.DataFetcherResultProcessor
+import com.netflix.graphql.dgs.context.ReactiveDgsContext
 import com.netflix.graphql.dgs.internal.DefaultInputObjectMapper
 import com.netflix.graphql.dgs.internal.DgsSchemaProvider
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
+import com.netflix.graphql.dgs.internal.RequestCoroutineScopeInstrumentation
 import com.netflix.graphql.dgs.internal.method.ContinuationArgumentResolver
 import com.netflix.graphql.dgs.internal.method.FallbackEnvironmentArgumentResolver
 import com.netflix.graphql.dgs.internal.method.InputArgumentResolver
 import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
 import graphql.ExecutionInput
+import graphql.ExecutionResult
 import graphql.GraphQL
+import graphql.GraphQLContext
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.FieldCoordinates
 import io.mockk.Runs
 import io.mockk.every
 import io.mockk.just
 import io.mockk.mockk
 import io.mockk.verify
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.awaitCancellation
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.delay
+import kotlinx.coroutines.isActive
 import kotlinx.coroutines.reactor.ReactorContext
 import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.data.Percentage
 import org.junit.jupiter.api.Test
+import org.reactivestreams.Publisher
 import org.springframework.context.support.GenericApplicationContext
-import reactor.core.publisher.Mono
+import reactor.core.publisher.Flux
 import reactor.util.context.Context
 import reactor.util.context.ContextView
+import java.time.Duration
 import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 import java.util.function.Consumer
+import kotlin.coroutines.Continuation
 import kotlin.system.measureTimeMillis
 
 class CoroutineDataFetcherTest {
@@ -62,20 +79,9 @@ class CoroutineDataFetcherTest {
                             FallbackEnvironmentArgumentResolver(DefaultInputObjectMapper()),
                         ),
                 ),
-            dataFetcherResultProcessors = listOf(stubDataFetcherResultProcessor),
         )
     }
 
-    private val stubDataFetcherResultProcessor =
-        object : DataFetcherResultProcessor {
-            override fun supportsType(originalResult: Any): Boolean = originalResult is Mono<*>
-
-            override fun process(
-                originalResult: Any,
-                dfe: DgsDataFetchingEnvironment,
-            ): Any = (originalResult as Mono<*>).contextWrite(Context.of("some-key", "some context value")).toFuture()
-        }
-
     @Test
     fun `Suspend functions should be supported as datafetchers`() {
         val stubContextConsumer = mockk<Consumer<ContextView?>>()
@@ -117,9 +123,10 @@ class CoroutineDataFetcherTest {
         val build = GraphQL.newGraphQL(schema).build()
 
         val context =
-            DgsContext(
+            ReactiveDgsContext(
                 null,
                 null,
+                Context.of("some-key", "some context value"),
             )
 
         val concurrentTime =
@@ -281,4 +288,135 @@ class CoroutineDataFetcherTest {
         assertThat(executionResult.errors[0].path).isEqualTo(listOf("result"))
         assertThat(executionResult.errors[0].message).isEqualTo("Exception while fetching data (/result) : Exception from coroutine")
     }
+
+    @Test
+    fun `Suspend functions are cancelled when the request completes`() {
+        val cancelled = CountDownLatch(1)
+
+        class Fetcher {
+            suspend fun waiting(): String {
+                try {
+                    awaitCancellation()
+                } finally {
+                    cancelled.countDown()
+                }
+            }
+        }
+
+        val dataFetcher =
+            MethodDataFetcherFactory(listOf(ContinuationArgumentResolver()))
+                .createDataFetcher(
+                    Fetcher(),
+                    Fetcher::class.java.getMethod("waiting", Continuation::class.java),
+                    FieldCoordinates.coordinates("Query", "waiting"),
+                )
+        val environment = environment()
+
+        val result = dataFetcher.get(environment) as CompletableFuture<*>
+        assertThat(result).isNotDone()
+
+        RequestCoroutineScope.cancel(environment.graphQlContext)
+
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue()
+        assertThat(result).isCompletedExceptionally()
+    }
+
+    @Test
+    fun `Suspend functions run on the coroutine dispatcher named by their component`() {
+        @DgsComponent(coroutineDispatcher = "custom")
+        class Fetcher {
+            suspend fun threadName(): String = Thread.currentThread().name
+        }
+
+        val executor = Executors.newSingleThreadExecutor { runnable -> Thread(runnable, "custom-dispatcher") }
+        try {
+            val dataFetcher =
+                MethodDataFetcherFactory(
+                    argumentResolvers = listOf(ContinuationArgumentResolver()),
+                    coroutineDispatchers = mapOf("custom" to executor.asCoroutineDispatcher()),
+                ).createDataFetcher(
+                    Fetcher(),
+                    Fetcher::class.java.getMethod("threadName", Continuation::class.java),
+                    FieldCoordinates.coordinates("Query", "threadName"),
+                )
+
+            val result = dataFetcher.get(environment()) as CompletableFuture<*>
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("custom-dispatcher")
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    @Test
+    fun `Suspend functions resolve subscription events after the request completes`() {
+        @DgsComponent
+        class Fetcher {
+            @DgsSubscription
+            fun ticks(): Publisher<Int> = Flux.just(1, 2, 3)
+
+            @DgsData(parentType = "Tick", field = "label")
+            suspend fun label(dfe: DgsDataFetchingEnvironment): String {
+                delay(10)
+                return "tick ${dfe.getSource<Int>()}"
+            }
+        }
+
+        context.beanFactory.registerSingleton("tickFetcher", Fetcher())
+        context.refresh()
+
+        val schema =
+            schemaProvider
+                .schema(
+                    """
+                    type Query {
+                        unused: String
+                    }
+
+                    type Subscription {
+                        ticks: Tick
+                    }
+
+                    type Tick {
+                        label: String
+                    }
+                    """.trimIndent(),
+                ).graphQLSchema
+
+        val build =
+            GraphQL
+                .newGraphQL(schema)
+                .instrumentation(RequestCoroutineScopeInstrumentation())
+                .build()
+
+        val executionInput =
+            ExecutionInput
+                .newExecutionInput()
+                .graphQLContext(DgsContext(null, null))
+                .query("subscription { ticks { label } }")
+                .build()
+        val executionResult = build.execute(executionInput)
+        // The request completes, and its scope would be cancelled, as soon as the stream of events is returned
+        RequestCoroutineScope.cancel(executionInput.graphQLContext)
+
+        val events =
+            Flux
+                .from(executionResult.getData<Publisher<ExecutionResult>>())
+                .map { it.getData<Map<String, Map<String, String>>>()["ticks"]?.get("label") }
+                .collectList()
+                .block(Duration.ofSeconds(5))
+
+        assertThat(events).containsExactly("tick 1", "tick 2", "tick 3")
+        assertThat(RequestCoroutineScope.from(executionInput.graphQLContext).isActive).isFalse()
+    }
+
+    private fun environment(): DataFetchingEnvironment =
+        DataFetchingEnvironmentImpl
+            .newDataFetchingEnvironment()
+            .graphQLContext(
+                GraphQLContext
+                    .newContext()
+                    .also { DgsContext(null, null).accept(it) }
+                    .build(),
+            ).build()
 }
@@ -18,27 +18,56 @@ package com.netflix.graphql.dgs
 
 import com.netflix.graphql.dgs.exceptions.DgsUnnamedDataLoaderOnFieldException
 import com.netflix.graphql.dgs.exceptions.InvalidDataLoaderTypeException
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
 import com.netflix.graphql.dgs.exceptions.MultipleDataLoadersDefinedException
+import com.netflix.graphql.dgs.internal.DefaultDataLoaderOptionsProvider
 import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderSharedCaches
 import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
 import com.netflix.graphql.dgs.internal.DgsWrapWithContextDataLoaderCustomizer
+import com.netflix.graphql.dgs.internal.LazyDataLoaderRegistry
+import com.netflix.graphql.dgs.internal.RequestCoroutineScope
+import graphql.ExecutionInput
+import graphql.GraphQL
+import graphql.GraphQLContext
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatchingContextKeys
 import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.idl.RuntimeWiring
+import graphql.schema.idl.SchemaGenerator
+import graphql.schema.idl.SchemaParser
+import kotlinx.coroutines.CoroutineName
+import kotlinx.coroutines.awaitCancellation
+import kotlinx.coroutines.currentCoroutineContext
 import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.dataloader.BatchLoader
+import org.dataloader.BatchLoaderEnvironment
 import org.dataloader.BatchLoaderWithContext
+import org.dataloader.BatchPublisher
+import org.dataloader.CacheMap
+import org.dataloader.DataLoaderFactory
+import org.dataloader.DataLoaderOptions
 import org.dataloader.DataLoaderRegistry
 import org.dataloader.MappedBatchLoader
 import org.dataloader.MappedBatchLoaderWithContext
+import org.dataloader.registries.ScheduledDataLoaderRegistry
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.assertThrows
+import org.reactivestreams.Subscriber
 import org.springframework.beans.factory.BeanCreationException
 import org.springframework.beans.factory.getBean
 import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import java.time.Duration
+import java.util.concurrent.CancellationException
 import java.util.concurrent.CompletableFuture
 import java.util.concurrent.CompletionStage
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 class DefaultDgsDataLoaderProviderTest {
     private val applicationContextRunner: ApplicationContextRunner =
@@ -190,6 +219,405 @@ class DefaultDgsDataLoaderProviderTest {
         }
     }
 
+    @Test
+    fun lazyRegistryCreatesDataLoadersOnFirstUse() {
+        applicationContextRunner
+            .withBean(ExampleBatchLoader::class.java)
+            .withBean(ExampleBatchLoaderWithDispatchPredicate::class.java)
+            .withBean(ExampleDataLoaderWithRegistry::class.java)
+            .run { context ->
+                val provider = DefaultDgsDataLoaderProvider(context, enableLazyRegistry = true)
+                provider.findDataLoaders()
+                val registry = provider.buildRegistry() as LazyDataLoaderRegistry
+
+                assertThat(registry.dataLoaders).isEmpty()
+                assertThat(registry.keys).containsExactlyInAnyOrder("exampleLoader", "exampleLoaderWithDispatch", "withRegistry")
+
+                val dataLoader = registry.getDataLoader<String, String>("withRegistry")
+                assertThat(dataLoader).isNotNull()
+                assertThat(registry.getDataLoader<String, String>("withRegistry")).isSameAs(dataLoader)
+                assertThat(registry.getDataLoader<String, String>("unknown")).isNull()
+                assertThat(registry.dataLoaders).hasSize(1)
+                assertThat(registry.materializedDataLoaderCount).isEqualTo(1)
+
+                val load = dataLoader!!.load("")
+                registry.dispatchAll()
+                assertThat(load.get()).containsExactlyInAnyOrderElementsOf(registry.keys)
+                registry.close()
+            }
+    }
+
+    @Test
+    fun lazyRegistryDispatchesDataLoadersRegisteredAndRetrieved() {
+        applicationContextRunner
+            .withBean(ExampleBatchLoader::class.java)
+            .run { context ->
+                val provider = DefaultDgsDataLoaderProvider(context, enableLazyRegistry = true)
+                provider.findDataLoaders()
+                val registry = provider.buildRegistry() as LazyDataLoaderRegistry
+
+                val dataLoader =
+                    registry.registerAndGet<String, String>(
+                        "registered",
+                        DataLoaderFactory.newDataLoader(BatchLoader<String, String> { keys -> CompletableFuture.completedFuture(keys) }),
+                    )
+                assertThat(registry.getDataLoader<String, String>("registered")).isSameAs(dataLoader)
+
+                val load = dataLoader.load("a")
+                registry.dispatchAll()
+                assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("a")
+                registry.close()
+            }
+    }
+
+    @Test
+    fun coalescesBatchesAcrossRequests() {
+        applicationContextRunner
+            .withBean(ExampleCoalescingBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val firstRequest = provider.buildRegistry()
+                val secondRequest = provider.buildRegistry()
+
+                val first = firstRequest.getDataLoader<String, String>("coalescing")!!.loadMany(listOf("a", "b"))
+                val second = secondRequest.getDataLoader<String, String>("coalescing")!!.loadMany(listOf("b", "c"))
+                firstRequest.dispatchAll()
+                secondRequest.dispatchAll()
+
+                assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("A", "B")
+                assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("B", "C")
+                assertThat(context.getBean<ExampleCoalescingBatchLoader>().batches).containsExactly(listOf("a", "b", "c"))
+            }
+    }
+
+    @Test
+    fun rejectsCoalescingBatchLoadersWithContext() {
+        applicationContextRunner
+            .withBean(ExampleCoalescingBatchLoaderWithContext::class.java)
+            .run { context ->
+                val exc =
+                    assertThrows<IllegalStateException> {
+                        context.getBean<DgsDataLoaderProvider>()
+                    }
+                assertThat(exc.cause)
+                    .isInstanceOf(BeanCreationException::class.java)
+                    .rootCause()
+                    .isInstanceOf(InvalidDgsConfigurationException::class.java)
+                    .hasMessageContaining("coalescingWithContext")
+            }
+    }
+
+    @Test
+    fun coalescesSuspendBatchLoadersAcrossRequests() {
+        applicationContextRunner
+            .withBean(ExampleCoalescingSuspendBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val firstRequest = provider.buildRegistryWithContextSupplier { GraphQLContext.getDefault() }
+                val secondRequest = provider.buildRegistryWithContextSupplier { GraphQLContext.getDefault() }
+
+                val first = firstRequest.getDataLoader<String, String>("coalescingSuspend")!!.loadMany(listOf("a", "b"))
+                val second = secondRequest.getDataLoader<String, String>("coalescingSuspend")!!.loadMany(listOf("b", "c"))
+                firstRequest.dispatchAll()
+                secondRequest.dispatchAll()
+
+                assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("A", "B")
+                assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("B", "C")
+                assertThat(context.getBean<ExampleCoalescingSuspendBatchLoader>().batches).containsExactly(listOf("a", "b", "c"))
+            }
+    }
+
+    @Test
+    fun failsCoalescedLoadsIfTheBatchLoaderReturnsNull() {
+        applicationContextRunner
+            .withBean(ExampleCoalescingNullBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val request = provider.buildRegistry()
+
+                val result = request.getDataLoader<String, String>("coalescingNull")!!.load("a")
+                request.dispatchAll()
+
+                assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }
+                    .hasCauseInstanceOf(IllegalStateException::class.java)
+                    .hasMessageContaining("coalescingNull")
+            }
+    }
+
+    @Test
+    fun sharesCachedValuesAcrossRequests() {
+        applicationContextRunner
+            .withBean(ExampleSharedCacheBatchLoader::class.java)
+            .run { context ->
+                val sharedCaches = DefaultDgsDataLoaderSharedCaches()
+                val provider =
+                    DefaultDgsDataLoaderProvider(context, dataLoaderOptionsProvider = DefaultDataLoaderOptionsProvider(sharedCaches))
+                provider.findDataLoaders()
+                val batches = context.getBean<ExampleSharedCacheBatchLoader>().batches
+
+                val firstRequest = provider.buildRegistry()
+                val first = firstRequest.getDataLoader<String, String?>("sharedCache")!!.loadMany(listOf("a", "missing"))
+                firstRequest.dispatchAll()
+                assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("A", null)
+
+                val secondRequest = provider.buildRegistry()
+                val second = secondRequest.getDataLoader<String, String?>("sharedCache")!!.loadMany(listOf("a", "missing"))
+                secondRequest.dispatchAll()
+                assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("A", null)
+                assertThat(batches).containsExactly(setOf("a", "missing"))
+
+                assertThat(sharedCaches.dataLoaderNames()).containsExactly("sharedCache")
+                sharedCaches.invalidate("sharedCache", "a")
+                val thirdRequest = provider.buildRegistry()
+                val third = thirdRequest.getDataLoader<String, String?>("sharedCache")!!.loadMany(listOf("a", "missing"))
+                thirdRequest.dispatchAll()
+                assertThat(third.get(5, TimeUnit.SECONDS)).containsExactly("A", null)
+                assertThat(batches).containsExactly(setOf("a", "missing"), setOf("a"))
+            }
+    }
+
+    @Test
+    fun clearingARequestDataLoaderKeepsTheSharedCache() {
+        applicationContextRunner
+            .withBean(ExampleSharedCacheBatchLoader::class.java)
+            .run { context ->
+                val provider =
+                    DefaultDgsDataLoaderProvider(
+                        context,
+                        dataLoaderOptionsProvider = DefaultDataLoaderOptionsProvider(DefaultDgsDataLoaderSharedCaches()),
+                    )
+                provider.findDataLoaders()
+                val batches = context.getBean<ExampleSharedCacheBatchLoader>().batches
+
+                val firstRequest = provider.buildRegistry()
+                val firstLoader = firstRequest.getDataLoader<String, String?>("sharedCache")!!
+                val first = firstLoader.load("a")
+                firstRequest.dispatchAll()
+                assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A")
+                firstLoader.clear("a")
+                firstLoader.clearAll()
+
+                val secondRequest = provider.buildRegistry()
+                val second = secondRequest.getDataLoader<String, String?>("sharedCache")!!.load("a")
+                secondRequest.dispatchAll()
+                assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("A")
+                assertThat(batches).containsExactly(setOf("a"))
+            }
+    }
+
+    @Test
+    fun callsCustomOptionsProvidersForEveryRequest() {
+        applicationContextRunner
+            .withBean(ExampleBatchLoader::class.java)
+            .run { context ->
+                val cacheMaps = CopyOnWriteArrayList<CacheMap<*, *>>()
+                val provider =
+                    DefaultDgsDataLoaderProvider(
+                        context,
+                        dataLoaderOptionsProvider = { _, _ ->
+                            DataLoaderOptions.newOptions().setCacheMap(CacheMap.simpleMap<Any, Any>().also { cacheMaps.add(it) })
+                        },
+                    )
+                provider.findDataLoaders()
+
+                val first = provider.buildRegistry().getDataLoader<String, String>("exampleLoader")!!
+                val second = provider.buildRegistry().getDataLoader<String, String>("exampleLoader")!!
+
+                assertThat(first.cacheMap).isNotSameAs(second.cacheMap)
+                assertThat(cacheMaps).hasSizeGreaterThanOrEqualTo(2).contains(first.cacheMap, second.cacheMap)
+            }
+    }
+
+    @Test
+    fun levelAwareDispatchDispatchesChainedDataLoaders() {
+        applicationContextRunner
+            .withBean(ExampleChainedBatchLoader::class.java)
+            .run { context ->
+                // Neither ticker mode nor the safety net can dispatch the chained loads within the test timeout.
+                val provider =
+                    DefaultDgsDataLoaderProvider(
+                        context,
+                        enableLevelAwareDispatch = true,
+                        levelAwareSafetyNetDuration = Duration.ofHours(1),
+                    )
+                provider.findDataLoaders()
+                val schema =
+                    SchemaGenerator().makeExecutableSchema(
+                        SchemaParser().parse("type Query { greeting(name: String!): String }"),
+                        RuntimeWiring
+                            .newRuntimeWiring()
+                            .type("Query") { builder ->
+                                builder.dataFetcher("greeting") { env ->
+                                    val dataLoader = env.getDataLoader<String, String>("chained")!!
+                                    dataLoader.load(env.getArgument<String>("name")!!).thenCompose { dataLoader.load(it) }
+                                }
+                            }.build(),
+                    )
+                val registry = provider.buildRegistry()
+                val input =
+                    ExecutionInput
+                        .newExecutionInput("{ a: greeting(name: \"a\") b: greeting(name: \"b\") }")
+                        .dataLoaderRegistry(registry)
+                        .graphQLContext(mapOf(DataLoaderDispatchingContextKeys.ENABLE_DATA_LOADER_CHAINING to true))
+                        .build()
+
+                val result = GraphQL.newGraphQL(schema).build().executeAsync(input).get(5, TimeUnit.SECONDS)
+
+                assertThat(result.errors).isEmpty()
+                assertThat(result.getData<Map<String, String>>()).containsEntry("a", "A!!").containsEntry("b", "B!!")
+                assertThat(context.getBean<ExampleChainedBatchLoader>().batches)
+                    .containsExactly(listOf("a", "b"), listOf("A!", "B!"))
+                (registry as ScheduledDataLoaderRegistry).close()
+            }
+    }
+
+    @Test
+    fun fansOutOversizedBatchesInParallel() {
+        applicationContextRunner
+            .withBean(ExampleFanOutBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val registry = provider.buildRegistry()
+
+                val result = registry.getDataLoader<String, String>("fanOut")!!.loadMany(listOf("a", "b", "c", "d", "e"))
+                registry.dispatchAll()
+
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("A", "B", "C", "D", "E")
+                val batchLoader = context.getBean<ExampleFanOutBatchLoader>()
+                assertThat(batchLoader.batches).containsExactlyInAnyOrder(listOf("a", "b"), listOf("c", "d"), listOf("e"))
+                assertThat(batchLoader.maxInFlight.get()).isLessThanOrEqualTo(2)
+            }
+    }
+
+    @Test
+    fun fansOutOversizedMappedBatches() {
+        applicationContextRunner
+            .withBean(ExampleFanOutMappedBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val registry = provider.buildRegistry()
+
+                val result = registry.getDataLoader<String, String>("fanOutMapped")!!.loadMany(listOf("a", "b", "c"))
+                registry.dispatchAll()
+
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("A", "B", "C")
+                assertThat(context.getBean<ExampleFanOutMappedBatchLoader>().batches).hasSize(3)
+            }
+    }
+
+    @Test
+    fun completesBatchPublisherKeysAsTheirValuesArrive() {
+        applicationContextRunner
+            .withBean(ExampleBatchPublisher::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val registry = provider.buildRegistry()
+
+                val dataLoader = registry.getDataLoader<String, String>("batchPublisher")!!
+                val fast = dataLoader.load("fast")
+                val slow = dataLoader.load("slow")
+                registry.dispatchAll()
+
+                assertThat(fast.get(5, TimeUnit.SECONDS)).isEqualTo("FAST")
+                assertThat(slow).isNotDone
+                context.getBean<ExampleBatchPublisher>().release.complete("slow")
+                assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("SLOW")
+            }
+    }
+
+    @Test
+    fun runsSuspendBatchLoadersInTheRequestScope() {
+        applicationContextRunner
+            .withBean(ExampleSuspendBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val graphQLContext = GraphQLContext.getDefault()
+                val registry = provider.buildRegistryWithContextSupplier { graphQLContext }
+
+                val result = registry.getDataLoader<String, String>("suspend")!!.loadMany(listOf("a", "b"))
+                registry.dispatchAll()
+
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("dgs-request:A", "dgs-request:B")
+            }
+    }
+
+    @Test
+    fun cancelsSuspendBatchLoadersWithTheRequest() {
+        applicationContextRunner
+            .withBean(ExampleSuspendMappedBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val graphQLContext = GraphQLContext.getDefault()
+                val registry = provider.buildRegistryWithContextSupplier { graphQLContext }
+
+                val result = registry.getDataLoader<String, String>("suspendMapped")!!.load("a")
+                registry.dispatchAll()
+                RequestCoroutineScope.cancel(graphQLContext)
+
+                assertThat(context.getBean<ExampleSuspendMappedBatchLoader>().cancelled.get(5, TimeUnit.SECONDS)).isTrue()
+                assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }.hasCauseInstanceOf(CancellationException::class.java)
+            }
+    }
+
+    @Test
+    fun registryConsumersUseTheRegistryOfTheRequestTheyLoadFor() {
+        applicationContextRunner
+            .withBean(ExampleRequestRegistryConsumer::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val first = provider.buildRegistry()
+                val second = provider.buildRegistry()
+
+                val firstResult = first.getDataLoader<String, Any>("requestRegistry")!!.load("a")
+                val secondResult = second.getDataLoader<String, Any>("requestRegistry")!!.load("a")
+                second.dispatchAll()
+                first.dispatchAll()
+
+                assertThat(firstResult.get(5, TimeUnit.SECONDS)).isSameAs(first.getDataLoader<String, Any>("requestRegistry"))
+                assertThat(secondResult.get(5, TimeUnit.SECONDS)).isSameAs(second.getDataLoader<String, Any>("requestRegistry"))
+                assertThat(context.getBean<ExampleRequestRegistryConsumer>().registrySet.get()).isEqualTo(1)
+            }
+    }
+
+    @Test
+    fun registryConsumersUseTheRegistryAsynchronously() {
+        applicationContextRunner
+            .withBean(ExampleAsyncRequestRegistryConsumer::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val first = provider.buildRegistry()
+                val second = provider.buildRegistry()
+                val consumer = context.getBean<ExampleAsyncRequestRegistryConsumer>()
+
+                val firstResult = first.getDataLoader<String, Any>("asyncRequestRegistry")!!.load("a")
+                first.dispatchAll()
+                consumer.release.complete(Unit)
+                assertThat(firstResult.get(5, TimeUnit.SECONDS)).isSameAs(first.getDataLoader<String, Any>("asyncRequestRegistry"))
+
+                val secondResult = second.getDataLoader<String, Any>("asyncRequestRegistry")!!.load("a")
+                second.dispatchAll()
+                assertThat(secondResult.get(5, TimeUnit.SECONDS)).isSameAs(second.getDataLoader<String, Any>("asyncRequestRegistry"))
+            }
+    }
+
+    @Test
+    fun batchLoadersFindTheRegistryOfTheirRequestInTheEnvironment() {
+        applicationContextRunner
+            .withBean(ExampleRequestRegistryBatchLoader::class.java)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val graphQLContext = GraphQLContext.getDefault()
+                val registry = provider.buildRegistryWithContextSupplier { graphQLContext }
+
+                val dataLoader = registry.getDataLoader<String, Any>("requestRegistryWithContext")!!
+                val result = dataLoader.load("a")
+                registry.dispatchAll()
+
+                assertThat(DgsDataLoaderRegistries.from(graphQLContext)).isSameAs(registry)
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(dataLoader)
+            }
+    }
+
     @Nested
     inner class UnnamedBatchLoaderTests {
         @Test
@@ -308,4 +736,173 @@ class DefaultDgsDataLoaderProviderTest {
 
         override fun load(keys: List<String>): CompletionStage<List<String>> = CompletableFuture.completedFuture(registry.keys.toList())
     }
+
+    @DgsDataLoader(name = "coalescing", coalesceAcrossRequests = true, coalesceWindowMillis = 10_000, coalesceMaxBatchSize = 3)
+    class ExampleCoalescingBatchLoader : BatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<List<String>>()
+
+        override fun load(keys: List<String>): CompletionStage<List<String>> {
+            batches.add(keys)
+            return CompletableFuture.completedFuture(keys.map { it.uppercase() })
+        }
+    }
+
+    @DgsDataLoader(name = "sharedCache", sharedCache = DgsDataLoaderSharedCache(negativeTtlMillis = 60_000))
+    class ExampleSharedCacheBatchLoader : MappedBatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<Set<String>>()
+
+        override fun load(keys: Set<String>): CompletionStage<Map<String, String>> {
+            batches.add(keys)
+            return CompletableFuture.completedFuture(keys.filter { it != "missing" }.associateWith { it.uppercase() })
+        }
+    }
+
+    @DgsDataLoader(name = "chained")
+    class ExampleChainedBatchLoader : BatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<List<String>>()
+
+        override fun load(keys: List<String>): CompletionStage<List<String>> {
+            batches.add(keys)
+            return CompletableFuture.supplyAsync { keys.map { "${it.uppercase()}!" } }
+        }
+    }
+
+    @DgsDataLoader(name = "fanOut", fanOutBatchSize = 2, fanOutConcurrency = 2)
+    class ExampleFanOutBatchLoader : BatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<List<String>>()
+        val maxInFlight = AtomicInteger()
+        private val inFlight = AtomicInteger()
+
+        override fun load(keys: List<String>): CompletionStage<List<String>> {
+            batches.add(keys)
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet()) { current, value -> maxOf(current, value) }
+            return CompletableFuture.supplyAsync {
+                Thread.sleep(20)
+                inFlight.decrementAndGet()
+                keys.map { it.uppercase() }
+            }
+        }
+    }
+
+    @DgsDataLoader(name = "fanOutMapped", fanOutBatchSize = 1)
+    class ExampleFanOutMappedBatchLoader : MappedBatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<Set<String>>()
+
+        override fun load(keys: Set<String>): CompletionStage<Map<String, String>> {
+            batches.add(keys)
+            return CompletableFuture.supplyAsync { keys.associateWith { it.uppercase() } }
+        }
+    }
+
+    @DgsDataLoader(name = "batchPublisher")
+    class ExampleBatchPublisher : BatchPublisher<String, String> {
+        val release = CompletableFuture<String>()
+
+        override fun load(
+            keys: List<String>,
+            subscriber: Subscriber<String>,
+        ) {
+            Flux
+                .fromIterable(keys)
+                .concatMap { key -> if (key == "slow") Mono.fromFuture(release) else Mono.just(key) }
+                .map { it.uppercase() }
+                .subscribe(subscriber)
+        }
+    }
+
+    @DgsDataLoader(name = "suspend")
+    class ExampleSuspendBatchLoader : SuspendBatchLoader<String, String> {
+        override suspend fun load(
+            keys: List<String>,
+            environment: BatchLoaderEnvironment,
+        ): List<String> {
+            val scopeName = currentCoroutineContext()[CoroutineName]?.name
+            return keys.map { "$scopeName:${it.uppercase()}" }
+        }
+    }
+
+    @DgsDataLoader(name = "coalescingSuspend", coalesceAcrossRequests = true, coalesceWindowMillis = 10_000, coalesceMaxBatchSize = 3)
+    class ExampleCoalescingSuspendBatchLoader : SuspendBatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<List<String>>()
+
+        override suspend fun load(
+            keys: List<String>,
+            environment: BatchLoaderEnvironment,
+        ): List<String> {
+            batches.add(keys)
+            return keys.map { it.uppercase() }
+        }
+    }
+
+    @DgsDataLoader(name = "suspendMapped")
+    class ExampleSuspendMappedBatchLoader : SuspendMappedBatchLoader<String, String> {
+        val cancelled = CompletableFuture<Boolean>()
+
+        override suspend fun load(
+            keys: Set<String>,
+            environment: BatchLoaderEnvironment,
+        ): Map<String, String> {
+            try {
+                awaitCancellation()
+            } finally {
+                cancelled.complete(true)
+            }
+        }
+    }
+
+    @DgsDataLoader(name = "coalescingWithContext", coalesceAcrossRequests = true)
+    class ExampleCoalescingBatchLoaderWithContext : BatchLoaderWithContext<String, String> {
+        override fun load(
+            keys: List<String>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<List<String>> = CompletableFuture.completedFuture(keys.map { "${environment.getContext<String>()}:$it" })
+    }
+
+    @DgsDataLoader(name = "coalescingNull", coalesceAcrossRequests = true)
+    class ExampleCoalescingNullBatchLoader : MappedBatchLoader<String, String> {
+        override fun load(keys: Set<String>): CompletionStage<Map<String, String>> = CompletableFuture.completedFuture(null)
+    }
+
+    @DgsDataLoader(name = "requestRegistry")
+    class ExampleRequestRegistryConsumer :
+        BatchLoader<String, Any>,
+        DgsDataLoaderRegistryConsumer {
+        val registrySet = AtomicInteger()
+        private lateinit var registry: DataLoaderRegistry
+
+        override fun setDataLoaderRegistry(dataLoaderRegistry: DataLoaderRegistry) {
+            registrySet.incrementAndGet()
+            registry = dataLoaderRegistry
+        }
+
+        override fun load(keys: List<String>): CompletionStage<List<Any>> =
+            CompletableFuture.completedFuture(keys.map { registry.getDataLoader<String, Any>("requestRegistry")!! })
+    }
+
+    @DgsDataLoader(name = "asyncRequestRegistry")
+    class ExampleAsyncRequestRegistryConsumer :
+        BatchLoader<String, Any>,
+        DgsDataLoaderRegistryConsumer {
+        private lateinit var registry: DataLoaderRegistry
+
+        override fun setDataLoaderRegistry(dataLoaderRegistry: DataLoaderRegistry) {
+            registry = dataLoaderRegistry
+        }
+
+        val release = CompletableFuture<Unit>()
+
+        override fun load(keys: List<String>): CompletionStage<List<Any>> =
+            release.thenApplyAsync { keys.map { registry.getDataLoader<String, Any>("asyncRequestRegistry")!! } }
+    }
+
+    @DgsDataLoader(name = "requestRegistryWithContext")
+    class ExampleRequestRegistryBatchLoader : BatchLoaderWithContext<String, Any> {
+        override fun load(
+            keys: List<String>,
+            environment: BatchLoaderEnvironment,
+        ): CompletionStage<List<Any>> {
+            val registry = DgsDataLoaderRegistries.from(environment) ?: throw IllegalStateException("No registry")
+            return CompletableFuture.completedFuture(keys.map { registry.getDataLoader<String, Any>("requestRegistryWithContext")!! })
+        }
+    }
 }
@@ -22,9 +22,14 @@ import com.netflix.graphql.dgs.internal.DgsDataLoaderProvider
 import com.netflix.graphql.dgs.internal.DgsWrapWithContextDataLoaderCustomizer
 import org.assertj.core.api.Assertions.assertThat
 import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.MappedBatchPublisher
 import org.junit.jupiter.api.Test
+import org.reactivestreams.Subscriber
 import org.springframework.beans.factory.getBean
 import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import reactor.core.publisher.Flux
+import java.util.AbstractMap
+import java.util.concurrent.TimeUnit
 import java.util.concurrent.atomic.AtomicInteger
 
 /*
@@ -164,6 +169,45 @@ class DgsDataLoaderInstrumentationTest {
             }
     }
 
+    @Test
+    fun instrumentationIsCalledOnceBatchPublishersComplete() {
+        val beforeCounter = AtomicInteger(0)
+        val afterCounter = AtomicInteger(0)
+        val exceptionCounter = AtomicInteger(0)
+
+        applicationContextRunner
+            .withBean(ExampleMappedBatchPublisher::class.java)
+            .withBean(DgsWrapWithContextDataLoaderCustomizer::class.java)
+            .withBean(DgsDataLoaderInstrumentationDataLoaderCustomizer::class.java)
+            .withBean(TestDataLoaderInstrumentation::class.java, beforeCounter, afterCounter, exceptionCounter)
+            .run { context ->
+                val provider = context.getBean<DgsDataLoaderProvider>()
+                val dataLoaderRegistry = provider.buildRegistry()
+
+                val dataLoader = dataLoaderRegistry.getDataLoader<String, String>("exampleMappedBatchPublisher")
+                val result = dataLoader!!.loadMany(listOf("a", "b"))
+                dataLoader.dispatch()
+
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly("A", "B")
+                assertThat(beforeCounter.get()).isEqualTo(1)
+                assertThat(afterCounter.get()).isEqualTo(1)
+                assertThat(exceptionCounter.get()).isEqualTo(0)
+            }
+    }
+
+    @DgsDataLoader(name = "exampleMappedBatchPublisher")
+    class ExampleMappedBatchPublisher : MappedBatchPublisher<String, String> {
+        override fun load(
+            keys: Set<String>,
+            subscriber: Subscriber<Map.Entry<String, String>>,
+        ) {
+            Flux
+                .fromIterable(keys)
+                .map<Map.Entry<String, String>> { AbstractMap.SimpleImmutableEntry(it, it.uppercase()) }
+                .subscribe(subscriber)
+        }
+    }
+
     class TestDataLoaderInstrumentation(
         private val beforeCounter: AtomicInteger,
         private val afterCounter: AtomicInteger,
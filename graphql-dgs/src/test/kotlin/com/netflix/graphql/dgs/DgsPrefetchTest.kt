@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs
+
+import com.netflix.graphql.dgs.internal.DefaultDgsDataLoaderProvider
+import com.netflix.graphql.dgs.internal.DgsSchemaProvider
+import com.netflix.graphql.dgs.internal.method.DataFetchingEnvironmentArgumentResolver
+import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import graphql.ExecutionInput
+import graphql.ExecutionResult
+import graphql.GraphQL
+import org.assertj.core.api.Assertions.assertThat
+import org.dataloader.BatchLoader
+import org.junit.jupiter.api.Test
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext
+import org.springframework.boot.test.context.runner.ApplicationContextRunner
+import java.util.Optional
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.CopyOnWriteArrayList
+
+internal class DgsPrefetchTest {
+    private val contextRunner =
+        ApplicationContextRunner()
+            .withBean(ShowsFetcher::class.java)
+            .withBean(ReviewsLoader::class.java)
+            .withBean(AuthorsLoader::class.java)
+
+    @Test
+    fun `prefetches the keys of nested fields when the parent data fetcher returns`() {
+        contextRunner.run { context ->
+            val result = execute(context, "{ shows { reviews { author } } }")
+
+            assertThat(result.errors).isEmpty()
+            assertThat(result.getData<Map<String, Any>>()).isEqualTo(
+                mapOf(
+                    "shows" to
+                        listOf(
+                            mapOf("reviews" to listOf(mapOf("author" to "A"), mapOf("author" to "B"))),
+                            mapOf("reviews" to listOf(mapOf("author" to "C"))),
+                        ),
+                ),
+            )
+            assertThat(context.getBean(AuthorsLoader::class.java).batches).containsExactly(listOf("a", "b", "c"))
+            // The authors were dispatched together with the reviews, before the author data fetchers ran.
+            assertThat(context.getBean(ShowsFetcher::class.java).alreadyLoaded).containsOnly(true).hasSize(3)
+        }
+    }
+
+    @Test
+    fun `skips the prefetch when the field is not selected`() {
+        contextRunner.run { context ->
+            val result = execute(context, "{ shows { title } }")
+
+            assertThat(result.errors).isEmpty()
+            assertThat(context.getBean(AuthorsLoader::class.java).batches).isEmpty()
+        }
+    }
+
+    private fun execute(
+        context: AssertableApplicationContext,
+        query: String,
+    ): ExecutionResult {
+        val provider = DefaultDgsDataLoaderProvider(context)
+        provider.findDataLoaders()
+        val schemaProvider =
+            DgsSchemaProvider(
+                applicationContext = context,
+                federationResolver = Optional.empty(),
+                existingTypeDefinitionRegistry = Optional.empty(),
+                methodDataFetcherFactory = MethodDataFetcherFactory(listOf(DataFetchingEnvironmentArgumentResolver(context))),
+            )
+        val schema =
+            schemaProvider
+                .schema(
+                    """
+                    type Query {
+                      shows: [Show]
+                    }
+
+                    type Show {
+                      id: ID
+                      title: String
+                      reviews: [Review]
+                    }
+
+                    type Review {
+                      author: String
+                    }
+                    """.trimIndent(),
+                ).graphQLSchema
+        val executionInput =
+            ExecutionInput
+                .newExecutionInput()
+                .query(query)
+                .dataLoaderRegistry(provider.buildRegistry())
+                .build()
+        return GraphQL.newGraphQL(schema).build().execute(executionInput)
+    }
+
+    data class Show(
+        val id: String,
+        val title: String,
+        val authorIds: List<String>,
+    )
+
+    data class Review(
+        val authorId: String,
+    )
+
+    @DgsComponent
+    class ShowsFetcher(
+        private val authorsLoader: AuthorsLoader,
+    ) {
+        val alreadyLoaded = CopyOnWriteArrayList<Boolean>()
+
+        @DgsQuery
+        @DgsPrefetch(field = "reviews/author", dataLoader = "authors", key = "authorIds")
+        fun shows(): List<Show> = listOf(Show("1", "Stranger Things", listOf("a", "b")), Show("2", "Ozark", listOf("c")))
+
+        @DgsData(parentType = "Show")
+        fun reviews(dfe: DgsDataFetchingEnvironment): CompletableFuture<List<Review>> =
+            dfe.getDataLoader<String, List<Review>>("reviews")!!.load(dfe.getSourceOrThrow<Show>().id)
+
+        @DgsData(parentType = "Review")
+        fun author(dfe: DgsDataFetchingEnvironment): CompletableFuture<String> {
+            val authorId = dfe.getSourceOrThrow<Review>().authorId
+            alreadyLoaded.add(authorsLoader.batches.any { authorId in it })
+            return dfe.getDataLoader<String, String>("authors")!!.load(authorId)
+        }
+    }
+
+    @DgsDataLoader(name = "reviews")
+    class ReviewsLoader : BatchLoader<String, List<Review>> {
+        private val reviews = mapOf("1" to listOf(Review("a"), Review("b")), "2" to listOf(Review("c")))
+
+        override fun load(keys: List<String>): CompletionStage<List<List<Review>>> =
+            CompletableFuture.completedFuture(keys.map { reviews.getValue(it) })
+    }
+
+    @DgsDataLoader(name = "authors")
+    class AuthorsLoader : BatchLoader<String, String> {
+        val batches = CopyOnWriteArrayList<List<String>>()
+
+        override fun load(keys: List<String>): CompletionStage<List<String>> {
+            batches.add(keys.toList())
+            return CompletableFuture.completedFuture(keys.map { it.uppercase() })
+        }
+    }
+}
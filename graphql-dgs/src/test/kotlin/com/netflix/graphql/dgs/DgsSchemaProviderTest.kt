@@ -40,6 +40,7 @@ import graphql.schema.GraphQLScalarType
 import graphql.schema.TypeResolver
 import graphql.schema.idl.RuntimeWiring
 import graphql.schema.idl.TypeDefinitionRegistry
+import graphql.schema.idl.errors.SchemaProblem
 import graphql.schema.idl.errors.StrictModeWiringException
 import org.assertj.core.api.Assertions.assertThat
 import org.assertj.core.api.Assertions.assertThatNoException
@@ -1045,6 +1046,40 @@ internal class DgsSchemaProviderTest {
         }
     }
 
+    @Test
+    fun `Schema provider names the schema file with a syntax error`(
+        @TempDir tempDir: Path,
+    ) {
+        (1..8).forEach { index ->
+            Files.writeString(tempDir.resolve("type$index.graphql"), "type Type$index { name: String }\n")
+        }
+        Files.writeString(tempDir.resolve("empty.graphql"), "# Nothing here yet\n")
+        Files.writeString(tempDir.resolve("broken.graphql"), "type Broken { name: String\n")
+
+        contextRunner.run { context ->
+            val problem =
+                assertThrows<SchemaProblem> {
+                    schemaProvider(context, schemaLocations = listOf("file:$tempDir/*.graphql")).schema()
+                }
+            assertThat(problem.errors).hasSize(1)
+            assertThat(problem.errors.single().locations.single().sourceName).isEqualTo("broken.graphql")
+        }
+    }
+
+    @Test
+    fun `Schema provider reports types defined in more than one schema file`(
+        @TempDir tempDir: Path,
+    ) {
+        Files.writeString(tempDir.resolve("foo.graphql"), "type Query { foo: Foo }\ntype Foo { name: String }\n")
+        Files.writeString(tempDir.resolve("bar.graphql"), "type Foo { title: String }\nextend type Query { bar: String }\n")
+
+        contextRunner.run { context ->
+            assertThrows<SchemaProblem> {
+                schemaProvider(context, schemaLocations = listOf("file:$tempDir/*.graphql")).schema()
+            }
+        }
+    }
+
     annotation class TestAnnotation
 
     @Test
@@ -18,6 +18,8 @@ package com.netflix.graphql.dgs
 
 import com.netflix.graphql.dgs.internal.DgsSchemaProvider
 import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import com.netflix.graphql.dgs.internal.method.SourceArgumentResolver
+import com.netflix.graphql.dgs.internal.method.TrivialDataFetcherDetector
 import graphql.TrivialDataFetcher
 import graphql.schema.GraphQLFieldDefinition
 import graphql.schema.GraphQLObjectType
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.Assertions.fail
 import org.junit.jupiter.api.Test
 import org.springframework.context.support.GenericApplicationContext
 import java.util.Optional
+import java.util.concurrent.CompletableFuture
 import java.util.function.Supplier
 
 class TrivialDataFetcherTest {
@@ -145,4 +148,110 @@ class TrivialDataFetcherTest {
         assertThat(fooFetcher).isInstanceOf(TrivialDataFetcher::class.java)
         assertThat(barFetcher).isNotInstanceOf(TrivialDataFetcher::class.java)
     }
+
+    @Test
+    fun `Simple getters are classified as TrivialDataFetcher when auto detection is enabled`() {
+        data class Foo(
+            val bar: String,
+        )
+
+        @DgsComponent
+        class Component {
+            @DgsQuery
+            fun foo(): Foo = Foo("bar")
+
+            @DgsData(parentType = "Foo")
+            fun bar(
+                @Source foo: Foo,
+            ): String = foo.bar
+
+            @DgsData(parentType = "Foo")
+            fun baz(
+                @InputArgument name: String?,
+            ): String? = name
+
+            @DgsData(parentType = "Foo")
+            fun qux(): CompletableFuture<String> = CompletableFuture.completedFuture("qux")
+        }
+
+        application.registerBean(Component::class.java, Supplier { Component() })
+        application.refresh()
+        val schema =
+            DgsSchemaProvider(
+                applicationContext = application,
+                federationResolver = Optional.empty(),
+                existingTypeDefinitionRegistry = Optional.empty(),
+                methodDataFetcherFactory =
+                    MethodDataFetcherFactory(
+                        argumentResolvers = listOf(SourceArgumentResolver()),
+                        trivialDataFetcherDetector = TrivialDataFetcherDetector(),
+                    ),
+            ).schema(
+                """
+                type Query {
+                  foo: Foo
+                }
+
+                type Foo {
+                  bar: String
+                  baz(name: String): String
+                  qux: String
+                }
+                """.trimIndent(),
+            ).graphQLSchema
+
+        val fooType = schema.getTypeAs<GraphQLObjectType>("Foo") ?: fail("Parent type not found")
+        val fetchers =
+            fooType.children
+                .filterIsInstance<GraphQLFieldDefinition>()
+                .associate { it.name to schema.codeRegistry.getDataFetcher(fooType, it) }
+        val fooDefinition = schema.queryType.getFieldDefinition("foo")
+
+        assertThat(schema.codeRegistry.getDataFetcher(schema.queryType, fooDefinition)).isInstanceOf(TrivialDataFetcher::class.java)
+        assertThat(fetchers["bar"]).isInstanceOf(TrivialDataFetcher::class.java)
+        assertThat(fetchers["baz"]).isNotInstanceOf(TrivialDataFetcher::class.java)
+        assertThat(fetchers["qux"]).isNotInstanceOf(TrivialDataFetcher::class.java)
+    }
+
+    @Test
+    fun `Data fetchers in allowlisted packages are classified as TrivialDataFetcher`() {
+        @DgsComponent
+        class Component {
+            @DgsQuery
+            fun foo(
+                @InputArgument name: String?,
+            ): String? = name
+
+            @DgsQuery
+            fun bar(): CompletableFuture<String> = CompletableFuture.completedFuture("bar")
+        }
+
+        application.registerBean(Component::class.java, Supplier { Component() })
+        application.refresh()
+        val schema =
+            DgsSchemaProvider(
+                applicationContext = application,
+                federationResolver = Optional.empty(),
+                existingTypeDefinitionRegistry = Optional.empty(),
+                methodDataFetcherFactory =
+                    MethodDataFetcherFactory(
+                        argumentResolvers = listOf(),
+                        trivialDataFetcherDetector =
+                            TrivialDataFetcherDetector(autoDetect = false, packages = listOf("com.netflix.graphql.dgs")),
+                    ),
+            ).schema(
+                """
+                type Query {
+                  foo(name: String): String
+                  bar: String
+                }
+                """.trimIndent(),
+            ).graphQLSchema
+
+        val fooDefinition = schema.queryType.getFieldDefinition("foo")
+        val barDefinition = schema.queryType.getFieldDefinition("bar")
+
+        assertThat(schema.codeRegistry.getDataFetcher(schema.queryType, fooDefinition)).isInstanceOf(TrivialDataFetcher::class.java)
+        assertThat(schema.codeRegistry.getDataFetcher(schema.queryType, barDefinition)).isNotInstanceOf(TrivialDataFetcher::class.java)
+    }
 }
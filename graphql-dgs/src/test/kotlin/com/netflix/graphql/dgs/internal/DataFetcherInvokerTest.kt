@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.InputArgument
+import com.netflix.graphql.dgs.internal.method.InputArgumentResolver
+import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import graphql.Scalars
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.FieldCoordinates
+import graphql.schema.GraphQLArgument
+import graphql.schema.GraphQLFieldDefinition
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+
+class DataFetcherInvokerTest {
+    private val coordinates = FieldCoordinates.coordinates("Query", "greet")
+
+    @Test
+    fun `Arguments are resolved through the argument plan on every invocation`() {
+        val factory = MethodDataFetcherFactory(listOf(InputArgumentResolver(DefaultInputObjectMapper())))
+        val dataFetcher = factory.createDataFetcher(Fetcher(), Fetcher::class.java.getMethod("greet", String::class.java), coordinates)
+
+        assertThat(dataFetcher.get(environment(mapOf("name" to "DGS")))).isEqualTo("Hello, DGS")
+        assertThat(dataFetcher.get(environment(mapOf("name" to "GraphQL")))).isEqualTo("Hello, GraphQL")
+    }
+
+    @Test
+    fun `Parameters without a suitable resolver fail when the data fetcher is invoked`() {
+        val factory = MethodDataFetcherFactory(emptyList())
+        val dataFetcher = factory.createDataFetcher(Fetcher(), Fetcher::class.java.getMethod("greet", String::class.java), coordinates)
+
+        assertThatThrownBy { dataFetcher.get(environment(mapOf("name" to "DGS"))) }
+            .isInstanceOf(IllegalStateException::class.java)
+            .hasMessageContaining("Could not resolve parameter [0]")
+            .hasMessageContaining("No suitable resolver")
+    }
+
+    @Test
+    fun `Omitted optional Kotlin parameters use their default values`() {
+        val factory = MethodDataFetcherFactory(listOf(InputArgumentResolver(DefaultInputObjectMapper())))
+        val method = Fetcher::class.java.getMethod("defaults", String::class.java, String::class.java, String::class.java)
+        val dataFetcher = factory.createDataFetcher(Fetcher(), method, coordinates)
+
+        assertThat(dataFetcher.get(environment(mapOf("greeting" to "Hi", "name" to "DGS", "suffix" to "?")))).isEqualTo("Hi, DGS?")
+        assertThat(dataFetcher.get(environment(mapOf("name" to "DGS", "suffix" to "?")))).isEqualTo("Hello, DGS?")
+        assertThat(dataFetcher.get(environment(mapOf("suffix" to "?")))).isEqualTo("Hello, default?")
+        assertThat(dataFetcher.get(environment(mapOf("greeting" to "Hi")))).isEqualTo("Hi, defaultnull")
+    }
+
+    @Test
+    fun `Kotlin functions with value class parameters are supported`() {
+        val factory = MethodDataFetcherFactory(listOf(InputArgumentResolver(DefaultInputObjectMapper())))
+        val method = Fetcher::class.java.methods.single { it.name.startsWith("valueClass") }
+        val dataFetcher = factory.createDataFetcher(Fetcher(), method, coordinates)
+
+        assertThat(dataFetcher.get(environment(mapOf("name" to Name("DGS"))))).isEqualTo("Hello, DGS")
+    }
+
+    @Test
+    fun `Argument values are converted when the source type changes between invocations`() {
+        val factory = MethodDataFetcherFactory(listOf(InputArgumentResolver(DefaultInputObjectMapper())))
+        val method = Fetcher::class.java.getMethod("double", Long::class.java)
+        val dataFetcher = factory.createDataFetcher(Fetcher(), method, coordinates)
+
+        assertThat(dataFetcher.get(environment(mapOf("number" to 21L)))).isEqualTo(42L)
+        assertThat(dataFetcher.get(environment(mapOf("number" to 21)))).isEqualTo(42L)
+        assertThat(dataFetcher.get(environment(mapOf("number" to "21")))).isEqualTo(42L)
+        assertThat(dataFetcher.get(environment(mapOf("number" to 21)))).isEqualTo(42L)
+    }
+
+    private fun environment(arguments: Map<String, Any?>): DataFetchingEnvironment =
+        DataFetchingEnvironmentImpl
+            .newDataFetchingEnvironment()
+            .arguments(arguments)
+            .fieldDefinition(
+                GraphQLFieldDefinition
+                    .newFieldDefinition()
+                    .name("greet")
+                    .argument(GraphQLArgument.newArgument().name("name").type(Scalars.GraphQLString))
+                    .type(Scalars.GraphQLString)
+                    .build(),
+            ).build()
+
+    class Fetcher {
+        fun greet(
+            @InputArgument name: String,
+        ): String = "Hello, $name"
+
+        fun defaults(
+            @InputArgument greeting: String = "Hello",
+            @InputArgument name: String = "default",
+            @InputArgument suffix: String? = "!",
+        ): String = "$greeting, $name$suffix"
+
+        fun double(
+            @InputArgument number: Long,
+        ): Long = number * 2
+
+        fun valueClass(
+            @InputArgument name: Name,
+        ): String = "Hello, ${name.value}"
+    }
+
+    @JvmInline
+    value class Name(
+        val value: String,
+    )
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.Test
+import java.io.IOException
+
+class DataFetcherMethodInvokerTest {
+    private val fetcher = Fetcher()
+
+    @Test
+    fun `Creates a method handle based invoker`() {
+        val invoker = DataFetcherMethodInvoker.create(fetcher, Fetcher::class.java.getDeclaredMethod("hello", String::class.java))
+        assertThat(invoker).isInstanceOf(MethodHandleInvoker::class.java)
+        assertThat(invoker.invoke(arrayOf("DGS"))).isEqualTo("Hello, DGS")
+    }
+
+    @Test
+    fun `Primitive arguments and return values are boxed`() {
+        val method = Fetcher::class.java.getDeclaredMethod("sum", Int::class.java, Long::class.java)
+        val invoker = DataFetcherMethodInvoker.create(fetcher, method)
+        assertThat(invoker.invoke(arrayOf(1, 2L))).isEqualTo(3L)
+    }
+
+    @Test
+    fun `Void methods return null`() {
+        val invoker = DataFetcherMethodInvoker.create(fetcher, Fetcher::class.java.getDeclaredMethod("noop"))
+        assertThat(invoker.invoke(arrayOf())).isNull()
+    }
+
+    @Test
+    fun `Private methods can be invoked`() {
+        val invoker = DataFetcherMethodInvoker.create(fetcher, Fetcher::class.java.getDeclaredMethod("secret"))
+        assertThat(invoker.invoke(arrayOf())).isEqualTo("secret")
+    }
+
+    @Test
+    fun `Exceptions are propagated without being wrapped`() {
+        val method = Fetcher::class.java.getDeclaredMethod("fail")
+        val invokers =
+            listOf(
+                DataFetcherMethodInvoker.create(fetcher, method),
+                ReflectiveInvoker(fetcher, method),
+            )
+
+        for (invoker in invokers) {
+            assertThatThrownBy { invoker.invoke(arrayOf()) }
+                .isInstanceOf(IOException::class.java)
+                .hasMessage("failed")
+        }
+    }
+
+    @Test
+    fun `Reflective invoker produces the same results`() {
+        val invoker = ReflectiveInvoker(fetcher, Fetcher::class.java.getDeclaredMethod("hello", String::class.java))
+        assertThat(invoker.invoke(arrayOf("DGS"))).isEqualTo("Hello, DGS")
+    }
+
+    class Fetcher {
+        fun hello(name: String): String = "Hello, $name"
+
+        fun sum(
+            a: Int,
+            b: Long,
+        ): Long = a + b
+
+        fun noop() {}
+
+        @Suppress("unused")
+        private fun secret(): String = "secret"
+
+        fun fail(): String = throw IOException("failed")
+    }
+}
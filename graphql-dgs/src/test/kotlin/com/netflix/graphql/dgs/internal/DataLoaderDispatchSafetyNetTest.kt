@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.GraphQLContext
+import org.assertj.core.api.Assertions.assertThat
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoaderFactory
+import org.dataloader.DataLoaderRegistry
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class DataLoaderDispatchSafetyNetTest {
+    private val executor = Executors.newSingleThreadScheduledExecutor()
+
+    @AfterEach
+    fun shutdown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun `Loads that are never dispatched are dispatched by the safety net`() {
+        val batches = CopyOnWriteArrayList<List<String>>()
+        val dataLoader =
+            DataLoaderFactory.newDataLoader(
+                "uppercase",
+                BatchLoader<String, String> { keys ->
+                    batches.add(keys)
+                    CompletableFuture.completedFuture(keys.map { it.uppercase() })
+                },
+            )
+        val registry = DataLoaderRegistry.newRegistry().register("uppercase", dataLoader).build()
+        DataLoaderDispatchSafetyNet(executor, Duration.ofMillis(5)).track(registry)
+
+        val first = dataLoader.load("a")
+        val second = dataLoader.load("b")
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("A")
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("B")
+        assertThat(batches).containsExactly(listOf("a", "b"))
+    }
+
+    @Test
+    fun `Loads dispatched before the next check are left alone`() {
+        val batches = CopyOnWriteArrayList<List<String>>()
+        val dataLoader =
+            DataLoaderFactory.newDataLoader(
+                "echo",
+                BatchLoader<String, String> { keys ->
+                    batches.add(keys)
+                    CompletableFuture.completedFuture(keys)
+                },
+            )
+        val registry = DataLoaderRegistry.newRegistry().register("echo", dataLoader).build()
+        DataLoaderDispatchSafetyNet(executor, Duration.ofMillis(50)).track(registry)
+
+        val load = dataLoader.load("a")
+        registry.dispatchAll()
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("a")
+        Thread.sleep(150)
+        assertThat(batches).containsExactly(listOf("a"))
+    }
+
+    @Test
+    fun `Registries are no longer checked once their execution is complete`() {
+        val batches = CopyOnWriteArrayList<List<String>>()
+        val dataLoader =
+            DataLoaderFactory.newDataLoader(
+                "echo",
+                BatchLoader<String, String> { keys ->
+                    batches.add(keys)
+                    CompletableFuture.completedFuture(keys)
+                },
+            )
+        val registry = DataLoaderRegistry.newRegistry().register("echo", dataLoader).build()
+        val graphQLContext = GraphQLContext.newContext().build()
+        DataLoaderDispatchSafetyNet(executor, Duration.ofMillis(5)).track(registry, graphQLContext)
+
+        DataLoaderDispatchSafetyNet.untrack(graphQLContext)
+        val load = dataLoader.load("a")
+
+        Thread.sleep(100)
+        assertThat(load).isNotDone()
+        assertThat(batches).isEmpty()
+    }
+}
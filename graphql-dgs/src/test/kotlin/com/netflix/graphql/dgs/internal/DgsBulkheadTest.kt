@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsQuery
+import com.netflix.graphql.dgs.exceptions.DgsBulkheadRejectedException
+import com.netflix.graphql.dgs.exceptions.InvalidDgsConfigurationException
+import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.FieldCoordinates
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class DgsBulkheadTest {
+    private val executorService = Executors.newCachedThreadPool()
+
+    @AfterEach
+    fun shutdown() {
+        executorService.shutdownNow()
+    }
+
+    @Test
+    fun `Tasks beyond the max concurrency are queued and run when a permit is released`() {
+        val bulkhead = DgsBulkhead("slow", executorService, maxConcurrency = 1, maxQueueSize = 1)
+        val release = CountDownLatch(1)
+        val started = CountDownLatch(1)
+
+        val first =
+            CompletableFuture.runAsync({
+                started.countDown()
+                release.await()
+            }, bulkhead)
+        val second = CompletableFuture.supplyAsync({ "second" }, bulkhead)
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue()
+        assertThat(bulkhead.activeCount).isEqualTo(1)
+        assertThat(bulkhead.queuedCount).isEqualTo(1)
+        assertThat(second).isNotDone()
+
+        release.countDown()
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second")
+        first.get(5, TimeUnit.SECONDS)
+        assertThat(bulkhead.queuedCount).isZero()
+        assertThat(bulkhead.rejectedCount).isZero()
+    }
+
+    @Test
+    fun `Tasks are rejected when the queue is full`() {
+        val bulkhead = DgsBulkhead("slow", executorService, maxConcurrency = 1, maxQueueSize = 0)
+        val release = CountDownLatch(1)
+        val first = CompletableFuture.runAsync({ release.await() }, bulkhead)
+
+        assertThatThrownBy { bulkhead.execute {} }
+            .isInstanceOf(DgsBulkheadRejectedException::class.java)
+            .hasMessageContaining("slow")
+        assertThat(bulkhead.rejectedCount).isEqualTo(1)
+
+        release.countDown()
+        first.get(5, TimeUnit.SECONDS)
+    }
+
+    @Test
+    fun `Queued tasks fail if the delegate refuses to start them`() {
+        val delegated = AtomicInteger()
+        val delegate =
+            Executor { task ->
+                if (delegated.getAndIncrement() > 0) {
+                    throw RejectedExecutionException("delegate is shut down")
+                }
+                executorService.execute(task)
+            }
+        val bulkhead = DgsBulkhead("slow", delegate, maxConcurrency = 1, maxQueueSize = 2)
+        val release = CountDownLatch(1)
+
+        val first = CompletableFuture.runAsync({ release.await() }, bulkhead)
+        val submitted = bulkhead.submit(Callable { "submitted" })
+        val wrapped = CompletableFutureWrapper(bulkhead).wrapInCompletableFuture { "wrapped" }
+        assertThat(bulkhead.queuedCount).isEqualTo(2)
+
+        release.countDown()
+        first.get(5, TimeUnit.SECONDS)
+        assertThatThrownBy { wrapped.get(5, TimeUnit.SECONDS) }
+            .hasCauseInstanceOf(RejectedExecutionException::class.java)
+        assertThat(submitted.isCancelled).isTrue()
+        assertThat(bulkhead.rejectedCount).isEqualTo(2)
+        assertThat(bulkhead.activeCount).isZero()
+        assertThat(bulkhead.queuedCount).isZero()
+    }
+
+    @Test
+    fun `Concurrency never exceeds the configured maximum`() {
+        val bulkhead = DgsBulkhead("slow", executorService, maxConcurrency = 3, maxQueueSize = 1000)
+        val running = AtomicInteger()
+        val maxRunning = AtomicInteger()
+
+        val futures =
+            (1..200).map {
+                CompletableFuture.runAsync({
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), ::maxOf)
+                    Thread.sleep(1)
+                    running.decrementAndGet()
+                }, bulkhead)
+            }
+        CompletableFuture.allOf(*futures.toTypedArray()).get(30, TimeUnit.SECONDS)
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3)
+        assertThat(bulkhead.queuedCount).isZero()
+    }
+
+    @Test
+    fun `Data fetchers are routed to the executor named on the annotation`() {
+        val bulkhead = DgsBulkhead("slow", executorService, maxConcurrency = 1, maxQueueSize = 10)
+        val factory =
+            MethodDataFetcherFactory(
+                argumentResolvers = emptyList(),
+                executorSelector = DefaultDgsExecutorSelector(listOf(bulkhead)),
+            )
+
+        val routed =
+            factory.createDataFetcher(Fetcher(), Fetcher::class.java.getMethod("slow"), FieldCoordinates.coordinates("Query", "slow"))
+        val result = routed.get(DataFetchingEnvironmentImpl.newDataFetchingEnvironment().build())
+        assertThat(result).isInstanceOf(CompletableFuture::class.java)
+        assertThat((result as CompletableFuture<*>).get(5, TimeUnit.SECONDS)).isNotEqualTo(Thread.currentThread().name)
+
+        val notRouted =
+            factory.createDataFetcher(Fetcher(), Fetcher::class.java.getMethod("fast"), FieldCoordinates.coordinates("Query", "fast"))
+        assertThat(notRouted.get(DataFetchingEnvironmentImpl.newDataFetchingEnvironment().build()))
+            .isEqualTo(Thread.currentThread().name)
+    }
+
+    @Test
+    fun `Unknown executor names fail when the data fetcher is created`() {
+        val factory =
+            MethodDataFetcherFactory(
+                argumentResolvers = emptyList(),
+                executorSelector = DefaultDgsExecutorSelector(emptyList()),
+            )
+
+        assertThatThrownBy {
+            factory.createDataFetcher(Fetcher(), Fetcher::class.java.getMethod("slow"), FieldCoordinates.coordinates("Query", "slow"))
+        }.isInstanceOf(InvalidDgsConfigurationException::class.java)
+            .hasMessageContaining("'slow'")
+    }
+
+    class Fetcher {
+        @DgsQuery(executor = "slow")
+        fun slow(): String = Thread.currentThread().name
+
+        @DgsQuery
+        fun fast(): String = Thread.currentThread().name
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.DgsComponent
+import com.netflix.graphql.dgs.DgsQuery
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.context.support.GenericApplicationContext
+import org.springframework.core.SpringProperties
+import java.net.URLClassLoader
+import java.nio.file.Files
+import java.nio.file.Path
+
+class DgsComponentIndexTest {
+    @Test
+    fun `Returns the indexed members of indexed classes only`() {
+        assertThat(DgsComponentIndex.annotatedMethods(IndexedDataFetcher::class.java))
+            .containsExactly(IndexedDataFetcher::class.java.getDeclaredMethod("shows"))
+        assertThat(DgsComponentIndex.annotatedMethods(IndexedComponent::class.java)).isEmpty()
+        assertThat(DgsComponentIndex.annotatedFields(IndexedComponent::class.java)).isEmpty()
+        assertThat(DgsComponentIndex.annotatedMethods(NotIndexedDataFetcher::class.java)).isNull()
+    }
+
+    @Test
+    fun `Scans classes that don't match the index`() {
+        assertThat(DgsComponentIndex.annotatedMethods(StaleDataFetcher::class.java)).isNull()
+        assertThat(DgsComponentIndex.annotatedFields(StaleDataFetcher::class.java)).isNull()
+    }
+
+    @Test
+    fun `Finds the same beans as the application context`() {
+        GenericApplicationContext().use { context ->
+            context.registerBean(IndexedDataFetcher::class.java)
+            context.registerBean(NotIndexedDataFetcher::class.java)
+            context.registerBean("notAComponent", StringBuilder::class.java)
+            context.refresh()
+
+            assertThat(DgsComponentIndex.beansWithAnnotation(context, DgsComponent::class.java))
+                .isEqualTo(context.getBeansWithAnnotation(DgsComponent::class.java))
+                .hasSize(2)
+        }
+    }
+
+    @Test
+    fun `The index can be ignored`() {
+        SpringProperties.setFlag(DgsComponentIndex.IGNORE_INDEX_PROPERTY)
+        try {
+            assertThat(DgsComponentIndex.annotatedMethods(IndexedDataFetcher::class.java)).isNull()
+        } finally {
+            SpringProperties.setProperty(DgsComponentIndex.IGNORE_INDEX_PROPERTY, null)
+        }
+    }
+
+    @Test
+    fun `Merges the indexes of all the jars`(
+        @TempDir tempDir: Path,
+    ) {
+        val first = writeIndex(tempDir.resolve("first"), "example.Shows=2/1;shows();loader\nexample.Reviews=1/0;reviews(int)\n")
+        val second =
+            writeIndex(tempDir.resolve("second"), "example.Shows=2/1;showById(java.lang.String)\nexample.Reviews=2/0;reviews(int)\n")
+
+        URLClassLoader(arrayOf(first.toUri().toURL(), second.toUri().toURL()), null).use { classLoader ->
+            val index = DgsComponentIndex.load(classLoader)
+            assertThat(index.types).containsOnlyKeys("example.Shows", "example.Reviews")
+            val shows = index.types.getValue("example.Shows")
+            assertThat(shows.methods).containsExactlyInAnyOrder("shows" to emptyList(), "showById" to listOf("java.lang.String"))
+            assertThat(shows.fields).containsExactly("loader")
+            // The two indexes disagree on the class, so it is scanned
+            assertThat(index.types.getValue("example.Reviews").methodCount).isEqualTo(-1)
+        }
+    }
+
+    private fun writeIndex(
+        root: Path,
+        content: String,
+    ): Path {
+        val indexFile = root.resolve(DgsComponentIndex.INDEX_LOCATION)
+        Files.createDirectories(indexFile.parent)
+        Files.writeString(indexFile, content)
+        return root
+    }
+
+    @DgsComponent
+    class IndexedDataFetcher {
+        @DgsQuery
+        fun shows(): List<String> = emptyList()
+    }
+
+    @DgsComponent
+    class IndexedComponent
+
+    @DgsComponent
+    class StaleDataFetcher {
+        @DgsQuery
+        fun shows(): List<String> = emptyList()
+
+        @DgsQuery
+        fun showById(id: String): String = id
+    }
+
+    @DgsComponent
+    class NotIndexedDataFetcher {
+        @DgsQuery
+        fun shows(): List<String> = emptyList()
+    }
+}
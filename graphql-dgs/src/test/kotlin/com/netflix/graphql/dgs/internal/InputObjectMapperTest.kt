@@ -262,6 +262,37 @@ internal class InputObjectMapperTest {
         assertThat(result.string).isEqualTo("default")
     }
 
+    @Test
+    fun `mapping to a Kotlin class with default arguments works for different combinations of specified arguments`() {
+        data class KotlinInputObjectWithPrimitiveDefaults(
+            val name: String,
+            val count: Int = 10,
+            val enabled: Boolean = true,
+            val description: String? = "none",
+        )
+
+        val inputs =
+            listOf(
+                mapOf("name" to "a") to KotlinInputObjectWithPrimitiveDefaults("a"),
+                mapOf("name" to "b", "count" to 1) to KotlinInputObjectWithPrimitiveDefaults("b", count = 1),
+                mapOf("name" to "c", "enabled" to false) to KotlinInputObjectWithPrimitiveDefaults("c", enabled = false),
+                mapOf("name" to "d", "description" to null) to KotlinInputObjectWithPrimitiveDefaults("d", description = null),
+                mapOf("name" to "e", "count" to 2, "enabled" to false, "description" to "e") to
+                    KotlinInputObjectWithPrimitiveDefaults("e", 2, false, "e"),
+            )
+
+        for ((input, expected) in inputs) {
+            assertThat(inputObjectMapper.mapToKotlinObject(input, KotlinInputObjectWithPrimitiveDefaults::class)).isEqualTo(expected)
+        }
+    }
+
+    @Test
+    fun `mapping to a Kotlin class fails when a required argument is missing`() {
+        assertThatThrownBy { inputObjectMapper.mapToKotlinObject(mapOf("simpleString" to "hello"), KotlinInputObject::class) }
+            .isInstanceOf(DgsInvalidInputArgumentException::class.java)
+            .hasMessageContaining("No value specified for required parameter someDate")
+    }
+
     @Test
     fun `mapping to an object with a Kotlin class works when there is a field with an enum type`() {
         val result = inputObjectMapper.mapToKotlinObject(mapOf("name" to "the-name", "type" to "BAR"), KotlinObjectWithEnumField::class)
@@ -181,6 +181,60 @@ class ReloadableDgsDataLoaderProviderTest {
         }
     }
 
+    @Test
+    fun `should keep serving the current generation while a reload is built in the background`() {
+        primaryAppContextRunner().run { context ->
+            val pendingReloads = mutableListOf<Runnable>()
+            val provider =
+                ReloadableDgsDataLoaderProvider(
+                    applicationContext = context,
+                    scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(),
+                    reloadExecutor = { pendingReloads.add(it) },
+                )
+            assertThat(provider.getGeneration()).isEqualTo(0)
+            val inFlightRegistry = assertRegistry(provider.buildRegistry())
+            assertThat(provider.getGeneration()).isEqualTo(1)
+            assertThat(provider.getLastReloadDuration()).isNotNull
+
+            val reload = provider.reloadAsync(createSecondaryAppContex(context))
+            assertThat(reload).isNotDone
+            // Requests are not blocked by the pending reload, and keep using the current generation.
+            assertRegistry(provider.buildRegistry())
+            assertThat(provider.getGeneration()).isEqualTo(1)
+
+            pendingReloads.forEach { it.run() }
+            assertThat(reload.join()).isTrue
+            assertThat(provider.getGeneration()).isEqualTo(2)
+            assertRegistry(provider.buildRegistry(), "testLoaderV2", "testLoaderWithContextV2")
+            // Registries built before the swap keep their data loaders.
+            assertThat(inFlightRegistry.getDataLoader<String, String>("testLoader")).isNotNull
+        }
+    }
+
+    @Test
+    fun `should publish the most recently requested reload when reloads overlap`() {
+        primaryAppContextRunner().run { context ->
+            val pendingReloads = mutableListOf<Runnable>()
+            val provider =
+                ReloadableDgsDataLoaderProvider(
+                    applicationContext = context,
+                    scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(),
+                    reloadExecutor = { pendingReloads.add(it) },
+                )
+            assertRegistry(provider.buildRegistry())
+
+            val first = provider.reloadAsync()
+            val second = provider.reloadAsync(createSecondaryAppContex(context))
+            // The second reload finishes first, the first one must not replace it.
+            pendingReloads.reversed().forEach { it.run() }
+
+            assertThat(first.join()).isTrue
+            assertThat(second.join()).isTrue
+            assertThat(provider.getGeneration()).isEqualTo(2)
+            assertRegistry(provider.buildRegistry(), "testLoaderV2", "testLoaderWithContextV2")
+        }
+    }
+
     fun primaryAppContextRunner(): ApplicationContextRunner = applicationContextRunner.withBean(TestDataLoader::class.java)
 
     fun createSecondaryAppContex(parent: ApplicationContext): ApplicationContext {
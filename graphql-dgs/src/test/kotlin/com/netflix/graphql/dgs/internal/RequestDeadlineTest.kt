@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import com.netflix.graphql.dgs.context.DgsContext
+import com.netflix.graphql.dgs.exceptions.DgsDeadlineExceededException
+import com.netflix.graphql.dgs.internal.method.MethodDataFetcherFactory
+import graphql.GraphQLContext
+import graphql.schema.DataFetchingEnvironment
+import graphql.schema.DataFetchingEnvironmentImpl
+import graphql.schema.FieldCoordinates
+import kotlinx.coroutines.awaitCancellation
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.dataloader.BatchLoaderEnvironment
+import org.dataloader.BatchLoaderWithContext
+import org.junit.jupiter.api.Test
+import org.springframework.core.task.SimpleAsyncTaskExecutor
+import org.springframework.http.HttpHeaders
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicBoolean
+
+class RequestDeadlineTest {
+    @Test
+    fun `Data fetchers fail without being invoked once the deadline has passed`() {
+        val fetcher = Fetcher()
+        val dataFetcher =
+            MethodDataFetcherFactory(
+                emptyList(),
+            ).createDataFetcher(fetcher, Fetcher::class.java.getMethod("hello"), coordinates)
+
+        assertThatThrownBy { dataFetcher.get(environment(Instant.now().minusSeconds(1))) }
+            .isInstanceOf(DgsDeadlineExceededException::class.java)
+        assertThat(fetcher.invoked.get()).isFalse()
+
+        assertThat(dataFetcher.get(environment(Instant.now().plusSeconds(60)))).isEqualTo("hello")
+        assertThat(dataFetcher.get(environment(null))).isEqualTo("hello")
+    }
+
+    @Test
+    fun `Data fetchers running on the task executor are interrupted when the deadline passes`() {
+        val fetcher = Fetcher()
+        val dataFetcher =
+            MethodDataFetcherFactory(emptyList(), asyncTaskExecutor = SimpleAsyncTaskExecutor())
+                .createDataFetcher(fetcher, Fetcher::class.java.getMethod("slow"), coordinates)
+
+        val result = dataFetcher.get(environment(Instant.now().plusMillis(100))) as CompletableFuture<*>
+
+        assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(DgsDeadlineExceededException::class.java)
+        assertThat(fetcher.interrupted.await(5, TimeUnit.SECONDS)).isTrue()
+    }
+
+    @Test
+    fun `Suspend data fetchers are cancelled when the deadline passes`() {
+        val fetcher = Fetcher()
+        val dataFetcher =
+            MethodDataFetcherFactory(emptyList())
+                .createDataFetcher(fetcher, Fetcher::class.java.methods.single { it.name == "suspending" }, coordinates)
+
+        val result = dataFetcher.get(environment(Instant.now().plusMillis(100))) as CompletableFuture<*>
+
+        assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(DgsDeadlineExceededException::class.java)
+        assertThat(fetcher.cancelled.await(5, TimeUnit.SECONDS)).isTrue()
+    }
+
+    @Test
+    fun `Batch loads fail without calling the batch loader once the deadline has passed`() {
+        val called = AtomicBoolean()
+        val loader =
+            DgsDeadlineDataLoaderCustomizer().provide(
+                BatchLoaderWithContext<String, String> { keys, _ ->
+                    called.set(true)
+                    CompletableFuture.completedFuture(keys)
+                },
+                "names",
+            ) as BatchLoaderWithContext<String, String>
+
+        val expired = loader.load(listOf("a"), batchEnvironment(Instant.now().minusSeconds(1))).toCompletableFuture()
+        assertThatThrownBy { expired.get(5, TimeUnit.SECONDS) }
+            .hasCauseInstanceOf(DgsDeadlineExceededException::class.java)
+            .hasMessageContaining("names")
+        assertThat(called.get()).isFalse()
+
+        val loaded = loader.load(listOf("a"), batchEnvironment(Instant.now().plusSeconds(60)))
+        assertThat(loaded.toCompletableFuture().get(5, TimeUnit.SECONDS)).containsExactly("a")
+    }
+
+    @Test
+    fun `Batch loads that are still running when the deadline passes are cancelled`() {
+        val pending = CompletableFuture<List<String>>()
+        val loader =
+            DgsDeadlineDataLoaderCustomizer().provide(
+                BatchLoaderWithContext<String, String> { _, _ -> pending },
+                "names",
+            ) as BatchLoaderWithContext<String, String>
+
+        val result: CompletionStage<List<String>> = loader.load(listOf("a"), batchEnvironment(Instant.now().plusMillis(100)))
+
+        assertThatThrownBy { result.toCompletableFuture().get(5, TimeUnit.SECONDS) }
+            .hasCauseInstanceOf(DgsDeadlineExceededException::class.java)
+        assertThat(pending).isCancelled()
+    }
+
+    @Test
+    fun `Deadline is resolved from the header or the default timeout`() {
+        val resolver = DgsRequestDeadlineResolver(defaultTimeout = Duration.ofSeconds(10))
+        val before = Instant.now()
+
+        val fromMillis = resolver.resolve(HttpHeaders().apply { add(DgsRequestDeadlineResolver.DEFAULT_HEADER_NAME, "1500") })
+        assertThat(fromMillis).isBetween(before.plusMillis(1500), Instant.now().plusMillis(1500))
+
+        val fromDuration = resolver.resolve(HttpHeaders().apply { add(DgsRequestDeadlineResolver.DEFAULT_HEADER_NAME, "PT2S") })
+        assertThat(fromDuration).isBetween(before.plusSeconds(2), Instant.now().plusSeconds(2))
+
+        val fromDefault = resolver.resolve(HttpHeaders().apply { add(DgsRequestDeadlineResolver.DEFAULT_HEADER_NAME, "invalid") })
+        assertThat(fromDefault).isBetween(before.plusSeconds(10), Instant.now().plusSeconds(10))
+
+        assertThat(DgsRequestDeadlineResolver().resolve(HttpHeaders())).isNull()
+    }
+
+    @Test
+    fun `Deadline header values are validated and capped`() {
+        val header = DgsRequestDeadlineResolver.DEFAULT_HEADER_NAME
+        val resolver = DgsRequestDeadlineResolver(defaultTimeout = Duration.ofSeconds(10), maxTimeout = Duration.ofSeconds(30))
+        val before = Instant.now()
+
+        for (value in listOf("0", "-1000", "PT-1S", "soon")) {
+            assertThat(resolver.resolve(HttpHeaders().apply { add(header, value) }))
+                .describedAs(value)
+                .isBetween(before.plusSeconds(10), Instant.now().plusSeconds(10))
+        }
+
+        val capped = resolver.resolve(HttpHeaders().apply { add(header, Long.MAX_VALUE.toString()) })
+        assertThat(capped).isBetween(before.plusSeconds(30), Instant.now().plusSeconds(30))
+
+        val cappedAtDefault =
+            DgsRequestDeadlineResolver(defaultTimeout = Duration.ofSeconds(10)).resolve(HttpHeaders().apply { add(header, "PT1H") })
+        assertThat(cappedAtDefault).isBetween(before.plusSeconds(10), Instant.now().plusSeconds(10))
+
+        assertThat(DgsRequestDeadlineResolver().resolve(HttpHeaders().apply { add(header, "PT${Long.MAX_VALUE}S") })).isNull()
+    }
+
+    @Test
+    fun `Deadlines far in the future don't overflow the timeout`() {
+        val future = CompletableFuture<String>()
+        val result = RequestDeadlines.withDeadline(future, Instant.MAX, "exceeded") {}
+
+        future.complete("done")
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("done")
+    }
+
+    @Test
+    fun `Timeouts of the future itself aren't reported as an exceeded deadline`() {
+        val expired = AtomicBoolean()
+        val future = CompletableFuture<String>()
+        val result = RequestDeadlines.withDeadline(future, Instant.now().plusSeconds(60), "exceeded") { expired.set(true) }
+
+        future.completeExceptionally(TimeoutException("upstream"))
+        assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(TimeoutException::class.java)
+            .rootCause()
+            .hasMessage("upstream")
+        assertThat(expired.get()).isFalse()
+    }
+
+    @Test
+    fun `Futures that outlive the deadline fail with an exceeded deadline`() {
+        val expired = AtomicBoolean()
+        val future = CompletableFuture<String>()
+        val result = RequestDeadlines.withDeadline(future, Instant.now().plusMillis(50), "exceeded") { expired.set(true) }
+
+        assertThatThrownBy { result.get(5, TimeUnit.SECONDS) }
+            .isInstanceOf(ExecutionException::class.java)
+            .hasCauseInstanceOf(DgsDeadlineExceededException::class.java)
+        assertThat(expired.get()).isTrue()
+        assertThat(future).isNotDone()
+    }
+
+    private val coordinates = FieldCoordinates.coordinates("Query", "hello")
+
+    private fun graphQLContext(deadline: Instant?): GraphQLContext =
+        GraphQLContext
+            .newContext()
+            .also { DgsContext(null, null, deadline).accept(it) }
+            .build()
+
+    private fun environment(deadline: Instant?): DataFetchingEnvironment =
+        DataFetchingEnvironmentImpl
+            .newDataFetchingEnvironment()
+            .graphQLContext(graphQLContext(deadline))
+            .build()
+
+    private fun batchEnvironment(deadline: Instant?): BatchLoaderEnvironment =
+        BatchLoaderEnvironment
+            .newBatchLoaderEnvironment()
+            .context(graphQLContext(deadline))
+            .build()
+
+    class Fetcher {
+        val invoked = AtomicBoolean()
+        val interrupted = CountDownLatch(1)
+        val cancelled = CountDownLatch(1)
+
+        fun hello(): String {
+            invoked.set(true)
+            return "hello"
+        }
+
+        fun slow(): String {
+            try {
+                Thread.sleep(10_000)
+            } catch (exc: InterruptedException) {
+                interrupted.countDown()
+            }
+            return "slow"
+        }
+
+        suspend fun suspending(): String {
+            try {
+                awaitCancellation()
+            } finally {
+                cancelled.countDown()
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import graphql.language.AstPrinter
+import graphql.language.Definition
+import graphql.language.Document
+import graphql.language.ObjectTypeDefinition
+import graphql.parser.MultiSourceReader
+import graphql.parser.Parser
+import graphql.parser.ParserEnvironment
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.core.io.ByteArrayResource
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.PosixFilePermissions
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.writeText
+
+class SchemaSnapshotTest {
+    @TempDir
+    lateinit var snapshotDirectory: Path
+
+    private val schemaFiles =
+        listOf(
+            "shows.graphqls" to "type Query { shows(titleFilter: String = \"\"): [Show] }\ntype Show { id: ID! @deprecated }",
+            "reviews.graphqls" to "\"The score of a show\"\ntype Review { starScore: Float }\nextend type Show { reviews: [Review] }",
+        )
+
+    @Test
+    fun `Loads the snapshot instead of parsing unchanged schema files`() {
+        var parses = 0
+        val countingParse = {
+            parses++
+            parse(schemaFiles)
+        }
+
+        val parsed = SchemaSnapshot(snapshotDirectory).definitions(schemaFiles, countingParse)
+        val loaded = SchemaSnapshot(snapshotDirectory).definitions(schemaFiles, countingParse)
+
+        assertThat(parses).isEqualTo(1)
+        assertThat(snapshotDirectory.listDirectoryEntries("schema-*.ser")).hasSize(1)
+        assertThat(print(loaded)).isEqualTo(print(parsed))
+        assertThat((loaded.first() as ObjectTypeDefinition).sourceLocation.sourceName).isEqualTo("shows.graphqls")
+    }
+
+    @Test
+    fun `Parses the schema files again when they change`() {
+        var parses = 0
+        val changed = schemaFiles + ("ratings.graphqls" to "type Rating { value: Int }")
+
+        SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles).also { parses++ } }
+        val definitions = SchemaSnapshot(snapshotDirectory).definitions(changed) { parse(changed).also { parses++ } }
+
+        assertThat(parses).isEqualTo(2)
+        assertThat(definitions.filterIsInstance<ObjectTypeDefinition>().map { it.name }).contains("Rating")
+    }
+
+    @Test
+    fun `Parses the schema files when the snapshot can't be read`() {
+        SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles) }
+        snapshotDirectory.listDirectoryEntries("schema-*.ser").single().writeText("not a snapshot")
+
+        var parses = 0
+        val definitions = SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles).also { parses++ } }
+
+        assertThat(parses).isEqualTo(1)
+        assertThat(definitions).hasSize(4)
+        val snapshotFile = snapshotDirectory.listDirectoryEntries("schema-*.ser").single()
+        assertThat(Files.readAllBytes(snapshotFile)).isNotEqualTo("not a snapshot".toByteArray())
+    }
+
+    @Test
+    fun `Ignores snapshots that other users can write`() {
+        assumeTrue(snapshotDirectory.fileSystem.supportedFileAttributeViews().contains("posix"))
+        SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles) }
+        val snapshotFile = snapshotDirectory.listDirectoryEntries("schema-*.ser").single()
+        Files.setPosixFilePermissions(snapshotFile, PosixFilePermissions.fromString("rw-rw-rw-"))
+
+        var parses = 0
+        SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles).also { parses++ } }
+        assertThat(parses).isEqualTo(1)
+
+        Files.setPosixFilePermissions(snapshotFile, PosixFilePermissions.fromString("rw-------"))
+        Files.setPosixFilePermissions(snapshotDirectory, PosixFilePermissions.fromString("rwxrwxrwx"))
+        SchemaSnapshot(snapshotDirectory).definitions(schemaFiles) { parse(schemaFiles).also { parses++ } }
+        assertThat(parses).isEqualTo(2)
+    }
+
+    @Test
+    fun `Creates the snapshot directory accessible to its owner only`() {
+        assumeTrue(snapshotDirectory.fileSystem.supportedFileAttributeViews().contains("posix"))
+        val directory = snapshotDirectory.resolve("snapshots")
+
+        SchemaSnapshot(directory).definitions(schemaFiles) { parse(schemaFiles) }
+
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(directory))).isEqualTo("rwx------")
+        assertThat(directory.listDirectoryEntries("schema-*.ser")).hasSize(1)
+    }
+
+    @Test
+    fun `Builds the same registry from a snapshot`() {
+        val resources =
+            schemaFiles.map { (filename, content) ->
+                object : ByteArrayResource(content.toByteArray()) {
+                    override fun getFilename(): String = filename
+                }
+            }
+
+        val parsed = SchemaFileParser.parse(resources, snapshotDirectory = snapshotDirectory)
+        val loaded = SchemaFileParser.parse(resources, snapshotDirectory = snapshotDirectory)
+
+        assertThat(loaded.types().keys).isEqualTo(parsed.types().keys)
+        assertThat(loaded.objectTypeExtensions().keys).containsExactly("Show")
+        assertThat(loaded.schemaDefinition()).isEqualTo(parsed.schemaDefinition())
+    }
+
+    private fun parse(schemaFiles: List<Pair<String?, String>>): List<Definition<*>> =
+        schemaFiles.flatMap { (filename, content) ->
+            Parser.parse(
+                ParserEnvironment
+                    .newParserEnvironment()
+                    .document(
+                        MultiSourceReader
+                            .newMultiSourceReader()
+                            .reader(content.reader(), filename)
+                            .build(),
+                    ).build(),
+            ).definitions
+        }
+
+    private fun print(definitions: List<Definition<*>>): String =
+        AstPrinter.printAst(Document.newDocument().definitions(definitions).build())
+}
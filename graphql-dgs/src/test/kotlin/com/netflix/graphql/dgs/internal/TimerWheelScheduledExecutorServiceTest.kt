@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.graphql.dgs.internal
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.dataloader.BatchLoader
+import org.dataloader.DataLoaderFactory
+import org.dataloader.registries.DispatchPredicate
+import org.dataloader.registries.ScheduledDataLoaderRegistry
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
+
+class TimerWheelScheduledExecutorServiceTest {
+    private val executor = TimerWheelScheduledExecutorService(shardCount = 2, wheelSize = 8)
+
+    @AfterEach
+    fun shutdown() {
+        executor.shutdownNow()
+    }
+
+    @Test
+    fun `Tasks run once their delay has passed`() {
+        val start = System.nanoTime()
+        val future = executor.schedule({ System.nanoTime() - start }, 20, TimeUnit.MILLISECONDS)
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20))
+        assertThat(executor.shards.sumOf { it.executedCount }).isEqualTo(1)
+        assertThat(executor.shards.sumOf { it.queueDepth }).isZero()
+    }
+
+    @Test
+    fun `Tasks with a delay beyond one rotation of the wheel wait for the remaining rounds`() {
+        // 8 buckets of 1ms each, so a 30ms delay needs several rotations.
+        val start = System.nanoTime()
+        val future = executor.schedule({ System.nanoTime() - start }, 30, TimeUnit.MILLISECONDS)
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30))
+    }
+
+    @Test
+    fun `Cancelled tasks don't run`() {
+        val latch = CountDownLatch(1)
+        val cancelled = executor.schedule({ latch.countDown() }, 10, TimeUnit.MILLISECONDS)
+        cancelled.cancel(false)
+
+        executor.schedule({}, 30, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)
+        assertThat(latch.count).isEqualTo(1)
+        assertThat(executor.shards.sumOf { it.queueDepth }).isZero()
+    }
+
+    @Test
+    fun `Fixed rate tasks are rescheduled until cancelled`() {
+        val latch = CountDownLatch(3)
+        val future = executor.scheduleAtFixedRate({ latch.countDown() }, 0, 5, TimeUnit.MILLISECONDS)
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue()
+        future.cancel(false)
+        assertThat(future.isCancelled).isTrue()
+    }
+
+    @Test
+    fun `Tasks are rejected after shutdown`() {
+        executor.shutdown()
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue()
+        assertThat(executor.isTerminated).isTrue()
+        assertThatThrownBy { executor.schedule({}, 1, TimeUnit.MILLISECONDS) }
+            .isInstanceOf(RejectedExecutionException::class.java)
+    }
+
+    @Test
+    fun `Ticker mode registries dispatch on the timer wheel`() {
+        val registry =
+            ScheduledDataLoaderRegistry
+                .newScheduledRegistry()
+                .scheduledExecutorService(executor)
+                .tickerMode(true)
+                .schedule(Duration.ofMillis(5))
+                .dispatchPredicate(DispatchPredicate.DISPATCH_NEVER)
+                .build()
+        val dataLoader =
+            DataLoaderFactory.newDataLoader(BatchLoader<String, String> { keys -> CompletableFuture.completedFuture(keys) })
+        registry.register("echo", dataLoader, DispatchPredicate.DISPATCH_ALWAYS)
+
+        val result = dataLoader.load("hello")
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hello")
+        registry.close()
+    }
+}
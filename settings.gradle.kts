@@ -41,6 +41,7 @@ include("graphql-dgs-extended-validation")
 include("graphql-dgs-reactive")
 include("graphql-dgs-example-shared")
 include("graphql-dgs-pagination")
+include("graphql-dgs-index-processor")
 include("graphql-dgs-subscription-types")
 include("graphql-dgs-spring-graphql")
 include("graphql-dgs-spring-graphql-test")